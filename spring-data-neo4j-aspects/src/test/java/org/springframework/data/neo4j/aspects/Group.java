@@ -25,6 +25,7 @@ import org.neo4j.graphdb.traversal.TraversalDescription;
 import org.neo4j.kernel.Traversal;
 import org.neo4j.kernel.impl.traversal.TraversalDescriptionImpl;
 import org.springframework.data.neo4j.annotation.*;
+import org.springframework.data.neo4j.core.EntityIndependentTraversalDescriptionBuilder;
 import org.springframework.data.neo4j.core.FieldTraversalDescriptionBuilder;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.index.IndexType;
@@ -48,9 +49,15 @@ public class Group {
     @GraphTraversal(traversal = PeopleTraversalBuilder.class, elementClass = Person.class, params = "persons")
     private Iterable<Person> people;
 
+    @GraphTraversal(traversal = PeopleTraversalBuilder.class, elementClass = Person.class, params = "persons", cacheResults = true)
+    private Iterable<Person> cachedPeople;
+
     @GraphTraversal(traversal = PeopleTraversalBuilder.class, params = "persons")
     private Iterable<Node> peopleNodes;
 
+    @GraphTraversal(traversal = SharedPeopleTraversalBuilder.class, elementClass = Person.class, params = "persons")
+    private Iterable<Person> peopleBySharedTraversal;
+
     @GraphTraversal(traversal = PeopleTraversalBuilder.class, params = "persons")
     private Iterable<Relationship> peopleRelationships;
 
@@ -145,6 +152,14 @@ public class Group {
         return people;
     }
 
+    public Iterable<Person> getCachedPeople() {
+        return cachedPeople;
+    }
+
+    public Iterable<Person> getPeopleBySharedTraversal() {
+        return peopleBySharedTraversal;
+    }
+
     public void setOtherName(String otherName) {
         this.otherName = otherName;
     }
@@ -190,6 +205,15 @@ public class Group {
         }
     }
 
+    private static class SharedPeopleTraversalBuilder implements EntityIndependentTraversalDescriptionBuilder {
+        @Override
+        public TraversalDescription build(Object start, Neo4jPersistentProperty property, String...params) {
+            return new TraversalDescriptionImpl()
+                    .relationships(DynamicRelationshipType.withName(params[0]))
+                    .evaluator(Evaluators.excludeStartPosition());
+        }
+    }
+
     public String getUnindexedName() {
         return unindexedName;
     }
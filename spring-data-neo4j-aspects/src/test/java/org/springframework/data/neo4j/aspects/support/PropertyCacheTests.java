@@ -0,0 +1,72 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.aspects.support;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.aspects.Person;
+import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.data.neo4j.aspects.Person.persistedPerson;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = {"classpath:org/springframework/data/neo4j/aspects/support/Neo4jGraphPersistenceTests-context.xml"})
+public class PropertyCacheTests extends EntityTestBase {
+
+    @Autowired
+    private NodeEntityStateFactory nodeEntityStateFactory;
+
+    @Before
+    public void enablePropertyCache() {
+        nodeEntityStateFactory.setCachePropertyValues(true);
+    }
+
+    @After
+    public void disablePropertyCache() {
+        nodeEntityStateFactory.setCachePropertyValues(false);
+    }
+
+    @Test
+    @Transactional
+    public void testPropertyReadsAreCachedWithinTransaction() {
+        Person p = persistedPerson("Michael", 35);
+        assertEquals("Michael", p.getName());
+        neo4jTemplate.getNode(p.getId()).setProperty("name", "Emil");
+        assertEquals("Should have read cached value.", "Michael", p.getName());
+    }
+
+    @Test
+    @Transactional
+    public void testPropertyWriteInvalidatesCachedValue() {
+        Person p = persistedPerson("Michael", 35);
+        assertEquals(35, p.getAge());
+        p.setAge(36);
+        assertEquals(36, p.getAge());
+        assertEquals(36, getNodeState(p).getProperty("age"));
+    }
+}
@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.aspects.support;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.NotFoundException;
 import org.springframework.data.neo4j.aspects.Friendship;
 import org.springframework.data.neo4j.aspects.Group;
@@ -31,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.Date;
 
 import static org.junit.Assert.assertEquals;
+import static org.neo4j.helpers.collection.MapUtil.map;
 import static org.springframework.data.neo4j.aspects.Person.persistedPerson;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -132,6 +134,24 @@ public class PropertyTests extends EntityTestBase {
         assertEquals("Should not have read transient value from graph.", "Menlo Park", f.getLatestLocation());
     }
 
+    @Test
+    @Transactional
+    public void testPropertyChangedThroughNodeIsVisibleWithinTransaction() {
+        Person p = persistedPerson("Michael", 35);
+        assertEquals("Michael", p.getName());
+        neo4jTemplate.getNode(p.getId()).setProperty("name", "Emil");
+        assertEquals("Should have read changed value.", "Emil", p.getName());
+    }
+
+    @Test
+    @Transactional
+    public void testPropertyChangedThroughCypherIsVisibleWithinTransaction() {
+        Person p = persistedPerson("Michael", 35);
+        assertEquals(35, p.getAge());
+        neo4jTemplate.query("start n=node({id}) set n.age = {age} return n", map("id", p.getId(), "age", 36)).to(Node.class).single();
+        assertEquals("Should have read changed value.", 36, p.getAge());
+    }
+
     @Test
     @Transactional
     public void testEntityIdField() {
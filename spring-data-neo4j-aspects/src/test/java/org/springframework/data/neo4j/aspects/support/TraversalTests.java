@@ -85,6 +85,33 @@ public class TraversalTests extends EntityTestBase {
         group.addPerson(p);
         assertEquals(Collections.singletonList(p),IteratorUtil.asCollection(group.getPeople()));
     }
+    @Test
+    @Transactional
+    public void testCachedTraverseFieldKeepsResultWithinTransaction() {
+        Person p = persistedPerson("Michael", 35);
+        Group group = persist(new Group());
+        group.addPerson(p);
+        assertEquals(Collections.singletonList(p), IteratorUtil.asCollection(group.getCachedPeople()));
+        group.addPerson(persistedPerson("David", 25));
+        assertEquals(Collections.singletonList(p), IteratorUtil.asCollection(group.getCachedPeople()));
+        assertEquals(2, IteratorUtil.count(group.getPeople()));
+    }
+
+    @Test
+    @Transactional
+    public void testEntityIndependentTraverseFieldStartsAtEachEntity() {
+        Person michael = persistedPerson("Michael", 35);
+        Person david = persistedPerson("David", 25);
+        Group group = persist(new Group());
+        group.addPerson(michael);
+        Group otherGroup = persist(new Group());
+        otherGroup.addPerson(david);
+        assertEquals(Collections.singletonList(michael), IteratorUtil.asCollection(group.getPeopleBySharedTraversal()));
+        assertEquals(Collections.singletonList(david), IteratorUtil.asCollection(otherGroup.getPeopleBySharedTraversal()));
+        otherGroup.addPerson(michael);
+        assertEquals(2, IteratorUtil.count(otherGroup.getPeopleBySharedTraversal()));
+    }
+
     @Test
     @Transactional
     public void testTraverseFieldFromGroupToPeopleNodes() {
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.aspects.support;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.aspects.Friendship;
+import org.springframework.data.neo4j.aspects.Person;
+import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
+import org.springframework.data.neo4j.support.relationship.RelationshipEntityStateFactory;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.data.neo4j.aspects.Person.persistedPerson;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = {"classpath:org/springframework/data/neo4j/aspects/support/Neo4jGraphPersistenceTests-context.xml"})
+public class WriteBehindTests extends EntityTestBase {
+
+    @Autowired
+    private NodeEntityStateFactory nodeEntityStateFactory;
+    @Autowired
+    private RelationshipEntityStateFactory relationshipEntityStateFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Before
+    public void enableWriteBehind() {
+        nodeEntityStateFactory.setWriteBehind(true);
+        relationshipEntityStateFactory.setWriteBehind(true);
+    }
+
+    @After
+    public void disableWriteBehind() {
+        nodeEntityStateFactory.setWriteBehind(false);
+        relationshipEntityStateFactory.setWriteBehind(false);
+    }
+
+    @Test
+    @Transactional
+    public void testFieldWritesAreBufferedUntilPersist() {
+        Person p = persistedPerson("Michael", 35);
+        p.setAge(36);
+        p.setAge(37);
+        assertEquals(37, p.getAge());
+        assertEquals(35, getNodeState(p).getProperty("age"));
+        p.persist();
+        assertEquals(37, getNodeState(p).getProperty("age"));
+    }
+
+    @Test
+    public void testBufferedWritesAreFlushedOnCommit() {
+        final TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        final Person p = tx.execute(new TransactionCallback<Person>() {
+            public Person doInTransaction(TransactionStatus status) {
+                return persistedPerson("Michael", 35);
+            }
+        });
+        tx.execute(new TransactionCallbackWithoutResult() {
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                p.setAge(36);
+                p.setName("Michael Hunger");
+                assertEquals(35, getNodeState(p).getProperty("age"));
+            }
+        });
+        final Person loaded = personRepository.findOne(p.getId());
+        assertEquals(36, loaded.getAge());
+        assertEquals("Michael Hunger", loaded.getName());
+    }
+
+    @Test
+    public void testBufferedWritesOfLoadedRelationshipEntitiesAreFlushedOnCommit() {
+        final TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        final Long friendshipId = tx.execute(new TransactionCallback<Long>() {
+            public Long doInTransaction(TransactionStatus status) {
+                final Friendship friendship = persistedPerson("Michael", 35).knows(persistedPerson("David", 25));
+                friendship.setYears(1);
+                return getRelationshipId(friendship);
+            }
+        });
+        tx.execute(new TransactionCallbackWithoutResult() {
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                final Friendship loaded = friendshipRepository.findOne(friendshipId);
+                loaded.setYears(2);
+                loaded.setYears(3);
+                assertEquals(3, loaded.getYears());
+                assertEquals(1, getRelationshipState(loaded).getProperty("Friendship.years"));
+            }
+        });
+        assertEquals(3, friendshipRepository.findOne(friendshipId).getYears());
+    }
+}
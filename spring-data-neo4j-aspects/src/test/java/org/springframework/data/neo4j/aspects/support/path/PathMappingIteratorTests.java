@@ -22,14 +22,22 @@ import org.springframework.data.neo4j.aspects.support.EntityTestBase;
 import org.springframework.data.neo4j.support.path.IterationController;
 import org.springframework.data.neo4j.support.path.PathMapper;
 import org.springframework.data.neo4j.support.path.PathMappingIterator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author mh
@@ -90,6 +98,95 @@ public class PathMappingIteratorTests extends EntityTestBase {
         assertEquals(PATHS_COUNT, counter.get());
     }
 
+    @Test
+    public void parallelIteratorShouldReturnResultsInIterationOrder() {
+        final List<Integer> result = mapInParallel(IterationController.IterationMode.EAGER_PARALLEL);
+        assertEquals(expectedLengths(), result);
+    }
+
+    @Test
+    public void unorderedParallelIteratorShouldReturnAllResults() {
+        final List<Integer> result = mapInParallel(IterationController.IterationMode.EAGER_PARALLEL_UNORDERED);
+        Collections.sort(result);
+        assertEquals(expectedLengths(), result);
+    }
+
+    @Test
+    public void parallelIteratorShouldMapSequentiallyWithinATransaction() {
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            final PathMappingIterator iterator = new PathMappingIterator(executor);
+            iterator.setBatchSize(7);
+            final List<Integer> result = new ArrayList<Integer>();
+            for (Integer length : iterator.mapPaths(numberedPaths(), new LengthPathMapper(IterationController.IterationMode.EAGER_PARALLEL) {
+                @Override
+                public Integer mapPath(Path path) {
+                    threads.add(Thread.currentThread());
+                    return super.mapPath(path);
+                }
+            })) {
+                result.add(length);
+            }
+            assertEquals(expectedLengths(), result);
+            assertEquals(Collections.singleton(Thread.currentThread()), threads);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Integer> mapInParallel(final IterationController.IterationMode iterationMode) {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final PathMappingIterator iterator = new PathMappingIterator(executor);
+            iterator.setBatchSize(7);
+            iterator.setMaxBatchesInFlight(2);
+            final List<Integer> result = new ArrayList<Integer>();
+            for (Integer length : iterator.mapPaths(numberedPaths(), new LengthPathMapper(iterationMode))) {
+                result.add(length);
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Integer> expectedLengths() {
+        final List<Integer> lengths = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) lengths.add(i);
+        return lengths;
+    }
+
+    private List<Path> numberedPaths() {
+        final List<Path> paths = new ArrayList<Path>();
+        for (int i = 0; i < 100; i++) {
+            Path path = mock(Path.class);
+            when(path.length()).thenReturn(i);
+            paths.add(path);
+        }
+        return paths;
+    }
+
+    private static class LengthPathMapper implements PathMapper<Integer>, IterationController {
+        private final IterationMode iterationMode;
+
+        public LengthPathMapper(IterationMode iterationMode) {
+            this.iterationMode = iterationMode;
+        }
+
+        @Override
+        public Integer mapPath(Path path) {
+            return path.length();
+        }
+
+        @Override
+        public IterationMode getIterationMode() {
+            return iterationMode;
+        }
+    }
+
     private List<Path> paths() {
         Path anyPath = mock(Path.class);
         Path[] paths=new Path[3];
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.neo4j.rest.server.EntityGraphCodec;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+
+import javax.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Client for the {@link org.springframework.data.neo4j.rest.server.EntityGraphExtension}. Each operation is one HTTP request,
+ * the entities are mapped inside of the server and returned with all their loaded properties and relationships.
+ * <pre>
+ * EntityGraphClient client = new EntityGraphClient("http://localhost:7474/entities", template);
+ * Person person = client.findOne(id, Person.class);
+ * </pre>
+ * The template is only used for its mapping metadata and conversion service, it doesn't access the database.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityGraphClient {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String extensionUri;
+    private final EntityGraphCodec codec;
+    private final Neo4jMappingContext mappingContext;
+    private final Client client;
+
+    public EntityGraphClient(String extensionUri, Neo4jTemplate template) {
+        this.extensionUri = extensionUri.endsWith("/") ? extensionUri : extensionUri + "/";
+        this.codec = new EntityGraphCodec(template);
+        this.mappingContext = template.getInfrastructure().getMappingContext();
+        this.client = Client.create();
+    }
+
+    public EntityGraphClient(String extensionUri, Neo4jTemplate template, String user, String password) {
+        this(extensionUri, template);
+        client.addFilter(new HTTPBasicAuthFilter(user, password));
+    }
+
+    public EntityGraphClient(String extensionUri, Neo4jTemplate template, RestTransportConfig transportConfig) {
+        this(extensionUri, template);
+        transportConfig.configure(client);
+    }
+
+    public <T> T findOne(long id, Class<T> type) {
+        return type.cast(single(post(type, "findOne", Collections.<String, Object>singletonMap("id", id))));
+    }
+
+    public <T> List<T> findAll(Class<T> type) {
+        return roots(post(type, "findAll", Collections.<String, Object>emptyMap()), type);
+    }
+
+    /**
+     * @param queryName name of a query configured in the server side service, returning a single column of nodes or
+     *                  relationships of the given entity type
+     */
+    public <T> List<T> query(String queryName, Map<String, Object> params, Class<T> type) {
+        final Map<String, Object> request = new HashMap<String, Object>();
+        request.put("name", queryName);
+        request.put("params", params != null ? params : Collections.<String, Object>emptyMap());
+        return roots(post(type, "query", request), type);
+    }
+
+    /**
+     * @return the saved entity as returned from the server, with its id and all relationships
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T save(T entity) {
+        final Class<T> type = (Class<T>) entity.getClass();
+        return type.cast(single(post(type, "save", codec.encode(Collections.singletonList(entity)))));
+    }
+
+    public int delete(Class<?> type, Long... ids) {
+        final Map<String, Object> result = post(type, "delete", Collections.<String, Object>singletonMap("ids", Arrays.asList(ids)));
+        return ((Number) result.get("deleted")).intValue();
+    }
+
+    private Object single(Map<String, Object> graph) {
+        final List<Object> roots = codec.decode(graph);
+        return roots.isEmpty() ? null : roots.get(0);
+    }
+
+    private <T> List<T> roots(Map<String, Object> graph, Class<T> type) {
+        final List<T> result = new ArrayList<T>();
+        for (Object root : codec.decode(graph)) {
+            result.add(type.cast(root));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> post(Class<?> type, String operation, Map<String, Object> request) {
+        // the codec only decodes registered entity types
+        mappingContext.getPersistentEntity(type);
+        final ClientResponse response = client.resource(extensionUri + type.getName() + "/" + operation)
+                .type(MediaType.APPLICATION_JSON_TYPE).accept(MediaType.APPLICATION_JSON_TYPE)
+                .post(ClientResponse.class, toJson(request));
+        try {
+            final String body = response.getEntity(String.class);
+            final Map<String, Object> result = body == null || body.isEmpty() ? Collections.<String, Object>emptyMap() : OBJECT_MAPPER.readValue(body, Map.class);
+            final int status = response.getStatus();
+            if (status == 404) throw new DataRetrievalFailureException(String.valueOf(result.get("message")));
+            if (status == 400) throw new InvalidDataAccessApiUsageException(String.valueOf(result.get("message")));
+            if (status != 200) throw new InvalidDataAccessResourceUsageException("Error executing " + operation + " for " + type.getName() + ": " + result.get("message"));
+            return result;
+        } catch (IOException e) {
+            throw new InvalidDataAccessResourceUsageException("Error reading response of " + operation + " for " + type.getName(), e);
+        } finally {
+            response.close();
+        }
+    }
+
+    private String toJson(Map<String, Object> request) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(request);
+        } catch (IOException e) {
+            throw new InvalidDataAccessApiUsageException("Error writing request " + request, e);
+        }
+    }
+}
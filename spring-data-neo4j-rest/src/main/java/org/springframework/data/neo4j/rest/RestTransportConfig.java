@@ -0,0 +1,142 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import com.sun.jersey.api.client.Client;
+import org.neo4j.rest.graphdb.util.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP transport settings for the connections to a Neo4j server.
+ * <p/>
+ * The REST binding talks to the server through pooled {@link java.net.HttpURLConnection}s and reads its settings from
+ * system properties, so {@link #apply()} configures the whole JVM: timeouts, result streaming, keep-alive and the
+ * number of idle connections the JDK keeps alive per server. These settings are process-wide, not per database. A second
+ * {@link SpringRestGraphDatabase} with different settings changes them for the first one as well (a warning is
+ * logged), and the JDK reads keep-alive and the number of connections only once, when the first http connection of
+ * the JVM is opened, so they have to be applied before that and can't be changed later.
+ * <p/>
+ * Clients created by this module ({@link EntityGraphClient} and the streaming cypher client) get the timeouts applied
+ * per client with {@link #configure(Client)}.
+ * Settings that are not set keep their defaults.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class RestTransportConfig {
+    private static final Logger log = LoggerFactory.getLogger(RestTransportConfig.class);
+    static final String HTTP_KEEP_ALIVE = "http.keepAlive";
+    static final String HTTP_MAX_CONNECTIONS = "http.maxConnections";
+
+    private Integer connectTimeout;
+    private Integer readTimeout;
+    private Boolean keepAlive;
+    private Integer maxIdleConnections;
+    private Boolean streaming;
+
+    /**
+     * Sets the JVM-wide system properties read by the REST binding and the JDK http connection pool, see the class
+     * comment for their scope.
+     */
+    public void apply() {
+        if (connectTimeout != null) setSystemProperty(Config.CONFIG_CONNECT_TIMEOUT, String.valueOf(toSeconds(connectTimeout)));
+        if (readTimeout != null) setSystemProperty(Config.CONFIG_READ_TIMEOUT, String.valueOf(toSeconds(readTimeout)));
+        if (streaming != null) setSystemProperty(Config.CONFIG_STREAM, String.valueOf(streaming));
+        if (keepAlive != null) setSystemProperty(HTTP_KEEP_ALIVE, String.valueOf(keepAlive));
+        if (maxIdleConnections != null) setSystemProperty(HTTP_MAX_CONNECTIONS, String.valueOf(maxIdleConnections));
+    }
+
+    private static void setSystemProperty(String name, String value) {
+        final String previous = System.setProperty(name, value);
+        if (previous != null && !previous.equals(value)) {
+            log.warn("Changed JVM wide REST transport setting " + name + " from " + previous + " to " + value + ", this affects all connections to Neo4j servers");
+        }
+    }
+
+    /**
+     * Applies the timeouts to a jersey client.
+     */
+    public Client configure(Client client) {
+        if (connectTimeout != null) client.setConnectTimeout(connectTimeout);
+        if (readTimeout != null) client.setReadTimeout(readTimeout);
+        return client;
+    }
+
+    // the binding's timeouts are configured in seconds
+    private static int toSeconds(int millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    public Integer getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @param connectTimeout in milliseconds, per client for the clients of this module, JVM-wide for the REST binding
+     */
+    public void setConnectTimeout(Integer connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Integer getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * @param readTimeout in milliseconds, per client for the clients of this module, JVM-wide for the REST binding
+     */
+    public void setReadTimeout(Integer readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Boolean getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * @param keepAlive JVM-wide, only effective if applied before the first http connection of the JVM is opened
+     */
+    public void setKeepAlive(Boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public Integer getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * @param maxIdleConnections number of idle connections the JDK keeps alive per server for reuse (http.maxConnections),
+     *                           it does not limit the number of open connections. JVM-wide and only effective if
+     *                           applied before the first http connection of the JVM is opened
+     */
+    public void setMaxIdleConnections(Integer maxIdleConnections) {
+        if (maxIdleConnections != null && maxIdleConnections < 1) throw new IllegalArgumentException("maxIdleConnections must be at least 1");
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @param streaming if cypher results should be parsed while they are read instead of after the whole response
+     *                  has been received
+     */
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+}
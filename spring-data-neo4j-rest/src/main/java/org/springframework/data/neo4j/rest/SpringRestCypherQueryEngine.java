@@ -19,6 +19,9 @@ package org.springframework.data.neo4j.rest;
 import org.neo4j.rest.graphdb.query.RestCypherQueryEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.conversion.DefaultConverter;
+import org.springframework.data.neo4j.conversion.QueryResultBuilder;
+import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
 import java.util.Map;
@@ -29,15 +32,30 @@ public class SpringRestCypherQueryEngine implements QueryEngine<Map<String,Objec
     public static final Logger log = LoggerFactory.getLogger(SpringRestCypherQueryEngine.class);
 
     private final RestCypherQueryEngine restCypherQueryEngine;
+    private final StreamingCypherExecutor streamingExecutor;
+    private final ResultConverter resultConverter;
 
     public SpringRestCypherQueryEngine(RestCypherQueryEngine restCypherQueryEngine) {
+        this(restCypherQueryEngine, null, null);
+    }
+
+    /**
+     * @param streamingExecutor if provided, results are parsed and converted row by row while they are iterated
+     */
+    public SpringRestCypherQueryEngine(RestCypherQueryEngine restCypherQueryEngine, StreamingCypherExecutor streamingExecutor, ResultConverter resultConverter) {
         this.restCypherQueryEngine = restCypherQueryEngine;
+        this.streamingExecutor = streamingExecutor;
+        this.resultConverter = resultConverter != null ? resultConverter : new DefaultConverter();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public SpringRestResult<Map<String,Object>> query(String statement, Map<String, Object> params) {
         if (log.isDebugEnabled()) log.debug(String.format("Executing remote cypher query: %s params %s",statement,params));
 
+        if (streamingExecutor != null) {
+            return new StreamedRestResult<Map<String, Object>>(new QueryResultBuilder<Map<String, Object>>(streamingExecutor.execute(statement, params), resultConverter));
+        }
         return new SpringRestResult<Map<String, Object>>(restCypherQueryEngine.query(statement, params));
     }
 
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.rest;
 
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.index.Index;
 import org.neo4j.graphdb.traversal.TraversalDescription;
@@ -46,6 +48,7 @@ public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDat
     }
     private ConversionService conversionService;
     private ResultConverter resultConverter;
+    private StreamingCypherExecutor streamingExecutor;
 
     public SpringRestGraphDatabase( RestAPI api){
     	super(api);
@@ -59,6 +62,29 @@ public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDat
         this(new RestAPIFacade( uri, user, password ));
     }
 
+    public SpringRestGraphDatabase( String uri, RestTransportConfig transportConfig ) {
+        this( uri, null, null, transportConfig );
+    }
+
+    public SpringRestGraphDatabase( String uri, String user, String password, RestTransportConfig transportConfig ) {
+        this( createRestApi( uri, user, password, transportConfig ) );
+        if (transportConfig != null && Boolean.TRUE.equals( transportConfig.getStreaming() )) {
+            this.streamingExecutor = createStreamingExecutor( uri, user, password, transportConfig );
+        }
+    }
+
+    private StreamingCypherExecutor createStreamingExecutor( String uri, String user, String password, RestTransportConfig transportConfig ) {
+        final Client client = transportConfig.configure( Client.create() );
+        if (user != null) client.addFilter( new HTTPBasicAuthFilter( user, password ) );
+        return new StreamingCypherExecutor( client, uri, getRestAPI() );
+    }
+
+    private static RestAPI createRestApi( String uri, String user, String password, RestTransportConfig transportConfig ) {
+        // the rest binding reads its transport settings when it creates its client
+        if (transportConfig != null) transportConfig.apply();
+        return user == null ? new RestAPIFacade( uri ) : new RestAPIFacade( uri, user, password );
+    }
+
     @Override
     public Node createNode(Map<String, Object> props) {
         return super.getRestAPI().createNode(props);
@@ -117,7 +143,7 @@ public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDat
     @Override
     public <T> QueryEngine<T> queryEngineFor(QueryType type, final ResultConverter resultConverter) {
         switch (type) {
-             case Cypher: return (QueryEngine<T>)new SpringRestCypherQueryEngine(new RestCypherQueryEngine(getRestAPI(), new SpringResultConverter(resultConverter)));
+             case Cypher: return (QueryEngine<T>)new SpringRestCypherQueryEngine(new RestCypherQueryEngine(getRestAPI(), new SpringResultConverter(resultConverter)), streamingExecutor, resultConverter);
              case Gremlin: return (QueryEngine<T>)new SpringRestGremlinQueryEngine(new RestGremlinQueryEngine(getRestAPI(),new SpringResultConverter(resultConverter)));
          }
          throw new IllegalArgumentException("Unknown Query Engine Type "+type);
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.rest.graphdb.RestAPI;
+import org.neo4j.rest.graphdb.entity.RestNode;
+import org.neo4j.rest.graphdb.entity.RestRelationship;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Path of a streamed cypher result, built from the node and relationship uris of its representation. The nodes and
+ * relationships load their properties on first access.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class StreamedPath implements Path {
+    private final List<Node> nodes;
+    private final List<Relationship> relationships;
+
+    private StreamedPath(List<Node> nodes, List<Relationship> relationships) {
+        this.nodes = nodes;
+        this.relationships = relationships;
+    }
+
+    static boolean isPath(Map<String, Object> representation) {
+        return representation.containsKey("start") && representation.containsKey("nodes")
+                && representation.containsKey("relationships") && representation.containsKey("length");
+    }
+
+    @SuppressWarnings("unchecked")
+    static StreamedPath parse(Map<String, Object> representation, RestAPI restApi) {
+        final List<String> nodeUris = (List<String>) representation.get("nodes");
+        final List<String> relationshipUris = (List<String>) representation.get("relationships");
+        final List<Node> nodes = new ArrayList<Node>(nodeUris.size());
+        for (String uri : nodeUris) {
+            nodes.add(new RestNode(uri, restApi));
+        }
+        final List<Relationship> relationships = new ArrayList<Relationship>(relationshipUris.size());
+        for (String uri : relationshipUris) {
+            relationships.add(new RestRelationship(uri, restApi));
+        }
+        return new StreamedPath(nodes, relationships);
+    }
+
+    @Override
+    public Node startNode() {
+        return nodes.get(0);
+    }
+
+    @Override
+    public Node endNode() {
+        return nodes.get(nodes.size() - 1);
+    }
+
+    @Override
+    public Relationship lastRelationship() {
+        return relationships.isEmpty() ? null : relationships.get(relationships.size() - 1);
+    }
+
+    @Override
+    public Iterable<Relationship> relationships() {
+        return Collections.unmodifiableList(relationships);
+    }
+
+    @Override
+    public Iterable<Relationship> reverseRelationships() {
+        return reverse(relationships);
+    }
+
+    @Override
+    public Iterable<Node> nodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    @Override
+    public Iterable<Node> reverseNodes() {
+        return reverse(nodes);
+    }
+
+    @Override
+    public int length() {
+        return relationships.size();
+    }
+
+    @Override
+    public Iterator<PropertyContainer> iterator() {
+        final List<PropertyContainer> elements = new ArrayList<PropertyContainer>(nodes.size() + relationships.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) elements.add(relationships.get(i - 1));
+            elements.add(nodes.get(i));
+        }
+        return elements.iterator();
+    }
+
+    private static <T> List<T> reverse(List<T> elements) {
+        final List<T> result = new ArrayList<T>(elements);
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamedPath" + nodes + relationships;
+    }
+}
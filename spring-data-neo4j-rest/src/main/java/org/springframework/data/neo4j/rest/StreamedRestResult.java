@@ -0,0 +1,85 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import org.springframework.data.neo4j.conversion.EndResult;
+import org.springframework.data.neo4j.conversion.Handler;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.Iterator;
+
+/**
+ * A {@link SpringRestResult} for a streamed cypher response, the rows are parsed and converted while they are iterated.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class StreamedRestResult<T> extends SpringRestResult<T> {
+    private final Result<T> rows;
+
+    StreamedRestResult(Result<T> rows) {
+        super(null);
+        this.rows = rows;
+    }
+
+    @Override
+    public <R> EndResult<R> to(Class<R> type) {
+        return rows.to(type);
+    }
+
+    @Override
+    public <R> EndResult<R> to(Class<R> type, ResultConverter<T, R> converter) {
+        return rows.to(type, converter);
+    }
+
+    @Override
+    public void handle(Handler<T> handler) {
+        rows.handle(handler);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return rows.iterator();
+    }
+
+    @Override
+    public T singleOrNull() {
+        return rows.singleOrNull();
+    }
+
+    @Override
+    public T single() {
+        return rows.single();
+    }
+
+    @Override
+    public Result<T> with(MappingPolicy mappingPolicy) {
+        rows.with(mappingPolicy);
+        return this;
+    }
+
+    @Override
+    public <C extends Iterable<T>> C as(Class<C> container) {
+        return rows.as(container);
+    }
+
+    @Override
+    public void finish() {
+        rows.finish();
+    }
+}
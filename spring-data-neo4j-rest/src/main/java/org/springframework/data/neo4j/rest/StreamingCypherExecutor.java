@@ -0,0 +1,210 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientResponse;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.MappingJsonFactory;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.neo4j.helpers.collection.ClosableIterable;
+import org.neo4j.rest.graphdb.RestAPI;
+import org.neo4j.rest.graphdb.entity.RestNode;
+import org.neo4j.rest.graphdb.entity.RestRelationship;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+
+import javax.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Executes cypher statements against the REST endpoint of a Neo4j server and parses the response while the rows are
+ * iterated, so arbitrarily large results are read in constant memory. The server is asked to stream its response as
+ * well. Nodes and relationships are returned as rest entities that already carry their properties, paths as paths of
+ * rest entities that load their properties on first access. Nested maps and collections are converted as well.
+ * <p/>
+ * The returned rows can be iterated once. The http response is closed when the last row has been read, when the
+ * iterable is closed or when reading fails, abandoned results should be closed (e.g. via
+ * {@link org.springframework.data.neo4j.conversion.Result#finish()}).
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class StreamingCypherExecutor {
+    private static final MappingJsonFactory JSON_FACTORY = new MappingJsonFactory();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Client client;
+    private final String cypherUri;
+    private final RestAPI restApi;
+
+    public StreamingCypherExecutor(Client client, String baseUri, RestAPI restApi) {
+        this.client = client;
+        this.cypherUri = (baseUri.endsWith("/") ? baseUri : baseUri + "/") + "cypher";
+        this.restApi = restApi;
+    }
+
+    public ClosableIterable<Map<String, Object>> execute(String statement, Map<String, Object> params) {
+        final Map<String, Object> request = new HashMap<String, Object>();
+        request.put("query", statement);
+        request.put("params", params != null ? params : Collections.<String, Object>emptyMap());
+        final ClientResponse response = client.resource(cypherUri)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .header("X-Stream", "true")
+                .post(ClientResponse.class, toJson(request));
+        if (response.getStatus() != 200) {
+            try {
+                throw new InvalidDataAccessResourceUsageException("Error executing cypher statement " + statement + ": " + response.getEntity(String.class));
+            } finally {
+                response.close();
+            }
+        }
+        return new Rows(response);
+    }
+
+    private static String toJson(Map<String, Object> request) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(request);
+        } catch (IOException e) {
+            throw new InvalidDataAccessResourceUsageException("Error writing cypher request " + request, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    Object convert(Object value) {
+        if (value instanceof Map) {
+            final Map<String, Object> map = (Map<String, Object>) value;
+            final Object self = map.get("self");
+            if (self instanceof String && map.containsKey("data")) {
+                if (((String) self).contains("/relationship/")) return new RestRelationship(map, restApi);
+                if (((String) self).contains("/node/")) return new RestNode(map, restApi);
+            }
+            if (StreamedPath.isPath(map)) return StreamedPath.parse(map, restApi);
+            final Map<String, Object> result = new LinkedHashMap<String, Object>(map.size());
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                result.put(entry.getKey(), convert(entry.getValue()));
+            }
+            return result;
+        }
+        if (value instanceof List) {
+            final List<Object> list = (List<Object>) value;
+            final List<Object> result = new ArrayList<Object>(list.size());
+            for (Object element : list) {
+                result.add(convert(element));
+            }
+            return result;
+        }
+        return value;
+    }
+
+    private class Rows implements ClosableIterable<Map<String, Object>> {
+        private final ClientResponse response;
+        private JsonParser parser;
+        private List<String> columns;
+        private boolean iterated;
+        private boolean closed;
+
+        Rows(ClientResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public Iterator<Map<String, Object>> iterator() {
+            if (iterated) throw new IllegalStateException("Streamed cypher results can only be iterated once");
+            iterated = true;
+            return new Iterator<Map<String, Object>>() {
+                private Map<String, Object> next;
+
+                @Override
+                public boolean hasNext() {
+                    if (next == null && !closed) next = readRow();
+                    return next != null;
+                }
+
+                @Override
+                public Map<String, Object> next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    final Map<String, Object> row = next;
+                    next = null;
+                    return row;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> readRow() {
+            try {
+                if (parser == null) openData();
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    close();
+                    return null;
+                }
+                final List<Object> values = parser.readValueAs(List.class);
+                final Map<String, Object> row = new LinkedHashMap<String, Object>(columns.size());
+                for (int i = 0; i < columns.size(); i++) {
+                    row.put(columns.get(i), convert(values.get(i)));
+                }
+                return row;
+            } catch (IOException e) {
+                close();
+                throw new InvalidDataAccessResourceUsageException("Error reading streamed cypher result", e);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        // positions the parser on the rows array, the columns are sent before the data
+        @SuppressWarnings("unchecked")
+        private void openData() throws IOException {
+            parser = JSON_FACTORY.createJsonParser(response.getEntityInputStream());
+            if (parser.nextToken() != JsonToken.START_OBJECT) throw new IOException("Expected cypher result object");
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("columns".equals(field)) {
+                    columns = parser.readValueAs(List.class);
+                } else if ("data".equals(field)) {
+                    if (columns == null) throw new IOException("Cypher result contains no columns before its data");
+                    return;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            throw new IOException("Cypher result contains no data");
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            try {
+                if (parser != null) parser.close();
+            } catch (IOException e) {
+                // the response is closed anyway
+            } finally {
+                response.close();
+            }
+        }
+    }
+}
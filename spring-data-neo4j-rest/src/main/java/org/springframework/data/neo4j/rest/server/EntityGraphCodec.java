@@ -0,0 +1,212 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.server;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Converts entities and the entities they refer to into a compact, JSON compatible structure of maps and lists and
+ * back. Used to exchange mapped entities between {@link EntityGraphService} in the server and its remote client, so
+ * that the client doesn't need a request for each property or relationship.
+ * <pre>
+ * {"roots":[0], "entities":[{"type":"com.example.Person", "fields":{"id":1, "name":"Emil", "friends":{"refs":[1]}}},
+ *                           {"type":"com.example.Person", "fields":{"id":2, "name":"Michael"}}]}
+ * </pre>
+ * Simple values are transferred as strings, numbers, booleans or lists, other values are converted to strings with the
+ * conversion service of the template. Fields without a transferable value are left out.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityGraphCodec {
+    public static final String ROOTS = "roots";
+    public static final String ENTITIES = "entities";
+    private static final String TYPE = "type";
+    private static final String FIELDS = "fields";
+    private static final String REF = "ref";
+    private static final String REFS = "refs";
+    private static final Object NOT_TRANSFERABLE = new Object();
+
+    private final Neo4jTemplate template;
+    private final ConversionService conversionService;
+
+    public EntityGraphCodec(Neo4jTemplate template) {
+        this.template = template;
+        this.conversionService = template.getConversionService();
+    }
+
+    public Map<String, Object> encode(Iterable<?> roots) {
+        final Encoder encoder = new Encoder();
+        final List<Integer> rootRefs = new ArrayList<Integer>();
+        for (Object root : roots) {
+            rootRefs.add(root == null ? null : encoder.ref(root));
+        }
+        final Map<String, Object> graph = new LinkedHashMap<String, Object>();
+        graph.put(ROOTS, rootRefs);
+        graph.put(ENTITIES, encoder.entities);
+        return graph;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object> decode(Map<String, Object> graph) {
+        final List<Map<String, Object>> records = (List<Map<String, Object>>) graph.get(ENTITIES);
+        final List<Object> entities = new ArrayList<Object>(records.size());
+        for (Map<String, Object> record : records) {
+            entities.add(BeanUtils.instantiateClass(entityType((String) record.get(TYPE))));
+        }
+        for (int i = 0; i < records.size(); i++) {
+            decodeFields(entities.get(i), (Map<String, Object>) records.get(i).get(FIELDS), entities);
+        }
+        final List<Object> roots = new ArrayList<Object>();
+        for (Number ref : (List<Number>) graph.get(ROOTS)) {
+            roots.add(ref == null ? null : entities.get(ref.intValue()));
+        }
+        return roots;
+    }
+
+    /**
+     * @return the entity class of the given name, only entities already registered in the mapping context are
+     * resolved, other classes are never loaded by name
+     */
+    public Class<?> entityType(String typeName) {
+        for (Neo4jPersistentEntity<?> entity : template.getInfrastructure().getMappingContext().getPersistentEntities()) {
+            if (entity.getType().getName().equals(typeName)) return entity.getType();
+        }
+        throw new MappingException("Only registered node and relationship entities can be transferred, not " + typeName);
+    }
+
+    private Neo4jPersistentEntity<?> persistentEntity(Class<?> type) {
+        return template.getInfrastructure().getMappingContext().getPersistentEntity(type);
+    }
+
+    private static boolean isTransferred(Neo4jPersistentProperty property) {
+        return !property.hasQuery() && property.getAnnotation(GraphTraversal.class) == null;
+    }
+
+    private class Encoder {
+        private final List<Map<String, Object>> entities = new ArrayList<Map<String, Object>>();
+        private final Map<Object, Integer> refs = new IdentityHashMap<Object, Integer>();
+
+        int ref(Object entity) {
+            final Integer existing = refs.get(entity);
+            if (existing != null) return existing;
+            final int ref = entities.size();
+            refs.put(entity, ref);
+            final Map<String, Object> fields = new LinkedHashMap<String, Object>();
+            final Map<String, Object> record = new LinkedHashMap<String, Object>();
+            record.put(TYPE, entity.getClass().getName());
+            record.put(FIELDS, fields);
+            entities.add(record);
+            encodeFields(entity, fields);
+            return ref;
+        }
+
+        private void encodeFields(final Object entity, final Map<String, Object> fields) {
+            final Neo4jPersistentEntity<?> persistentEntity = persistentEntity(entity.getClass());
+            persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+                @Override
+                public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                    if (!isTransferred(property)) return;
+                    final Object value = encodeValue(property.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY));
+                    if (value != null && value != NOT_TRANSFERABLE) fields.put(property.getName(), value);
+                }
+            });
+            persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+                @Override
+                public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                    final Neo4jPersistentProperty property = association.getInverse();
+                    if (!isTransferred(property)) return;
+                    final Object value = property.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
+                    if (value == null) return;
+                    if (value instanceof Iterable) {
+                        final List<Integer> targets = new ArrayList<Integer>();
+                        for (Object target : (Iterable<?>) value) {
+                            targets.add(ref(target));
+                        }
+                        fields.put(property.getName(), Collections.singletonMap(REFS, targets));
+                    } else {
+                        fields.put(property.getName(), Collections.singletonMap(REF, ref(value)));
+                    }
+                }
+            });
+        }
+
+        private Object encodeValue(Object value) {
+            if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) return value;
+            if (value instanceof Enum) return ((Enum<?>) value).name();
+            if (value instanceof Character) return value.toString();
+            if (value.getClass().isArray()) {
+                final int length = Array.getLength(value);
+                final List<Object> result = new ArrayList<Object>(length);
+                for (int i = 0; i < length; i++) {
+                    result.add(encodeValue(Array.get(value, i)));
+                }
+                return result.contains(NOT_TRANSFERABLE) ? NOT_TRANSFERABLE : result;
+            }
+            if (value instanceof Collection) {
+                return encodeValue(((Collection<?>) value).toArray());
+            }
+            if (conversionService != null && conversionService.canConvert(value.getClass(), String.class)) {
+                return conversionService.convert(value, String.class);
+            }
+            return NOT_TRANSFERABLE;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void decodeFields(Object entity, Map<String, Object> fields, List<Object> entities) {
+        final Neo4jPersistentEntity<?> persistentEntity = persistentEntity(entity.getClass());
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            final Neo4jPersistentProperty property = persistentEntity.getPersistentProperty(field.getKey());
+            if (property == null || !isTransferred(property)) continue;
+            final Object value = field.getValue();
+            if (property.isRelationship() || property.isStartNode() || property.isEndNode()) {
+                final Map<String, Object> reference = (Map<String, Object>) value;
+                if (reference.containsKey(REFS)) {
+                    final Collection<Object> targets = Set.class.isAssignableFrom(property.getType()) ? new LinkedHashSet<Object>() : new ArrayList<Object>();
+                    for (Number ref : (List<Number>) reference.get(REFS)) {
+                        targets.add(entities.get(ref.intValue()));
+                    }
+                    property.setValue(entity, targets);
+                } else {
+                    property.setValue(entity, entities.get(((Number) reference.get(REF)).intValue()));
+                }
+            } else {
+                property.setValue(entity, decodeValue(value, property.getType()));
+            }
+        }
+    }
+
+    private Object decodeValue(Object value, Class<?> type) {
+        if (value == null || ClassUtils.isAssignableValue(type, value)) return value;
+        if (conversionService != null) return conversionService.convert(value, type);
+        throw new MappingException("Can't convert " + value + " to " + type);
+    }
+}
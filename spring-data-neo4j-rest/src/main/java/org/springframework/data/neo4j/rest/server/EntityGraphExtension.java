@@ -0,0 +1,120 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.server;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.mapping.model.MappingException;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unmanaged server extension that exposes the {@link EntityGraphService} of a Spring Data Neo4j application context
+ * running inside the Neo4j server. Every operation is a single POST to {@code /{entity class}/{operation}} with a JSON
+ * map as body:
+ * <ul>
+ *     <li>{@code findOne} - {"id": 1}</li>
+ *     <li>{@code findAll} - {}</li>
+ *     <li>{@code query} - {"name": "Person.findFriends", "params": {"id": 1}}, only named queries configured in the
+ *     service can be run</li>
+ *     <li>{@code save} - an entity graph as produced by {@link EntityGraphCodec}</li>
+ *     <li>{@code delete} - {"ids": [1, 2]}</li>
+ * </ul>
+ * The service is injected with the {@link EntityGraphExtensionInitializer}, the extension package has to be
+ * registered with the {@code org.neo4j.server.thirdparty_jaxrs_classes} server setting.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+@Path("/")
+public class EntityGraphExtension {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final EntityGraphService service;
+
+    public EntityGraphExtension(@Context EntityGraphService service) {
+        this.service = service;
+    }
+
+    @POST
+    @Path("/{type}/{operation}")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response execute(@PathParam("type") String type, @PathParam("operation") String operation, String body) {
+        try {
+            final Map<String, Object> request = parse(body);
+            return ok(dispatch(type, operation, request));
+        } catch (DataRetrievalFailureException e) {
+            return error(Response.Status.NOT_FOUND, e);
+        } catch (MappingException e) {
+            return error(Response.Status.BAD_REQUEST, e);
+        } catch (IllegalArgumentException e) {
+            return error(Response.Status.BAD_REQUEST, e);
+        } catch (Exception e) {
+            return error(Response.Status.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object dispatch(String type, String operation, Map<String, Object> request) {
+        if ("findOne".equals(operation)) {
+            return service.findOne(type, ((Number) request.get("id")).longValue());
+        }
+        if ("findAll".equals(operation)) {
+            return service.findAll(type);
+        }
+        if ("query".equals(operation)) {
+            final Map<String, Object> params = (Map<String, Object>) request.get("params");
+            return service.query(type, (String) request.get("name"), params != null ? params : Collections.<String, Object>emptyMap());
+        }
+        if ("save".equals(operation)) {
+            return service.save(request);
+        }
+        if ("delete".equals(operation)) {
+            return Collections.singletonMap("deleted", service.delete(type, (List<Number>) request.get("ids")));
+        }
+        throw new IllegalArgumentException("Unknown operation " + operation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parse(String body) throws java.io.IOException {
+        if (body == null || body.trim().isEmpty()) return Collections.emptyMap();
+        return OBJECT_MAPPER.readValue(body, Map.class);
+    }
+
+    private Response ok(Object result) throws java.io.IOException {
+        return Response.ok(OBJECT_MAPPER.writeValueAsString(result), MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
+    private Response error(Response.Status status, Exception e) {
+        final String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+        try {
+            return Response.status(status).entity(OBJECT_MAPPER.writeValueAsString(Collections.singletonMap("message", message))).type(MediaType.APPLICATION_JSON_TYPE).build();
+        } catch (java.io.IOException ioe) {
+            return Response.status(status).build();
+        }
+    }
+}
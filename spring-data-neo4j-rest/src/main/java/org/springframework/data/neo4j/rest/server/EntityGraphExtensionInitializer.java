@@ -0,0 +1,42 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.server;
+
+import org.springframework.data.neo4j.server.SpringPluginInitializer;
+
+/**
+ * Starts the Spring Data Neo4j application context of the given config locations inside the Neo4j server and exposes
+ * its {@link EntityGraphService} bean named {@code entityGraphService} to the {@link EntityGraphExtension}.
+ * <pre>
+ * public class MyEntityGraphInitializer extends EntityGraphExtensionInitializer {
+ *     public MyEntityGraphInitializer() {
+ *         super("myContext.xml");
+ *     }
+ * }
+ * </pre>
+ * The initializer has to be listed in {@code META-INF/services/org.neo4j.server.plugins.PluginLifecycle}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public abstract class EntityGraphExtensionInitializer extends SpringPluginInitializer {
+    public static final String SERVICE_BEAN_NAME = "entityGraphService";
+
+    @SuppressWarnings("unchecked")
+    protected EntityGraphExtensionInitializer(String... contextLocations) {
+        super(contextLocations, expose(SERVICE_BEAN_NAME, EntityGraphService.class));
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.server;
+
+import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.template.GraphCallback;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Executes repository style operations inside of the Neo4j server and returns the mapped entities as one compact
+ * entity graph (see {@link EntityGraphCodec}). A remote client gets a fully loaded entity with a single request instead
+ * of one request for each node, property and relationship. Each operation runs in its own transaction.
+ * <p/>
+ * Clients can't send cypher statements, {@link #query} only runs the named queries configured with
+ * {@link #setNamedQueries}, e.g. the ones of {@code META-INF/neo4j-named-queries.properties}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityGraphService {
+    private final Neo4jTemplate template;
+    private final EntityGraphCodec codec;
+    private NamedQueries namedQueries = new PropertiesBasedNamedQueries(new Properties());
+
+    public EntityGraphService(Neo4jTemplate template) {
+        this.template = template;
+        this.codec = new EntityGraphCodec(template);
+    }
+
+    /**
+     * @param namedQueries the only queries clients can run with {@link #query}, none by default
+     */
+    public void setNamedQueries(NamedQueries namedQueries) {
+        Assert.notNull(namedQueries);
+        this.namedQueries = namedQueries;
+    }
+
+    public Map<String, Object> findOne(final String typeName, final long id) {
+        final Class<?> type = codec.entityType(typeName);
+        return template.exec(new GraphCallback<Map<String, Object>>() {
+            @Override
+            public Map<String, Object> doWithGraph(GraphDatabase graph) throws Exception {
+                return codec.encode(Collections.singletonList(template.findOne(id, type)));
+            }
+        });
+    }
+
+    public Map<String, Object> findAll(final String typeName) {
+        final Class<?> type = codec.entityType(typeName);
+        return template.exec(new GraphCallback<Map<String, Object>>() {
+            @Override
+            public Map<String, Object> doWithGraph(GraphDatabase graph) throws Exception {
+                return codec.encode(template.findAll(type));
+            }
+        });
+    }
+
+    /**
+     * @param queryName name of a configured named query returning a single column of nodes or relationships of the
+     *                  given entity type
+     */
+    public Map<String, Object> query(final String typeName, final String queryName, final Map<String, Object> params) {
+        final Class<?> type = codec.entityType(typeName);
+        if (queryName == null || !namedQueries.hasQuery(queryName)) {
+            throw new IllegalArgumentException("Unknown named query " + queryName);
+        }
+        final String statement = namedQueries.getQuery(queryName);
+        return template.exec(new GraphCallback<Map<String, Object>>() {
+            @Override
+            public Map<String, Object> doWithGraph(GraphDatabase graph) throws Exception {
+                return codec.encode(template.query(statement, params).to(type));
+            }
+        });
+    }
+
+    /**
+     * Saves the root entities of the given entity graph, the result contains the saved entities with their ids.
+     */
+    public Map<String, Object> save(final Map<String, Object> entityGraph) {
+        return template.exec(new GraphCallback<Map<String, Object>>() {
+            @Override
+            public Map<String, Object> doWithGraph(GraphDatabase graph) throws Exception {
+                final List<Object> saved = new ArrayList<Object>();
+                for (Object entity : codec.decode(entityGraph)) {
+                    saved.add(template.save(entity));
+                }
+                return codec.encode(saved);
+            }
+        });
+    }
+
+    /**
+     * @return the number of deleted entities, ids of entities that don't exist are ignored
+     */
+    public int delete(final String typeName, final Iterable<? extends Number> ids) {
+        final Class<?> type = codec.entityType(typeName);
+        return template.exec(new GraphCallback<Integer>() {
+            @Override
+            public Integer doWithGraph(GraphDatabase graph) throws Exception {
+                int count = 0;
+                for (Number id : ids) {
+                    final Object entity = template.findOne(id.longValue(), type);
+                    if (entity == null) continue;
+                    template.delete(entity);
+                    count++;
+                }
+                return count;
+            }
+        });
+    }
+
+    public EntityGraphCodec getCodec() {
+        return codec;
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.server;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Test;
+import org.springframework.data.neo4j.annotation.EndNode;
+import org.springframework.data.neo4j.annotation.Fetch;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.annotation.RelationshipEntity;
+import org.springframework.data.neo4j.annotation.StartNode;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentTestBase;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityGraphServiceTests extends Neo4jPersistentTestBase {
+
+    public enum Role { ADMIN, USER }
+
+    @NodeEntity
+    public static class Member {
+        @GraphId
+        Long id;
+        String name;
+        Role role;
+        String[] tags;
+        @Fetch @RelatedTo(type = "FRIEND")
+        Set<Member> friends = new HashSet<Member>();
+        @RelatedTo(type = "MENTOR")
+        Member mentor;
+
+        public Member() {
+        }
+
+        public Member(String name) {
+            this.name = name;
+        }
+    }
+
+    @RelationshipEntity(type = "KNOWS")
+    public static class Knows {
+        @GraphId
+        Long id;
+        @StartNode
+        Member from;
+        @EndNode
+        Member to;
+        int since;
+
+        public Knows() {
+        }
+
+        public Knows(Member from, Member to, int since) {
+            this.from = from;
+            this.to = to;
+            this.since = since;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> overTheWire(Map<String, Object> graph) throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        return mapper.readValue(mapper.writeValueAsString(graph), Map.class);
+    }
+
+    @Test
+    public void testFindOneReturnsFetchedRelationshipsInOneGraph() throws Exception {
+        final Member emil = template.save(new Member("Emil"));
+        final Member michael = new Member("Michael");
+        michael.role = Role.ADMIN;
+        michael.tags = new String[]{"neo4j", "spring"};
+        michael.friends.add(emil);
+        michael.mentor = emil;
+        template.save(michael);
+
+        final EntityGraphService service = new EntityGraphService(template);
+        final Map<String, Object> graph = overTheWire(service.findOne(Member.class.getName(), michael.id));
+        assertEquals(2, ((List<?>) graph.get(EntityGraphCodec.ENTITIES)).size());
+
+        final Member loaded = (Member) service.getCodec().decode(graph).get(0);
+        assertEquals(michael.id, loaded.id);
+        assertEquals("Michael", loaded.name);
+        assertEquals(Role.ADMIN, loaded.role);
+        assertArrayEquals(new String[]{"neo4j", "spring"}, loaded.tags);
+        assertEquals(1, loaded.friends.size());
+        final Member friend = loaded.friends.iterator().next();
+        assertEquals("Emil", friend.name);
+        assertSame(friend, loaded.mentor);
+    }
+
+    @Test
+    public void testEncodesCyclesOnce() throws Exception {
+        final Member first = new Member("first");
+        final Member second = new Member("second");
+        first.mentor = second;
+        second.mentor = first;
+        final EntityGraphCodec codec = new EntityGraphCodec(template);
+        final Map<String, Object> graph = overTheWire(codec.encode(Collections.singletonList(first)));
+        assertEquals(2, ((List<?>) graph.get(EntityGraphCodec.ENTITIES)).size());
+        final Member decoded = (Member) codec.decode(graph).get(0);
+        assertSame(decoded, decoded.mentor.mentor);
+    }
+
+    @Test
+    public void testSaveStoresDecodedEntities() throws Exception {
+        final EntityGraphService service = new EntityGraphService(template);
+        final Member member = new Member("Andres");
+        member.friends.add(template.save(new Member("Peter")));
+        final Map<String, Object> saved = overTheWire(service.save(overTheWire(service.getCodec().encode(Collections.singletonList(member)))));
+        final Member result = (Member) service.getCodec().decode(saved).get(0);
+        assertNotNull(result.id);
+        final Member loaded = template.findOne(result.id, Member.class);
+        assertEquals("Andres", loaded.name);
+        assertEquals("Peter", loaded.friends.iterator().next().name);
+    }
+
+    @Test
+    public void testFindOneReturnsRelationshipEntityWithItsNodes() throws Exception {
+        final Member emil = template.save(new Member("Emil"));
+        final Member michael = template.save(new Member("Michael"));
+        final Knows knows = template.save(new Knows(michael, emil, 2010));
+
+        final EntityGraphService service = new EntityGraphService(template);
+        final Map<String, Object> graph = overTheWire(service.findOne(Knows.class.getName(), knows.id));
+        final Knows loaded = (Knows) service.getCodec().decode(graph).get(0);
+        assertEquals(knows.id, loaded.id);
+        assertEquals(2010, loaded.since);
+        assertEquals(michael.id, loaded.from.id);
+        assertEquals("Michael", loaded.from.name);
+        assertEquals(emil.id, loaded.to.id);
+        assertEquals("Emil", loaded.to.name);
+    }
+
+    @Test
+    public void testQueryRunsNamedQuery() throws Exception {
+        final Member emil = template.save(new Member("Emil"));
+        final Member michael = new Member("Michael");
+        michael.mentor = emil;
+        template.save(michael);
+
+        final Properties queries = new Properties();
+        queries.setProperty("Member.findMentor", "start n=node({id}) match n-[:MENTOR]->m return m");
+        final EntityGraphService service = new EntityGraphService(template);
+        service.setNamedQueries(new PropertiesBasedNamedQueries(queries));
+        final Map<String, Object> graph = overTheWire(service.query(Member.class.getName(), "Member.findMentor", Collections.<String, Object>singletonMap("id", michael.id)));
+        final Member mentor = (Member) service.getCodec().decode(graph).get(0);
+        assertEquals(emil.id, mentor.id);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsQueriesThatAreNotNamedQueries() throws Exception {
+        template.save(new Member("Emil"));
+        new EntityGraphService(template).query(Member.class.getName(), "start n=node(*) delete n", Collections.<String, Object>emptyMap());
+    }
+
+    @Test(expected = org.springframework.data.mapping.model.MappingException.class)
+    public void testRejectsNonEntityTypes() throws Exception {
+        new EntityGraphService(template).findAll(String.class.getName());
+    }
+
+    @Test(expected = org.springframework.data.mapping.model.MappingException.class)
+    public void testRejectsEntityTypesNotRegisteredInTheMappingContext() throws Exception {
+        new EntityGraphService(template).findAll(Unregistered.class.getName());
+    }
+
+    @NodeEntity
+    public static class Unregistered {
+        @GraphId
+        Long id;
+    }
+}
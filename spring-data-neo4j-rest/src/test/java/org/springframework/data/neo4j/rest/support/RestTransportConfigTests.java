@@ -0,0 +1,72 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.support;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.rest.graphdb.util.Config;
+import org.springframework.data.neo4j.rest.RestTransportConfig;
+
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class RestTransportConfigTests {
+    private Properties systemProperties;
+
+    @Before
+    public void saveSystemProperties() {
+        systemProperties = (Properties) System.getProperties().clone();
+    }
+
+    @After
+    public void restoreSystemProperties() {
+        System.setProperties(systemProperties);
+    }
+
+    @Test
+    public void testAppliesSettingsToRestBindingAndConnectionPool() throws Exception {
+        final RestTransportConfig config = new RestTransportConfig();
+        config.setConnectTimeout(2500);
+        config.setReadTimeout(60000);
+        config.setKeepAlive(true);
+        config.setMaxIdleConnections(20);
+        config.setStreaming(true);
+        config.apply();
+        assertEquals("3", System.getProperty(Config.CONFIG_CONNECT_TIMEOUT));
+        assertEquals("60", System.getProperty(Config.CONFIG_READ_TIMEOUT));
+        assertEquals("true", System.getProperty(Config.CONFIG_STREAM));
+        assertEquals("true", System.getProperty("http.keepAlive"));
+        assertEquals("20", System.getProperty("http.maxConnections"));
+    }
+
+    @Test
+    public void testKeepsDefaultsOfUnsetSettings() throws Exception {
+        System.clearProperty("http.maxConnections");
+        new RestTransportConfig().apply();
+        assertNull(System.getProperty("http.maxConnections"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEmptyIdleConnectionCache() throws Exception {
+        new RestTransportConfig().setMaxIdleConnections(0);
+    }
+}
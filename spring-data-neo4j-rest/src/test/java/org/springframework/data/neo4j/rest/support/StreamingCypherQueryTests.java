@@ -0,0 +1,120 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.Transaction;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.neo4j.annotation.QueryType;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.rest.RestTransportConfig;
+import org.springframework.data.neo4j.rest.SpringRestGraphDatabase;
+import org.springframework.data.neo4j.support.query.QueryEngine;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class StreamingCypherQueryTests extends RestTestBase {
+    private static final int COUNT = 500;
+
+    private QueryEngine<Map<String, Object>> queryEngine;
+
+    @Before
+    public void createStreamingDatabase() throws Exception {
+        final RestTransportConfig transportConfig = new RestTransportConfig();
+        transportConfig.setStreaming(true);
+        restGraphDatabase = new SpringRestGraphDatabase(SERVER_ROOT_URI, transportConfig);
+        queryEngine = restGraphDatabase.queryEngineFor(QueryType.Cypher);
+        final Transaction tx = db.beginTx();
+        try {
+            for (int i = 0; i < COUNT; i++) {
+                db.createNode().setProperty("number", i);
+            }
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+    }
+
+    @Test
+    public void testStreamsAllRowsWithTheirNodes() throws Exception {
+        final Result<Map<String, Object>> result = queryEngine.query("start n=node(*) where has(n.number) return n, n.number as number order by n.number", null);
+        int count = 0;
+        for (Map<String, Object> row : result) {
+            assertEquals(count, ((Number) row.get("number")).intValue());
+            assertEquals(count, ((Node) row.get("n")).getProperty("number"));
+            count++;
+        }
+        assertEquals(COUNT, count);
+    }
+
+    @Test
+    public void testConvertsRowsWhileIterating() throws Exception {
+        final Iterator<Integer> numbers = queryEngine.query("start n=node(*) where has(n.number) return n.number order by n.number", null).to(Integer.class).iterator();
+        assertEquals(Integer.valueOf(0), numbers.next());
+        assertEquals(Integer.valueOf(1), numbers.next());
+    }
+
+    @Test
+    public void testAbandonedResultCanBeFinished() throws Exception {
+        final Result<Map<String, Object>> result = queryEngine.query("start n=node(*) where has(n.number) return n", null);
+        assertTrue(result.iterator().hasNext());
+        result.finish();
+        // the connection has been released and can be reused
+        assertEquals(COUNT, ((Number) queryEngine.query("start n=node(*) where has(n.number) return count(*) as c", null).single().get("c")).intValue());
+    }
+
+    @Test
+    public void testConvertsPathsAndCollections() throws Exception {
+        final Transaction tx = db.beginTx();
+        final Node start;
+        try {
+            start = db.createNode();
+            start.setProperty("name", "start");
+            final Node end = db.createNode();
+            end.setProperty("name", "end");
+            start.createRelationshipTo(end, DynamicRelationshipType.withName("KNOWS"));
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+        final Map<String, Object> row = queryEngine.query("start n=node({id}) match p=n-[:KNOWS]->m return p, collect(m) as friends", Collections.<String, Object>singletonMap("id", start.getId())).single();
+        final Path path = (Path) row.get("p");
+        assertEquals(1, path.length());
+        assertEquals("start", path.startNode().getProperty("name"));
+        assertEquals("end", path.endNode().getProperty("name"));
+        assertEquals("KNOWS", path.lastRelationship().getType().name());
+        final List<?> friends = (List<?>) row.get("friends");
+        assertEquals("end", ((Node) friends.get(0)).getProperty("name"));
+    }
+
+    @Test(expected = InvalidDataAccessResourceUsageException.class)
+    public void testReportsInvalidStatements() throws Exception {
+        queryEngine.query("start n=node({id}) return", Collections.<String, Object>singletonMap("id", 0));
+    }
+}
@@ -51,4 +51,10 @@ public @interface GraphTraversal {
      * @return parameters that are passed to the @see FieldTraversalDescriptionBuilder#build
      */
     String[] params() default {};
+
+    /**
+     * @return true to keep the traversal result of an entity for the rest of the current Spring managed transaction,
+     * changes to the graph made within the transaction after the first access are then not visible
+     */
+    boolean cacheResults() default false;
 }
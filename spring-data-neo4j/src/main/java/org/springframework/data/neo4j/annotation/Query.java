@@ -67,4 +67,16 @@ public @interface Query {
      * @return name of the named count query to be used for this annotated method, instead of Class.method.count
      */
     String countQueryName() default "";
+
+    /**
+     * @return for query fields only, true to keep the result per entity for the rest of the current Spring managed
+     * transaction instead of running the query on every access
+     */
+    boolean cacheResults() default false;
+
+    /**
+     * @return for query fields with {@link #cacheResults()} only, milliseconds after which a cached result is
+     * recomputed, 0 to keep it until the transaction ends
+     */
+    long cacheTtl() default 0;
 }
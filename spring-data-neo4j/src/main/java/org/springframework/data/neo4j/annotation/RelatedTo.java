@@ -17,6 +17,7 @@
 package org.springframework.data.neo4j.annotation;
 
 import org.springframework.data.annotation.Reference;
+import org.springframework.data.domain.Sort;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -65,4 +66,31 @@ public @interface RelatedTo {
      * Used to discriminate between relationships with the same type based on end node type (inferred or from {@link #elementClass}
      */
     boolean enforceTargetType() default false;
+
+    /**
+     * If set, collection fields are not read from the graph when the entity is loaded but only on first access,
+     * see {@link org.springframework.data.neo4j.support.Neo4jTemplate#initializeLazy} for initializing them in bulk.
+     * Ignored if the field is also annotated with {@link Fetch}.
+     */
+    boolean lazy() default false;
+
+    /**
+     * If set, the collection is a view ordered by this property of the related entities, that is read page by page
+     * with cypher queries instead of loading all related entities. Adding and removing elements of the view
+     * creates and deletes the relationships right away. Only for fields declared as {@link java.util.Collection} or
+     * {@link java.util.List}, can't be combined with {@link #enforceTargetType}.
+     */
+    String orderBy() default "";
+
+    /**
+     * @return sort direction for {@link #orderBy}, entities without the property come last in ascending and first in
+     * descending order
+     */
+    Sort.Direction orderDirection() default Sort.Direction.ASC;
+
+    /**
+     * If positive, the collection is a paged view (ordered by {@link #orderBy} or else by node id) that reads this many
+     * related entities at once, see {@link #orderBy}.
+     */
+    int pageSize() default 0;
 }
@@ -30,6 +30,7 @@ import org.springframework.transaction.TransactionStatus;
 public class ConfigurationCheck implements ApplicationListener<ContextStartedEvent> {
     Neo4jTemplate template;
     PlatformTransactionManager transactionManager;
+    private boolean checkTransactions = true;
 
     public ConfigurationCheck(Neo4jTemplate template, PlatformTransactionManager transactionManager) {
         this.template = template;
@@ -44,10 +45,23 @@ public class ConfigurationCheck implements ApplicationListener<ContextStartedEve
     //@PostConstruct
     private void checkConfiguration() {
         checkInjection();
+        if (!checkTransactions) return;
         checkSpringTransactionManager();
         checkNeo4jTransactionManager();
     }
 
+    public boolean isCheckTransactions() {
+        return checkTransactions;
+    }
+
+    /**
+     * @param checkTransactions whether both transaction managers are checked with a write transaction each, which is
+     *                          costly against a remote server, true by default
+     */
+    public void setCheckTransactions(boolean checkTransactions) {
+        this.checkTransactions = checkTransactions;
+    }
+
     private void checkInjection() {
         if (template.getGraphDatabaseService()==null) {
             throw new BeanCreationException("graphDatabaseService not correctly configured, please refer to the manual, setup section");
@@ -23,12 +23,14 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.*;
 import org.springframework.beans.factory.xml.AbstractBeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.ConfigurationClassPostProcessor;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.data.neo4j.annotation.NodeEntity;
 import org.springframework.data.neo4j.annotation.RelationshipEntity;
+import org.springframework.data.neo4j.support.mapping.EntityRegistry;
 import org.springframework.data.repository.config.RepositoryBeanDefinitionParser;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 import org.springframework.util.ClassUtils;
@@ -37,11 +39,17 @@ import org.w3c.dom.Element;
 import java.util.Set;
 
 import static org.springframework.util.StringUtils.hasText;
+import static org.springframework.util.StringUtils.tokenizeToStringArray;
 
 public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser {
 
     private static final String GRAPH_DATABASE_SERVICE = "graphDatabaseService";
     private static final String BASE_PACKAGE = "base-package";
+    private static final String ENTITY_REGISTRY = "entityRegistry";
+    private static final String SERVER_URI = "serverUri";
+    private static final String[] TRANSPORT_SETTINGS = {"connectTimeout", "readTimeout", "keepAlive", "maxIdleConnections", "streaming"};
+    public static final String REST_GRAPH_DATABASE = "org.springframework.data.neo4j.rest.SpringRestGraphDatabase";
+    public static final String REST_TRANSPORT_CONFIG = "org.springframework.data.neo4j.rest.RestTransportConfig";
     public static final String ASPECTJ_CONFIG = "org.springframework.data.neo4j.aspects.config.Neo4jAspectConfiguration";
     public static final String CROSS_STORE_CONFIG = "org.springframework.data.neo4j.cross_store.config.CrossStoreNeo4jConfiguration";
 
@@ -71,6 +79,7 @@ public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser
     		if (!hasText(basePackage)) {
     			return null;
     		}
+    		String[] basePackages = tokenizeToStringArray(basePackage, ConfigurableApplicationContext.CONFIG_LOCATION_DELIMITERS);
 
     		ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(false);
     		componentProvider.addIncludeFilter(new AnnotationTypeFilter(NodeEntity.class));
@@ -78,8 +87,17 @@ public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser
     		componentProvider.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
 
     		Set<String> classes = new ManagedSet<String>();
-    		for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
-    			classes.add(candidate.getBeanClassName());
+    		if (Boolean.parseBoolean(element.getAttribute(ENTITY_REGISTRY))) {
+    			Set<String> registered = EntityRegistry.findEntityClassNames(ClassUtils.getDefaultClassLoader(), basePackages);
+    			if (registered != null) {
+    				classes.addAll(registered);
+    				return classes;
+    			}
+    		}
+    		for (String packageToScan : basePackages) {
+    			for (BeanDefinition candidate : componentProvider.findCandidateComponents(packageToScan)) {
+    				classes.add(candidate.getBeanClassName());
+    			}
     		}
 
     		return classes;
@@ -124,6 +142,9 @@ public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser
 
     private void setupGraphDatabase(Element element, ParserContext context, BeanDefinitionBuilder configBuilder) {
         String graphDatabaseRef = element.getAttribute(GRAPH_DATABASE_SERVICE);
+        if (!hasText(graphDatabaseRef)) {
+            graphDatabaseRef = handleServerUri(element, context);
+        }
         if (!hasText(graphDatabaseRef)) {
             graphDatabaseRef = handleStoreDir(element, context, configBuilder);
         }
@@ -142,6 +163,28 @@ public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser
         return hasText(entityManagerFactory);
     }
 
+    private String handleServerUri(Element element, ParserContext context) {
+        String serverUri = element.getAttribute(SERVER_URI);
+        if (!hasText(serverUri)) return null;
+
+        BeanDefinitionBuilder transportBuilder = BeanDefinitionBuilder.rootBeanDefinition(REST_TRANSPORT_CONFIG);
+        for (String setting : TRANSPORT_SETTINGS) {
+            if (hasText(element.getAttribute(setting))) {
+                transportBuilder.addPropertyValue(setting, element.getAttribute(setting));
+            }
+        }
+        BeanDefinitionBuilder graphDefinitionBuilder = BeanDefinitionBuilder.rootBeanDefinition(REST_GRAPH_DATABASE);
+        graphDefinitionBuilder.addConstructorArgValue(serverUri);
+        if (hasText(element.getAttribute("serverUser"))) {
+            graphDefinitionBuilder.addConstructorArgValue(element.getAttribute("serverUser"));
+            graphDefinitionBuilder.addConstructorArgValue(element.getAttribute("serverPassword"));
+        }
+        graphDefinitionBuilder.addConstructorArgValue(transportBuilder.getBeanDefinition());
+        graphDefinitionBuilder.setScope("singleton");
+        context.getRegistry().registerBeanDefinition(GRAPH_DATABASE_SERVICE, graphDefinitionBuilder.getBeanDefinition());
+        return GRAPH_DATABASE_SERVICE;
+    }
+
     private String handleStoreDir(Element element, ParserContext context, BeanDefinitionBuilder configBuilder) {
         String storeDir = element.getAttribute("storeDirectory");
         if (!hasText(storeDir)) return null;
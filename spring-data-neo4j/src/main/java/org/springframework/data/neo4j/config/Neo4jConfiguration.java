@@ -25,6 +25,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.convert.DefaultTypeMapper;
 import org.springframework.data.convert.TypeMapper;
@@ -58,10 +59,14 @@ import org.springframework.data.neo4j.support.typerepresentation.ClassValueTypeI
 import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
 import org.springframework.data.neo4j.support.typesafety.TypeSafetyPolicy;
 import org.springframework.data.support.IsNewStrategyFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.PlatformTransactionManager;
 import javax.validation.Validator;
 
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 
@@ -82,6 +87,14 @@ public abstract class Neo4jConfiguration {
     @Autowired(required = false)
     private Validator validator;
 
+    private AsyncTaskExecutor asyncExecutor;
+
+    private TypeRepresentationStrategyFactory.Strategy typeRepresentationStrategy;
+
+    private boolean checkTransactionsOnStartup = true;
+
+    private int indexCreationThreads;
+
     public GraphDatabaseService getGraphDatabaseService() {
         return graphDatabaseService;
     }
@@ -92,6 +105,12 @@ public abstract class Neo4jConfiguration {
         this.conversionService = conversionService;
     }
 
+    @Qualifier("neo4jAsyncExecutor")
+    @Autowired(required = false)
+    public void setAsyncExecutor(AsyncTaskExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
     @Autowired(required = true)
     public void setGraphDatabaseService(GraphDatabaseService graphDatabaseService) {
         this.graphDatabaseService = graphDatabaseService;
@@ -135,7 +154,9 @@ public abstract class Neo4jConfiguration {
 
     @Bean
     public Neo4jTemplate neo4jTemplate() throws Exception {
-        return new Neo4jTemplate(mappingInfrastructure().getObject());
+        final Neo4jTemplate template = new Neo4jTemplate(mappingInfrastructure().getObject());
+        if (asyncExecutor != null) template.setAsyncExecutor(asyncExecutor);
+        return template;
 	}
 
     @Bean
@@ -150,6 +171,9 @@ public abstract class Neo4jConfiguration {
 
     @Bean
     public TypeRepresentationStrategyFactory typeRepresentationStrategyFactory() throws Exception {
+        if (typeRepresentationStrategy != null) {
+            return new TypeRepresentationStrategyFactory(graphDatabase(), typeRepresentationStrategy, indexProvider());
+        }
         return new TypeRepresentationStrategyFactory(graphDatabase(), indexProvider());
     }
 
@@ -245,7 +269,16 @@ public abstract class Neo4jConfiguration {
 
     @Bean
     public IndexCreationMappingEventListener indexCreationMappingEventListener() throws Exception {
-        return new IndexCreationMappingEventListener(indexProvider());
+        final IndexCreationMappingEventListener listener = new IndexCreationMappingEventListener(indexProvider());
+        if (indexCreationThreads > 0) {
+            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("neo4j-index-creation-");
+            threadFactory.setDaemon(true);
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(indexCreationThreads, indexCreationThreads, 10, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            listener.setExecutor(executor);
+        }
+        return listener;
     }
 
     @Bean
@@ -258,7 +291,9 @@ public abstract class Neo4jConfiguration {
 
     @Bean
     public ConfigurationCheck configurationCheck() throws Exception {
-        return new ConfigurationCheck(neo4jTemplate(),neo4jTransactionManager());
+        final ConfigurationCheck configurationCheck = new ConfigurationCheck(neo4jTemplate(), neo4jTransactionManager());
+        configurationCheck.setCheckTransactions(checkTransactionsOnStartup);
+        return configurationCheck;
     }
 
     @Bean
@@ -283,4 +318,39 @@ public abstract class Neo4jConfiguration {
     public void setInitialEntitySet(Set<? extends Class<?>> initialEntitySet) {
    		this.initialEntitySet = initialEntitySet;
    	}
+
+    public TypeRepresentationStrategyFactory.Strategy getTypeRepresentationStrategy() {
+        return typeRepresentationStrategy;
+    }
+
+    /**
+     * @param typeRepresentationStrategy the strategy to use, instead of detecting it from the existing graph at startup
+     */
+    public void setTypeRepresentationStrategy(TypeRepresentationStrategyFactory.Strategy typeRepresentationStrategy) {
+        this.typeRepresentationStrategy = typeRepresentationStrategy;
+    }
+
+    public boolean isCheckTransactionsOnStartup() {
+        return checkTransactionsOnStartup;
+    }
+
+    /**
+     * @param checkTransactionsOnStartup whether the {@link ConfigurationCheck} runs its write transactions, true by default
+     */
+    public void setCheckTransactionsOnStartup(boolean checkTransactionsOnStartup) {
+        this.checkTransactionsOnStartup = checkTransactionsOnStartup;
+    }
+
+    public int getIndexCreationThreads() {
+        return indexCreationThreads;
+    }
+
+    /**
+     * @param indexCreationThreads if positive, the entity indexes are created in the background with that many threads
+     *                             instead of while the mapping context starts up, the refresh of the application
+     *                             context still waits for them
+     */
+    public void setIndexCreationThreads(int indexCreationThreads) {
+        this.indexCreationThreads = indexCreationThreads;
+    }
 }
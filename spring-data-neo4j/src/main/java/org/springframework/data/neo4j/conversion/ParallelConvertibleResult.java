@@ -0,0 +1,47 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/**
+ * An {@link EndResult} whose values can be converted on several threads. The results converted by
+ * {@link QueryResultBuilder} implement it, others e.g. of the REST binding convert the rows themselves and don't.
+ * <pre>
+ * EndResult&lt;Movie&gt; movies = template.query(statement, params).to(Movie.class);
+ * if (movies instanceof ParallelConvertibleResult) movies = ((ParallelConvertibleResult&lt;Movie&gt;) movies).parallel(4);
+ * </pre>
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public interface ParallelConvertibleResult<R> extends EndResult<R> {
+    /**
+     * Same as {@link #parallel(int, boolean)} with ordered delivery.
+     */
+    ParallelConvertibleResult<R> parallel(int threads);
+
+    /**
+     * Opt-in parallel conversion for large results: the rows are read on the consuming thread and converted on a pool of
+     * the given number of worker threads. Each worker converts within its own read transaction and entity cache, so
+     * the same node converted by two workers results in two instances and uncommitted changes of the consuming
+     * thread are not visible.
+     * <p/>
+     * The worker threads are released when the iteration is exhausted, so a result that is not iterated to the end
+     * has to be ended with {@link #finish()}.
+     *
+     * @param ordered whether the converted values are delivered in the order of the rows
+     */
+    ParallelConvertibleResult<R> parallel(int threads, boolean ordered);
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.conversion;
+
+import org.neo4j.helpers.collection.IteratorUtil;
+import org.springframework.data.neo4j.core.UncategorizedGraphStoreException;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Converts the rows of a result on a pool of worker threads. The rows are read on the consuming thread in batches, at
+ * most two batches per worker are in flight. Converted values are delivered in the order of the rows or, unordered, as
+ * soon as their batch is done.
+ * <p/>
+ * Each iteration starts its own pool, which is shut down when the rows are exhausted or the result is finished. An
+ * iteration that is abandoned early has to be ended with {@link #finish()}, otherwise its idle daemon threads only go
+ * away after {@link #IDLE_SECONDS}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class ParallelEndResult<T, R> implements ParallelConvertibleResult<R> {
+    static final int BATCH_SIZE = 100;
+    static final int IDLE_SECONDS = 10;
+
+    private final Iterable<T> rows;
+    private final Class<R> type;
+    private final ResultConverter<T, R> resultConverter;
+    private final MappingPolicy mappingPolicy;
+    private final int threads;
+    private final boolean ordered;
+    private final Runnable closer;
+    private ConvertingIterator running;
+
+    ParallelEndResult(Iterable<T> rows, Class<R> type, ResultConverter<T, R> resultConverter, MappingPolicy mappingPolicy, int threads, boolean ordered, Runnable closer) {
+        if (threads < 1) throw new IllegalArgumentException("At least one conversion thread is required, not " + threads);
+        this.rows = rows;
+        this.type = type;
+        this.resultConverter = resultConverter;
+        this.mappingPolicy = mappingPolicy;
+        this.threads = threads;
+        this.ordered = ordered;
+        this.closer = closer;
+    }
+
+    @Override
+    public ParallelConvertibleResult<R> parallel(int threads) {
+        return parallel(threads, ordered);
+    }
+
+    @Override
+    public ParallelConvertibleResult<R> parallel(int threads, boolean ordered) {
+        return new ParallelEndResult<T, R>(rows, type, resultConverter, mappingPolicy, threads, ordered, closer);
+    }
+
+    @Override
+    public R single() {
+        try {
+            return IteratorUtil.single(iterator());
+        } finally {
+            finish();
+        }
+    }
+
+    @Override
+    public R singleOrNull() {
+        try {
+            return IteratorUtil.singleOrNull(iterator());
+        } finally {
+            finish();
+        }
+    }
+
+    @Override
+    public void handle(Handler<R> handler) {
+        try {
+            for (R value : this) {
+                handler.handle(value);
+            }
+        } finally {
+            finish();
+        }
+    }
+
+    @Override
+    public <C extends Iterable<R>> C as(Class<C> container) {
+        return ContainerConverter.toContainer(container, this);
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        running = new ConvertingIterator(rows.iterator());
+        return running;
+    }
+
+    @Override
+    public void finish() {
+        if (running != null) running.stop();
+        closer.run();
+    }
+
+    private class ConvertingIterator implements Iterator<R> {
+        private final Iterator<T> source;
+        private final ExecutorService executor;
+        private final CompletionService<List<R>> completionService;
+        private final Queue<Future<List<R>>> inFlight = new LinkedList<Future<List<R>>>();
+        private Iterator<R> current = Collections.<R>emptyList().iterator();
+
+        ConvertingIterator(Iterator<T> source) {
+            this.source = source;
+            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("neo4j-conversion-");
+            threadFactory.setDaemon(true);
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, IDLE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), threadFactory);
+            // the threads of an iterator that is neither exhausted nor finished must not stay around
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+            this.completionService = new ExecutorCompletionService<List<R>>(executor);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                submitBatches();
+                if (inFlight.isEmpty()) {
+                    stop();
+                    closer.run();
+                    return false;
+                }
+                current = nextBatch().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return current.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void submitBatches() {
+            while (inFlight.size() < threads * 2 && source.hasNext()) {
+                final List<T> batch = new ArrayList<T>(BATCH_SIZE);
+                while (batch.size() < BATCH_SIZE && source.hasNext()) {
+                    batch.add(source.next());
+                }
+                final Callable<List<R>> conversion = new Callable<List<R>>() {
+                    public List<R> call() throws Exception {
+                        return convertInWorker(batch);
+                    }
+                };
+                // only unordered delivery goes through the completion queue, otherwise it would keep all batches
+                inFlight.add(ordered ? executor.submit(conversion) : completionService.submit(conversion));
+            }
+        }
+
+        private List<R> nextBatch() {
+            try {
+                final Future<List<R>> done = ordered ? inFlight.peek() : completionService.take();
+                final List<R> converted = done.get();
+                inFlight.remove(done);
+                return converted;
+            } catch (InterruptedException e) {
+                stop();
+                Thread.currentThread().interrupt();
+                throw new UncategorizedGraphStoreException("Interrupted while converting the result to " + type, e);
+            } catch (ExecutionException e) {
+                stop();
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new UncategorizedGraphStoreException("Error converting the result to " + type, cause);
+            }
+        }
+
+        void stop() {
+            for (Future<List<R>> future : inFlight) {
+                future.cancel(true);
+            }
+            inFlight.clear();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<R> convertInWorker(final List<T> batch) throws Exception {
+        final Callable<List<R>> conversion = new Callable<List<R>>() {
+            public List<R> call() {
+                final List<R> converted = new ArrayList<R>(batch.size());
+                for (T row : batch) {
+                    converted.add(resultConverter.convert(row, type, mappingPolicy));
+                }
+                return converted;
+            }
+        };
+        if (resultConverter instanceof ParallelResultConverter) {
+            return ((ParallelResultConverter) resultConverter).convertInWorker(conversion);
+        }
+        return conversion.call();
+    }
+}
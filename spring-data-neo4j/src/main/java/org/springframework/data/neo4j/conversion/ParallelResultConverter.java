@@ -0,0 +1,30 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.conversion;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Implemented by {@link ResultConverter}s that need a per thread setup when they convert in parallel
+ * ({@link ParallelConvertibleResult#parallel(int, boolean)}), e.g. a transaction or an entity cache. Each batch of rows is converted
+ * within {@link #convertInWorker} on one of the worker threads.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public interface ParallelResultConverter {
+    <V> V convertInWorker(Callable<V> batch) throws Exception;
+}
@@ -49,7 +49,7 @@ public class QueryResultBuilder<T> implements Result<T> {
 
     @SuppressWarnings("unchecked")
     @Override
-    public <R> EndResult<R> to(Class<R> type) {
+    public <R> ParallelConvertibleResult<R> to(Class<R> type) {
         return this.to(type, defaultConverter);
     }
 
@@ -77,8 +77,8 @@ public class QueryResultBuilder<T> implements Result<T> {
     }
 
     @Override
-    public <R> EndResult<R> to(final Class<R> type, final ResultConverter<T, R> resultConverter) {
-        return new EndResult<R>() {
+    public <R> ParallelConvertibleResult<R> to(final Class<R> type, final ResultConverter<T, R> resultConverter) {
+        return new ParallelConvertibleResult<R>() {
             @Override
             public R single() {
                 try {
@@ -132,6 +132,20 @@ public class QueryResultBuilder<T> implements Result<T> {
             {
                 closeIfNeeded();
             }
+
+            @Override
+            public ParallelConvertibleResult<R> parallel(int threads) {
+                return parallel(threads, true);
+            }
+
+            @Override
+            public ParallelConvertibleResult<R> parallel(int threads, boolean ordered) {
+                return new ParallelEndResult<T, R>(result, type, resultConverter, mappingPolicy, threads, ordered, new Runnable() {
+                    public void run() {
+                        closeIfNeeded();
+                    }
+                });
+            }
         };
     }
 
@@ -41,6 +41,9 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     protected final static Logger log= LoggerFactory.getLogger(DefaultEntityState.class);
     private final FieldAccessorFactoryProviders<Object> fieldAccessorFactoryProviders;
     protected final Neo4jPersistentEntity<?> persistentEntity;
+    private boolean cacheValues;
+    private Object cacheScope;
+    private Map<Neo4jPersistentProperty, Object> cachedValues;
 
     public DefaultEntityState(final STATE underlyingState, final Object entity, final Class<?> type, final DelegatingFieldAccessorFactory delegatingFieldAccessorFactory, Neo4jPersistentEntity<?> persistentEntity) {
         this.state = underlyingState;
@@ -67,6 +70,7 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     @Override
     public void setPersistentState(final STATE state) {
         this.state = state;
+        clearCachedValues();
     }
 
     @Override
@@ -94,7 +98,48 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     public Object getValue(final Neo4jPersistentProperty property, MappingPolicy mappingPolicy) {
         final FieldAccessor accessor = accessorFor(property);
         if (accessor == null) return null;
-        else return accessor.getValue(entity, mappingPolicy);
+        if (!isCacheable(accessor)) return accessor.getValue(entity, mappingPolicy);
+        final Map<Neo4jPersistentProperty, Object> cache = valueCache();
+        if (cache == null) return accessor.getValue(entity, mappingPolicy);
+        if (cache.containsKey(property)) return cache.get(property);
+        final Object value = accessor.getValue(entity, mappingPolicy);
+        cache.put(property, value);
+        return value;
+    }
+
+    /**
+     * Only simple property values are cached and only if enabled. Writes through this entity invalidate them, but
+     * changes of the underlying node or relationship made through the Neo4j API, the template, cypher or another
+     * entity instance are not seen until the transaction ends.
+     */
+    private boolean isCacheable(FieldAccessor accessor) {
+        return cacheValues && accessor instanceof PropertyFieldAccessorFactory.PropertyFieldAccessor && hasPersistentState();
+    }
+
+    /**
+     * @param cacheValues keep simple property values read within a Spring managed transaction, false by default
+     */
+    public void setCacheValues(boolean cacheValues) {
+        this.cacheValues = cacheValues;
+        if (!cacheValues) clearCachedValues();
+    }
+
+    /**
+     * @return the values read in the current transaction, null if there is no Spring managed transaction
+     */
+    private Map<Neo4jPersistentProperty, Object> valueCache() {
+        final Object scope = TransactionScope.current();
+        if (scope == null) return null;
+        if (scope != cacheScope || cachedValues == null) {
+            cacheScope = scope;
+            cachedValues = new HashMap<Neo4jPersistentProperty, Object>();
+        }
+        return cachedValues;
+    }
+
+    protected void clearCachedValues() {
+        cachedValues = null;
+        cacheScope = null;
     }
 
     @Override
@@ -110,6 +155,7 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     @Override
     public Object setValue(final Neo4jPersistentProperty property, final Object newVal, MappingPolicy mappingPolicy) {
         final FieldAccessor accessor = accessorFor(property);
+        if (cachedValues != null) cachedValues.remove(property);
         final Object result=accessor!=null ? accessor.setValue(entity, newVal, mappingPolicy) : newVal;
         notifyListeners(property, result);
         return result;
@@ -124,6 +170,8 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
 	}
 
     protected Neo4jPersistentProperty property(Field field) {
+        final Neo4jPersistentProperty property = fieldAccessorFactoryProviders != null ? fieldAccessorFactoryProviders.getProperty(field) : null;
+        if (property != null) return property;
         return persistentEntity.getPersistentProperty(field.getName());
     }
 
@@ -18,15 +18,14 @@ package org.springframework.data.neo4j.fieldaccess;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.mapping.Association;
-import org.springframework.data.mapping.AssociationHandler;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.util.TypeInformation;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 public abstract class DelegatingFieldAccessorFactory implements FieldAccessorFactory {
@@ -98,35 +97,21 @@ public abstract class DelegatingFieldAccessorFactory implements FieldAccessorFac
 
 
 
-    private final Map<TypeInformation<?>, FieldAccessorFactoryProviders> accessorFactoryProviderCache = new HashMap<TypeInformation<?>, FieldAccessorFactoryProviders>();
+    private final ConcurrentMap<TypeInformation<?>, FieldAccessorFactoryProviders> accessorFactoryProviderCache = new ConcurrentHashMap<TypeInformation<?>, FieldAccessorFactoryProviders>();
 
     @SuppressWarnings("unchecked")
     public <T> FieldAccessorFactoryProviders<T> accessorFactoriesFor(final Neo4jPersistentEntity<?> type) {
-        synchronized (this) {
-            final TypeInformation<?> typeInformation = type.getTypeInformation();
-            final FieldAccessorFactoryProviders<T> fieldAccessorFactoryProviders = accessorFactoryProviderCache.get(typeInformation);
-            if (fieldAccessorFactoryProviders != null) return fieldAccessorFactoryProviders;
-            final FieldAccessorFactoryProviders<T> newFieldAccessorFactories = new FieldAccessorFactoryProviders<T>();
-            type.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithPersistentProperty(Neo4jPersistentProperty property) {
-                    final FieldAccessorFactory factory = factoryForField(property);
-                    final List<FieldAccessorListenerFactory> listenerFactories = getFieldAccessListenerFactories(property);
-                    newFieldAccessorFactories.add(property, factory, listenerFactories);
-                }
-            });
-            type.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
-                    final Neo4jPersistentProperty property = association.getInverse();
-                    final FieldAccessorFactory factory = factoryForField(property);
-                    final List<FieldAccessorListenerFactory> listenerFactories = getFieldAccessListenerFactories(property);
-                    newFieldAccessorFactories.add(property, factory, listenerFactories);
-                }
-            });
-            accessorFactoryProviderCache.put(typeInformation, newFieldAccessorFactories);
-            return newFieldAccessorFactories;
+        final TypeInformation<?> typeInformation = type.getTypeInformation();
+        final FieldAccessorFactoryProviders<T> fieldAccessorFactoryProviders = accessorFactoryProviderCache.get(typeInformation);
+        if (fieldAccessorFactoryProviders != null) return fieldAccessorFactoryProviders;
+        final FieldAccessorFactoryProviders<T> newFieldAccessorFactories = new FieldAccessorFactoryProviders<T>();
+        for (Neo4jPersistentProperty property : type.getMappedProperties()) {
+            final FieldAccessorFactory factory = factoryForField(property);
+            final List<FieldAccessorListenerFactory> listenerFactories = getFieldAccessListenerFactories(property);
+            newFieldAccessorFactories.add(property, factory, listenerFactories);
         }
+        final FieldAccessorFactoryProviders<T> existing = accessorFactoryProviderCache.putIfAbsent(typeInformation, newFieldAccessorFactories);
+        return existing != null ? existing : newFieldAccessorFactories;
     }
 
-}
\ No newline at end of file
+}
@@ -24,11 +24,14 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ObjectUtils;
 
 import java.lang.reflect.Field;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.springframework.data.neo4j.support.DoReturn.unwrap;
@@ -44,11 +47,22 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
     protected final EntityState<STATE> delegate;
     private Neo4jTemplate template;
     private Neo4jPersistentEntity<?> persistentEntity;
+    private final boolean writeBehind;
+    private Map<Neo4jPersistentProperty, ExistingValue> buffered;
 
     public DetachedEntityState(final EntityState<STATE> delegate, Neo4jTemplate template) {
+        this(delegate, template, false);
+    }
+
+    /**
+     * @param writeBehind if true, writes of simple properties within a Spring managed transaction are buffered in the
+     *                    entity and written to the graph once, on {@link #persist()} or before the transaction commits
+     */
+    public DetachedEntityState(final EntityState<STATE> delegate, Neo4jTemplate template, boolean writeBehind) {
         this.delegate = delegate;
         this.persistentEntity = delegate.getPersistentEntity();
         this.template = template;
+        this.writeBehind = writeBehind;
     }
 
     @Override
@@ -98,8 +112,8 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
                 }
                 return defaultValue;
             }
-        } else {
-//            flushDirty();
+        } else if (isBuffered(property)) {
+            return getValueFromEntity(property, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
         }
         return delegate.getValue(property, mappingPolicy);
     }
@@ -161,9 +175,64 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
             }
             return newVal;
         }
-        // flushDirty();
+        if (mayBuffer(property)) {
+            if (!isBuffered(property)) {
+                addBuffered(property, unwrap(delegate.getValue(property, MappingPolicy.MAP_FIELD_DIRECT_POLICY)));
+            }
+            return newVal;
+        }
         return delegate.setValue(property, newVal, mappingPolicy);
     }
+
+    /**
+     * Relationship and dynamic property fields are always written through, as their values are replaced by managed
+     * collections, entities or property containers on write.
+     */
+    private boolean mayBuffer(Neo4jPersistentProperty property) {
+        return writeBehind && property != null && !property.isRelationship()
+                && !DynamicProperties.class.isAssignableFrom(property.getType()) && isWritable(property)
+                && TransactionSynchronizationManager.isSynchronizationActive();
+    }
+
+    private boolean isBuffered(Neo4jPersistentProperty property) {
+        return buffered != null && buffered.containsKey(property);
+    }
+
+    private void addBuffered(Neo4jPersistentProperty property, Object previousValue) {
+        if (buffered == null) {
+            buffered = new LinkedHashMap<Neo4jPersistentProperty, ExistingValue>();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    flushBuffered();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    buffered = null;
+                }
+            });
+        }
+        buffered.put(property, new ExistingValue(previousValue, true));
+    }
+
+    /**
+     * Writes the buffered values with a single write (and index and validation round) per property.
+     */
+    private void flushBuffered() {
+        if (buffered == null || buffered.isEmpty()) return;
+        final Object entity = getEntity();
+        final Map<Neo4jPersistentProperty, ExistingValue> bufferedCopy = new LinkedHashMap<Neo4jPersistentProperty, ExistingValue>(buffered);
+        for (final Map.Entry<Neo4jPersistentProperty, ExistingValue> entry : bufferedCopy.entrySet()) {
+            final Neo4jPersistentProperty property = entry.getKey();
+            final Object valueFromEntity = getValueFromEntity(property, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
+            if (log.isDebugEnabled()) log.debug("Flushing buffered entity " + entity + " field " + property + " with value " + valueFromEntity);
+            final MappingPolicy mappingPolicy = property.getMappingPolicy();
+            checkConcurrentModification(entity, entry, property, mappingPolicy);
+            delegate.setValue(property, valueFromEntity, mappingPolicy);
+            buffered.remove(property);
+        }
+    }
 	@Override
 	public Object getDefaultValue(Neo4jPersistentProperty property) {
         return delegate.getDefaultValue(property);
@@ -266,7 +335,10 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
     // todo always create an transaction for persist, atomic operation when no outside tx exists
     @Override
     public Object persist() {
-        if (!isDetached()) return getEntity();
+        if (!isDetached()) {
+            flushBuffered();
+            return getEntity();
+        }
         Transaction tx = template.getGraphDatabase().beginTx();
         try {
             Object result = delegate.persist();
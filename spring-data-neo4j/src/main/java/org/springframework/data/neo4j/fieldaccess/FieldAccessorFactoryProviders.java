@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.fieldaccess;
 
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -63,6 +64,7 @@ public class FieldAccessorFactoryProviders<T> {
 
     private final List<FieldAccessorFactoryProvider<T>> fieldAccessorFactoryProviders = new ArrayList<FieldAccessorFactoryProvider<T>>();
     private Neo4jPersistentProperty idProperty;
+    private final Map<Field, Neo4jPersistentProperty> propertiesByField = new HashMap<Field, Neo4jPersistentProperty>();
 
     FieldAccessorFactoryProviders() {}
 
@@ -92,6 +94,14 @@ public class FieldAccessorFactoryProviders<T> {
     public void add(Neo4jPersistentProperty property, FieldAccessorFactory fieldAccessorFactory, List<FieldAccessorListenerFactory> listenerFactories) {
         fieldAccessorFactoryProviders.add(new FieldAccessorFactoryProvider(property, fieldAccessorFactory, listenerFactories));
         if (property.isIdProperty()) this.idProperty = property;
+        if (property.getField() != null) propertiesByField.put(property.getField(), property);
+    }
+
+    /**
+     * @return the property mapped to the field, or null if the field is not a property of this entity type
+     */
+    public Neo4jPersistentProperty getProperty(Field field) {
+        return propertiesByField.get(field);
     }
 
     public Neo4jPersistentProperty getIdProperty() {
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.fieldaccess.RelatedToCollectionFieldAccessorFactory.RelatedToCollectionFieldAccessor;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Placeholder for a lazy {@link org.springframework.data.neo4j.annotation.RelatedTo} collection, the relationships are
+ * only read from the graph on first access. After that it behaves like a {@link ManagedFieldAccessorSet}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class LazyManagedSet<T> extends AbstractSet<T> {
+    private final Object entity;
+    private final RelatedToCollectionFieldAccessor accessor;
+    private final MappingPolicy mappingPolicy;
+    private Set<T> delegate;
+
+    public LazyManagedSet(Object entity, RelatedToCollectionFieldAccessor accessor, MappingPolicy mappingPolicy) {
+        this.entity = entity;
+        this.accessor = accessor;
+        this.mappingPolicy = mappingPolicy;
+    }
+
+    public boolean isInitialized() {
+        return delegate != null;
+    }
+
+    boolean isUntouchedPlaceholderFor(Object entity) {
+        return this.entity == entity && !isInitialized();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<T> delegate() {
+        if (delegate == null) {
+            delegate = (Set<T>) accessor.loadManagedSet(entity, mappingPolicy);
+        }
+        return delegate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initializeFrom(List<Node> endNodes) {
+        delegate = (Set<T>) accessor.createManagedSetFromEndNodes(entity, endNodes, mappingPolicy);
+    }
+
+    /**
+     * Initializes all the given sets that are not yet initialized with a single query. All sets have to belong to the
+     * same property. Several sets of the same node, e.g. of entities loaded more than once, are all initialized.
+     */
+    public static void initializeAll(Collection<? extends LazyManagedSet<?>> sets) {
+        final Map<Long, List<LazyManagedSet<?>>> setsByNodeId = new LinkedHashMap<Long, List<LazyManagedSet<?>>>(sets.size());
+        RelatedToCollectionFieldAccessor accessor = null;
+        for (LazyManagedSet<?> set : sets) {
+            if (set.isInitialized()) continue;
+            accessor = set.accessor;
+            final Long nodeId = accessor.checkAndGetNode(set.entity).getId();
+            List<LazyManagedSet<?>> nodeSets = setsByNodeId.get(nodeId);
+            if (nodeSets == null) setsByNodeId.put(nodeId, nodeSets = new ArrayList<LazyManagedSet<?>>(1));
+            nodeSets.add(set);
+        }
+        if (accessor == null) return;
+        final Map<Long, List<Node>> endNodes = accessor.relationshipHelper.getOtherNodesByStartNodeId(setsByNodeId.keySet());
+        for (Map.Entry<Long, List<LazyManagedSet<?>>> entry : setsByNodeId.entrySet()) {
+            for (LazyManagedSet<?> set : entry.getValue()) {
+                set.initializeFrom(endNodes.get(entry.getKey()));
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return delegate().iterator();
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate().contains(o);
+    }
+
+    @Override
+    public boolean add(T t) {
+        return delegate().add(t);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return delegate().remove(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return delegate().removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return delegate().retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        delegate().clear();
+    }
+
+    @Override
+    public String toString() {
+        return isInitialized() ? delegate.toString() : "LazyManagedSet[uninitialized " + accessor.property.getName() + "]";
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing set of node or relationship ids (which are never negative), avoids boxing the ids and the entry
+ * objects of a {@link java.util.HashSet} when large relationship collections are compared. Free slots are marked with
+ * -1, so negative ids are rejected by all operations.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+final class LongIdSet {
+    private static final long FREE = -1;
+
+    private long[] ids;
+    private int size;
+    private int mask;
+
+    LongIdSet(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) capacity <<= 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        Arrays.fill(ids, FREE);
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long id) {
+        checkId(id);
+        int slot = slot(id);
+        while (ids[slot] != FREE) {
+            if (ids[slot] == id) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the id was not contained yet
+     */
+    public boolean add(long id) {
+        checkId(id);
+        int slot = slot(id);
+        while (ids[slot] != FREE) {
+            if (ids[slot] == id) return false;
+            slot = (slot + 1) & mask;
+        }
+        ids[slot] = id;
+        if (++size * 2 > ids.length) grow();
+        return true;
+    }
+
+    /**
+     * @return true if the id was contained
+     */
+    public boolean remove(long id) {
+        checkId(id);
+        int slot = slot(id);
+        while (ids[slot] != id) {
+            if (ids[slot] == FREE) return false;
+            slot = (slot + 1) & mask;
+        }
+        ids[slot] = FREE;
+        size--;
+        // shift the following entries of the probe sequence back, so lookups don't stop at the gap
+        int next = (slot + 1) & mask;
+        while (ids[next] != FREE) {
+            final long moved = ids[next];
+            ids[next] = FREE;
+            size--;
+            add(moved);
+            next = (next + 1) & mask;
+        }
+        return true;
+    }
+
+    private static void checkId(long id) {
+        if (id < 0) throw new IllegalArgumentException("Ids must not be negative: " + id);
+    }
+
+    private void grow() {
+        final long[] old = ids;
+        allocate(old.length * 2);
+        size = 0;
+        for (long id : old) {
+            if (id != FREE) add(id);
+        }
+    }
+
+    private int slot(long id) {
+        final long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.data.neo4j.fieldaccess.RelatedToCollectionFieldAccessorFactory.RelatedToCollectionFieldAccessor;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * View of an ordered or paged {@link org.springframework.data.neo4j.annotation.RelatedTo} collection. Only one page of
+ * related entities is held at a time, it is read with a cypher query when an element outside of it is accessed. The
+ * size is counted with a query as well. Adding and removing elements creates and deletes the relationships right away,
+ * so saving the entity has nothing left to write for an unchanged view.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class PagedRelatedCollection<T> extends AbstractList<T> {
+    private final Object entity;
+    private final RelatedToCollectionFieldAccessor accessor;
+    private final MappingPolicy mappingPolicy;
+    private final int pageSize;
+    private int pageNumber = -1;
+    private List<T> page;
+    private int size = -1;
+
+    public PagedRelatedCollection(Object entity, RelatedToCollectionFieldAccessor accessor, MappingPolicy mappingPolicy) {
+        this.entity = entity;
+        this.accessor = accessor;
+        this.mappingPolicy = mappingPolicy;
+        this.pageSize = accessor.property.getRelationshipInfo().getPageSize();
+    }
+
+    boolean isViewOf(Object entity) {
+        return this.entity == entity;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the related entities of the given (zero based) page
+     */
+    public List<T> getPage(int pageNumber) {
+        if (pageNumber != this.pageNumber) {
+            page = accessor.loadPage(entity, pageNumber * pageSize, pageSize, mappingPolicy);
+            this.pageNumber = pageNumber;
+        }
+        return page;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0) throw new IndexOutOfBoundsException("Index: " + index);
+        final List<T> current = getPage(index / pageSize);
+        final int offset = index % pageSize;
+        if (offset >= current.size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return current.get(offset);
+    }
+
+    @Override
+    public int size() {
+        if (size == -1) {
+            size = (int) accessor.countRelated(entity);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        final Node other = accessor.stateOf(o);
+        return other != null && !accessor.relationshipsBetween(entity, other).isEmpty();
+    }
+
+    @Override
+    public boolean add(T value) {
+        if (contains(value)) return false;
+        accessor.relate(entity, value);
+        modified();
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("The order of " + accessor.property.getName() + " is defined by the query, use add(element)");
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        final Node other = accessor.stateOf(o);
+        if (other == null) return false;
+        final List<Relationship> relationships = accessor.relationshipsBetween(entity, other);
+        if (relationships.isEmpty()) return false;
+        accessor.delete(relationships);
+        modified();
+        return true;
+    }
+
+    @Override
+    public T remove(int index) {
+        final T value = get(index);
+        remove(value);
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        accessor.delete(accessor.allRelationships(entity));
+        modified();
+    }
+
+    private void modified() {
+        pageNumber = -1;
+        page = null;
+        size = -1;
+        modCount++;
+    }
+
+    @Override
+    public String toString() {
+        return "PagedRelatedCollection[" + accessor.property.getName() + ", page " + pageNumber + " of size " + pageSize + "]";
+    }
+}
@@ -16,15 +16,19 @@
 package org.springframework.data.neo4j.fieldaccess;
 
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Array;
 import java.util.*;
 
-import static java.util.Arrays.asList;
-
 /**
+ * Converts property values between their field and their graph representation. Everything that only depends on the
+ * property (type descriptors, element types, the kind of collection) is resolved once when the converter is created,
+ * so converting a value costs a single conversion service lookup per (element) value and no intermediate collections.
+ *
  * @author mh
  * @since 05.11.11
  */
@@ -33,69 +37,138 @@ public class PropertyConverter {
     private final Neo4jPersistentProperty property;
     private final TypeInformation<?> typeInformation;
     private final Class<?> targetType;
+    private final boolean collectionLike;
+    private final boolean objectType;
+    private final Conversion toTarget;
+    private final Conversion toField;
+    private final Conversion toElement;
+    private final Class<?> elementType;
+    private final Class<?> fieldType;
 
     public PropertyConverter(ConversionService conversionService, Neo4jPersistentProperty property) {
         this.conversionService = conversionService;
         this.property = property;
         this.typeInformation = property.getTypeInformation();
         targetType = property.getPropertyType();
+        fieldType = typeInformation.getType();
+        elementType = typeInformation.getActualType().getType();
+        collectionLike = typeInformation.isCollectionLike();
+        objectType = property.getType().equals(Object.class);
+        toTarget = new Conversion(conversionService, targetType);
+        toField = new Conversion(conversionService, fieldType);
+        toElement = new Conversion(conversionService, elementType);
     }
 
     public Object serializePropertyValue(final Object newVal) {
         if (newVal == null) return null;
-        final TypeInformation<?> typeInformation = property.getTypeInformation();
-        if (typeInformation.isCollectionLike()) {
-            return serializeCollection(newVal, conversionService, typeInformation, targetType);
+        if (collectionLike) {
+            return serializeCollection(newVal);
         }
-        return conversionService.convert(newVal, targetType);
+        return toTarget.convert(newVal);
     }
 
     public Object deserializePropertyValue(final Object newVal) {
         if (newVal == null) return null;
-        if (typeInformation.isCollectionLike() && isCollectionLike(newVal)) {
-            return deserializeCollection(newVal, conversionService, typeInformation);
+        if (collectionLike && isCollectionLike(newVal)) {
+            return deserializeCollection(newVal);
         }
-        return conversionService.convert(newVal, typeInformation.getType());
+        return toField.convert(newVal);
     }
 
     private boolean isCollectionLike(Object val) {
-        return val != null && (val.getClass().isArray() || Collection.class.isAssignableFrom(val.getClass()));
+        return val != null && (val.getClass().isArray() || val instanceof Collection);
     }
 
-    private Object serializeCollection(Object newVal, ConversionService conversionService, TypeInformation<?> typeInformation, final Class<?> targetType) {
-        final List<Object> values = convertCollection(conversionService, targetType, toCollection(newVal));
-        return values.toArray((Object[]) Array.newInstance(targetType, values.size()));
+    private Object serializeCollection(Object newVal) {
+        if (newVal.getClass().isArray()) {
+            final int length = Array.getLength(newVal);
+            final Object result = Array.newInstance(targetType, length);
+            for (int i = 0; i < length; i++) {
+                Array.set(result, i, toTarget.convert(Array.get(newVal, i)));
+            }
+            return result;
+        }
+        final Collection<?> values = toCollection(newVal);
+        final Object result = Array.newInstance(targetType, values.size());
+        int i = 0;
+        for (Object value : values) {
+            Array.set(result, i++, toTarget.convert(value));
+        }
+        return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private Object deserializeCollection(Object newVal, ConversionService conversionService, TypeInformation<?> typeInformation) {
-        final Class<?> actualType = typeInformation.getActualType().getType();
-        final List<Object> result = convertCollection(conversionService, actualType, toCollection(newVal));
-        final Class<?> fieldType = typeInformation.getType();
+    private Object deserializeCollection(Object newVal) {
+        final boolean array = newVal.getClass().isArray();
+        final int size = array ? Array.getLength(newVal) : ((Collection<?>) newVal).size();
         if (fieldType.isArray()) {
-            return result.toArray((Object[]) Array.newInstance(actualType, result.size()));
+            final Object result = Array.newInstance(elementType, size);
+            int i = 0;
+            if (array) {
+                for (; i < size; i++) {
+                    Array.set(result, i, toElement.convert(Array.get(newVal, i)));
+                }
+            } else {
+                for (Object value : (Collection<?>) newVal) {
+                    Array.set(result, i++, toElement.convert(value));
+                }
+            }
+            return result;
+        }
+        final Collection<Object> result = Set.class.isAssignableFrom(fieldType) ? new LinkedHashSet<Object>(size * 4 / 3 + 1) : new ArrayList<Object>(size);
+        if (array) {
+            for (int i = 0; i < size; i++) {
+                result.add(toElement.convert(Array.get(newVal, i)));
+            }
+        } else {
+            for (Object value : (Collection<?>) newVal) {
+                result.add(toElement.convert(value));
+            }
         }
-        if (Set.class.isAssignableFrom(fieldType)) return new LinkedHashSet<Object>(result);
         return result;
     }
 
-    private List<Object> convertCollection(ConversionService conversionService, Class<?> targetType, Iterable<?> values) {
+    private Collection<?> toCollection(Object newVal) {
+        if (newVal instanceof Collection) return (Collection<?>) newVal;
         final List<Object> result = new ArrayList<Object>();
-        for (Object value : values) {
-            result.add(conversionService.convert(value, targetType));
+        for (Object value : (Iterable<?>) newVal) {
+            result.add(value);
         }
         return result;
     }
 
-    private Iterable<?> toCollection(Object newVal) {
-        if (newVal.getClass().isArray()) {
-            return asList((Object[]) newVal);
-        } else {
-            return (Iterable<?>) newVal;
-        }
-    }
-
     boolean isObjectOrSupportedType(final Object value, Neo4jPersistentProperty property) {
+        if (property == this.property) return objectType && property.isNeo4jPropertyValue(value);
         return property.getType().equals(Object.class) && property.isNeo4jPropertyValue(value);
     }
+
+    /**
+     * Conversion to a fixed target type. Values that already are of the target type (or its wrapper, for primitives)
+     * are returned as is, otherwise the source descriptor of the last seen value type is reused, as property values of
+     * one field almost always have the same type.
+     */
+    static final class Conversion {
+        private final ConversionService conversionService;
+        private final Class<?> targetType;
+        private final TypeDescriptor targetDescriptor;
+        private volatile TypeDescriptor lastSourceDescriptor;
+
+        Conversion(ConversionService conversionService, Class<?> targetType) {
+            this.conversionService = conversionService;
+            this.targetType = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+            this.targetDescriptor = TypeDescriptor.valueOf(targetType);
+        }
+
+        Object convert(Object value) {
+            if (value == null || targetType.isInstance(value) || conversionService == null) return value;
+            return conversionService.convert(value, sourceDescriptor(value.getClass()), targetDescriptor);
+        }
+
+        private TypeDescriptor sourceDescriptor(Class<?> sourceType) {
+            final TypeDescriptor last = lastSourceDescriptor;
+            if (last != null && last.getType() == sourceType) return last;
+            final TypeDescriptor descriptor = TypeDescriptor.valueOf(sourceType);
+            lastSourceDescriptor = descriptor;
+            return descriptor;
+        }
+    }
 }
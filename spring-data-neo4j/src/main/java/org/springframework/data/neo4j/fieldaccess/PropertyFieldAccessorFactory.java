@@ -51,12 +51,14 @@ public class PropertyFieldAccessorFactory implements FieldAccessorFactory {
         protected final Neo4jPersistentProperty property;
         protected final String propertyName;
         protected final Class<?> fieldType;
+        private final PropertyConverter.Conversion conversion;
 
         public PropertyFieldAccessor(Neo4jTemplate template, Neo4jPersistentProperty property) {
             this.template = template;
             this.property = property;
             this.propertyName = property.getNeo4jPropertyName();
             this.fieldType = property.getType() ;
+            this.conversion = new PropertyConverter.Conversion(template.getConversionService(), fieldType);
         }
 
         @Override
@@ -82,19 +84,14 @@ public class PropertyFieldAccessorFactory implements FieldAccessorFactory {
 
         protected Object doGetValue(final Object entity) {
             PropertyContainer element = template.getPersistentState(entity);
-            if (element.hasProperty(propertyName)) {
-                Object value = element.getProperty(propertyName);
-                if (value == null || fieldType.isInstance(value)) return value;
-                return convertSimplePropertyValue(value);
-            }
-            return getDefaultValue(fieldType);
+            // graph properties are never null, so a single lookup replaces hasProperty + getProperty
+            final Object value = element.getProperty(propertyName, null);
+            if (value == null) return getDefaultValue(fieldType);
+            return convertSimplePropertyValue(value);
         }
 
         protected Object convertSimplePropertyValue(Object value) {
-            if (template.getConversionService() !=null) {
-                return template.getConversionService().convert(value, fieldType);
-            }
-            return value;
+            return conversion.convert(value);
         }
 
         private Object getDefaultValue(final Class<?> type) {
@@ -28,13 +28,24 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 import org.springframework.data.util.TypeInformation;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.springframework.data.neo4j.support.DoReturn.doReturn;
 
 public class QueryFieldAccessorFactory implements FieldAccessorFactory {
     private final Neo4jTemplate template;
+    private final ConcurrentMap<Neo4jPersistentProperty, QueryFieldAccessor> accessors = new ConcurrentHashMap<Neo4jPersistentProperty, QueryFieldAccessor>();
 
     public QueryFieldAccessorFactory(Neo4jTemplate template) {
         this.template = template;
@@ -48,7 +59,11 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
 
     @Override
     public FieldAccessor forField(final Neo4jPersistentProperty property) {
-        return new QueryFieldAccessor(property, template);
+        final QueryFieldAccessor accessor = accessors.get(property);
+        if (accessor != null) return accessor;
+        final QueryFieldAccessor newAccessor = new QueryFieldAccessor(property, template);
+        final QueryFieldAccessor existing = accessors.putIfAbsent(property, newAccessor);
+        return existing != null ? existing : newAccessor;
     }
 
 	/**
@@ -56,6 +71,13 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
 	 * @since 12.09.2010
 	 */
 	public static class QueryFieldAccessor implements FieldAccessor {
+        static final int MAX_CACHED_RESULTS = 1000;
+        private static final String SELF_COLUMN = "__self";
+        private static final Pattern SELF_START = Pattern.compile("(?i)\\bstart\\s+(\\w+)\\s*=\\s*node\\(\\s*\\{self\\}\\s*\\)");
+        private static final Pattern NOT_BATCHABLE = Pattern.compile("(?i)\\b(with|skip|limit|union)\\b");
+        private static final Pattern RETURN = Pattern.compile("(?i)\\breturn\\s+(distinct\\s+)?");
+        private static final Pattern AGGREGATE = Pattern.compile("(?i)\\b(count|sum|avg|min|max|collect|stdevp?|percentile_(cont|disc))\\s*\\(");
+
 	    protected final Neo4jPersistentProperty property;
         private final Neo4jTemplate template;
         private final String query;
@@ -63,6 +85,14 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
         protected String[] annotationParams;
         private boolean iterableResult;
         private final QueryEngine<Object> queryEngine;
+        private final Map<String, Object> staticParams;
+        private final Class<?> targetType;
+        private final boolean mapResult;
+        private final boolean collectionResult;
+        private final boolean cacheResults;
+        private final long cacheTtl;
+        private final String batchQuery;
+        private final boolean aggregating;
 
         public QueryFieldAccessor(final Neo4jPersistentProperty property, Neo4jTemplate template) {
 	        this.property = property;
@@ -76,6 +106,16 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
             this.iterableResult = Iterable.class.isAssignableFrom(property.getType());
             this.target = resolveTarget(query,property);
             queryEngine = this.template.queryEngineFor(QueryType.Cypher);
+            this.staticParams = createStaticParams();
+            final TypeInformation<?> typeInformation = property.getTypeInformation();
+            final TypeInformation<?> actualType = typeInformation.getActualType();
+            this.targetType = actualType.getType();
+            this.mapResult = actualType.isMap();
+            this.collectionResult = typeInformation.isCollectionLike();
+            this.cacheResults = query.cacheResults();
+            this.cacheTtl = query.cacheTtl();
+            this.batchQuery = createBatchQuery(this.query);
+            this.aggregating = isAggregating(this.query);
         }
 
         private Class<?> resolveTarget(Query query, Neo4jPersistentProperty property) {
@@ -83,6 +123,31 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
             return property.getTypeInformation().getActualType().getType();
         }
 
+        /**
+         * @return the query with the id of the start node as additional first return column, to run it for several
+         * start nodes at once, or null if the query doesn't start with node({self}) or uses clauses that would be
+         * applied across start nodes
+         */
+        static String createBatchQuery(String query) {
+            if (query == null || query.indexOf("{self}") != query.lastIndexOf("{self}")) return null;
+            final Matcher start = SELF_START.matcher(query);
+            if (!start.find() || NOT_BATCHABLE.matcher(query).find()) return null;
+            final Matcher returnClause = RETURN.matcher(query);
+            if (!returnClause.find(start.end())) return null;
+            final int insertAt = returnClause.end();
+            return query.substring(0, insertAt) + "id(" + start.group(1) + ") as " + SELF_COLUMN + ", " + query.substring(insertAt);
+        }
+
+        /**
+         * @return true if the return clause of the query aggregates, then it returns a row even without matches, which
+         * the batch query doesn't for the start nodes without matches
+         */
+        static boolean isAggregating(String query) {
+            if (query == null) return false;
+            final Matcher returnClause = RETURN.matcher(query);
+            return returnClause.find() && AGGREGATE.matcher(query.substring(returnClause.end())).find();
+        }
+
         @Override
 	    public boolean isWriteable(Object entity) {
 	        return false;
@@ -95,37 +160,143 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
 
 	    @Override
 	    public Object getValue(final Object entity, MappingPolicy mappingPolicy) {
-            return doReturn(executeQuery(entity, this.query, createPlaceholderParams(entity),mappingPolicy));
+            final Node startNode = template.<Node>getPersistentState(entity);
+            final Map<List<Object>, CachedResult> cache = resultCache();
+            if (cache == null) return doReturn(executeQuery(startNode, mappingPolicy));
+            final List<Object> key = cacheKey(startNode.getId());
+            final CachedResult cached = cache.get(key);
+            if (cached != null && !cached.isExpired()) return doReturn(cached.value);
+            final Object value = materialize(executeQuery(startNode, mappingPolicy));
+            cache.put(key, new CachedResult(value, cacheTtl));
+            return doReturn(value);
 	    }
 
-        private Object executeQuery(Object entity, String queryString, Map<String, Object> params, MappingPolicy mappingPolicy) {
-            final TypeInformation<?> typeInformation = property.getTypeInformation();
-            final TypeInformation<?> actualType = typeInformation.getActualType();
-            final Class<?> targetType = actualType.getType();
-            final Result<Object> result = queryEngine.query(queryString, params).with(mappingPolicy);
-            if (actualType.isMap()) {
+        /**
+         * Computes the field for all the entities, with a single query if the query allows it. The values are also put
+         * into the result cache if it is enabled for the field. Entity instances for the same node each get the value.
+         * Nodes without rows in the batch result of an aggregating query are queried on their own for the aggregate of
+         * no matches.
+         *
+         * @return the field values by entity instance
+         */
+        @SuppressWarnings("unchecked")
+        public Map<Object, Object> getValues(Iterable<?> entities, MappingPolicy mappingPolicy) {
+            final Map<Object, Node> nodesByEntity = new IdentityHashMap<Object, Node>();
+            final Map<Long, Node> nodesById = new LinkedHashMap<Long, Node>();
+            for (Object entity : entities) {
+                final Node startNode = template.<Node>getPersistentState(entity);
+                if (startNode == null) throw new InvalidDataAccessApiUsageException("Entity " + entity + " has no persistent state");
+                nodesByEntity.put(entity, startNode);
+                nodesById.put(startNode.getId(), startNode);
+            }
+            final Map<Long, Object> valuesByNodeId = new HashMap<Long, Object>(nodesById.size());
+            if (batchQuery == null || nodesById.size() < 2) {
+                for (Node startNode : nodesById.values()) {
+                    valuesByNodeId.put(startNode.getId(), materialize(executeQuery(startNode, mappingPolicy)));
+                }
+                return valuesByEntity(nodesByEntity, valuesByNodeId);
+            }
+            final Map<Long, List<Map<String, Object>>> rowsByNodeId = new HashMap<Long, List<Map<String, Object>>>();
+            final Map<String, Object> params = new HashMap<String, Object>(staticParams);
+            params.put("self", new ArrayList<Long>(nodesById.keySet()));
+            for (Map<String, Object> row : template.query(batchQuery, params)) {
+                final Map<String, Object> values = new LinkedHashMap<String, Object>(row);
+                final Long nodeId = ((Number) values.remove(SELF_COLUMN)).longValue();
+                List<Map<String, Object>> rows = rowsByNodeId.get(nodeId);
+                if (rows == null) rowsByNodeId.put(nodeId, rows = new ArrayList<Map<String, Object>>());
+                rows.add(values);
+            }
+            final Map<List<Object>, CachedResult> cache = resultCache();
+            for (Map.Entry<Long, Node> entry : nodesById.entrySet()) {
+                final Long nodeId = entry.getKey();
+                final List<Map<String, Object>> rows = rowsByNodeId.get(nodeId);
+                final Object value;
+                if (rows == null && aggregating) {
+                    value = materialize(executeQuery(entry.getValue(), mappingPolicy));
+                } else {
+                    final Iterable<Map<String, Object>> groupRows = rows != null ? rows : Collections.<Map<String, Object>>emptyList();
+                    value = materialize(toFieldValue(template.<Object>convert((Iterable) groupRows).with(mappingPolicy)));
+                }
+                valuesByNodeId.put(nodeId, value);
+                if (cache != null) cache.put(cacheKey(nodeId), new CachedResult(value, cacheTtl));
+            }
+            return valuesByEntity(nodesByEntity, valuesByNodeId);
+        }
+
+        private Map<Object, Object> valuesByEntity(Map<Object, Node> nodesByEntity, Map<Long, Object> valuesByNodeId) {
+            final Map<Object, Object> result = new IdentityHashMap<Object, Object>(nodesByEntity.size());
+            for (Map.Entry<Object, Node> entry : nodesByEntity.entrySet()) {
+                result.put(entry.getKey(), valuesByNodeId.get(entry.getValue().getId()));
+            }
+            return result;
+        }
+
+        private Object executeQuery(Node startNode, MappingPolicy mappingPolicy) {
+            return toFieldValue(queryEngine.query(this.query, createPlaceholderParams(startNode)).with(mappingPolicy));
+        }
+
+        private Object toFieldValue(Result<Object> result) {
+            if (mapResult) {
                 return result;
             }
-            if (typeInformation.isCollectionLike()) {
+            if (collectionResult) {
                return result.to(targetType);
             }
             return result.to(targetType).singleOrNull();
         }
 
-        private Map<String, Object> createPlaceholderParams(Object entity) {
-            Map<String,Object> params=new HashMap<String, Object>();
-            final Node startNode = template.<Node>getPersistentState(entity);
-            params.put("self", startNode.getId());
-            if (annotationParams.length==0) return params;
-            for (int i = 0; i < annotationParams.length; i+=2) {
-                params.put(annotationParams[i],annotationParams[i+1]);
+        /**
+         * Query results can only be iterated once, so they are copied before they are kept.
+         */
+        private Object materialize(Object value) {
+            if (!mapResult && !collectionResult) return value;
+            final List<Object> values = new ArrayList<Object>();
+            for (Object element : (Iterable<?>) value) {
+                values.add(element);
+            }
+            return values;
+        }
+
+        private Map<List<Object>, CachedResult> resultCache() {
+            if (!cacheResults) return null;
+            return TransactionScope.boundedCache(QueryFieldAccessor.class, MAX_CACHED_RESULTS);
+        }
+
+        private List<Object> cacheKey(long nodeId) {
+            return Arrays.<Object>asList(property, nodeId);
+        }
+
+        private Map<String, Object> createStaticParams() {
+            final Map<String, Object> params = new HashMap<String, Object>();
+            for (int i = 0; i < annotationParams.length; i += 2) {
+                params.put(annotationParams[i], annotationParams[i + 1]);
             }
             return params;
         }
 
+        private Map<String, Object> createPlaceholderParams(Node startNode) {
+            Map<String,Object> params=new HashMap<String, Object>(staticParams);
+            params.put("self", startNode.getId());
+            return params;
+        }
+
 		@Override
 		public Object getDefaultValue() {
 			return null;
 		}
     }
+
+    private static class CachedResult {
+        final Object value;
+        private final long expires;
+
+        CachedResult(Object value, long ttl) {
+            this.value = value;
+            this.expires = ttl > 0 ? System.currentTimeMillis() + ttl : Long.MAX_VALUE;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expires;
+        }
+    }
 }
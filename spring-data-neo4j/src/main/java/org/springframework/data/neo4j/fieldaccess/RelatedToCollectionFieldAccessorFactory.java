@@ -18,13 +18,16 @@ package org.springframework.data.neo4j.fieldaccess;
 
 import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.RelationshipType;
+import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.mapping.RelationshipInfo;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -63,9 +66,11 @@ public class RelatedToCollectionFieldAccessorFactory implements FieldAccessorFac
             final Node node = checkAndGetNode(entity);
 // null should not remove existing relationships but leave them alone
             if (newVal == null) return null;
-            final Set<Node> targetNodes = createSetOfTargetNodes(newVal);
-            removeMissingRelationships(node, targetNodes, property.getTargetType());
-            createAddedRelationships(node, targetNodes);
+// an untouched lazy collection has nothing to write
+            if (newVal instanceof LazyManagedSet && ((LazyManagedSet) newVal).isUntouchedPlaceholderFor(entity)) return newVal;
+            if (property.getRelationshipInfo().isPaged()) return setPagedValue(entity, node, newVal, mappingPolicy);
+            final List<Node> targetNodes = relationshipHelper.createListOfTargetNodes(newVal, relatedType);
+            relationshipHelper.updateRelationships(node, targetNodes, property.getTargetType());
             return createManagedSet(entity, (Set<?>) newVal, property.obtainMappingPolicy(mappingPolicy));
         }
 
@@ -73,20 +78,87 @@ public class RelatedToCollectionFieldAccessorFactory implements FieldAccessorFac
         public Object getValue(final Object entity, MappingPolicy mappingPolicy) {
             checkAndGetNode(entity);
             final MappingPolicy currentPolicy = property.obtainMappingPolicy(mappingPolicy);
-            final Set<?> result = property.isTargetTypeEnforced() ?
-                    createEntitySetFromRelationshipEndNodesUsingTypeProperty(entity, currentPolicy) :
-                    createEntitySetFromRelationshipEndNodes(entity, currentPolicy);
+            if (property.getRelationshipInfo().isPaged()) {
+                return doReturn(new PagedRelatedCollection<Object>(entity, this, currentPolicy));
+            }
+            if (property.getRelationshipInfo().isLazy() && !currentPolicy.shouldLoad()) {
+                return doReturn(new LazyManagedSet<Object>(entity, this, currentPolicy));
+            }
+            return doReturn(loadManagedSet(entity, currentPolicy));
+        }
 
-            Set<Object> values = new HashSet<Object>();
-            Class<?> targetType = property.getTargetType();
+        ManagedFieldAccessorSet<Object> loadManagedSet(final Object entity, final MappingPolicy currentPolicy) {
+            final Class<?> type = property.isTargetTypeEnforced() ? null : relatedType;
+            final Set<Object> result = relationshipHelper.createEntitySet(relationshipHelper.getStatesFromEntity(entity), currentPolicy, type, property.getTargetType());
+            return createManagedSet(entity, result, currentPolicy);
+        }
 
-            for (Object value : result) {
-                if (targetType == null || targetType.isAssignableFrom(value.getClass())) {
-                    values.add(value);
-                }
+        ManagedFieldAccessorSet<Object> createManagedSetFromEndNodes(final Object entity, final List<Node> endNodes, final MappingPolicy currentPolicy) {
+            final Class<?> type = property.isTargetTypeEnforced() ? null : relatedType;
+            final Set<Object> result = relationshipHelper.createEntitySet(endNodes, currentPolicy, type, property.getTargetType());
+            return createManagedSet(entity, result, currentPolicy);
+        }
+
+        // the view applies its changes right away, any other collection replaces the relationships
+        private Object setPagedValue(Object entity, Node node, Object newVal, MappingPolicy mappingPolicy) {
+            if (newVal instanceof PagedRelatedCollection && ((PagedRelatedCollection) newVal).isViewOf(entity)) return newVal;
+            if (!(newVal instanceof Collection)) {
+                throw new IllegalArgumentException("New value must be a Collection, was: " + newVal.getClass());
             }
+            final List<Node> targetNodes = relationshipHelper.createListOfTargetNodes((Collection<?>) newVal, relatedType);
+            relationshipHelper.updateRelationships(node, targetNodes, null);
+            return new PagedRelatedCollection<Object>(entity, this, property.obtainMappingPolicy(mappingPolicy));
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> List<T> loadPage(Object entity, int skip, int limit, MappingPolicy mappingPolicy) {
+            final RelationshipInfo info = property.getRelationshipInfo();
+            final List<Node> nodes = relationshipHelper.getOtherNodesPage(checkAndGetNode(entity), orderProperty(), info.getOrderDirection(), skip, limit);
+            final List<T> result = new ArrayList<T>(nodes.size());
+            for (Node node : nodes) {
+                result.add((T) template.createEntityFromState(node, relatedType, mappingPolicy));
+            }
+            return result;
+        }
+
+        private String orderProperty() {
+            final String orderBy = property.getRelationshipInfo().getOrderBy();
+            if (orderBy == null) return null;
+            final Neo4jPersistentProperty orderProperty = (Neo4jPersistentProperty) property.getRelationshipInfo().getTargetEntity().getPersistentProperty(orderBy);
+            if (orderProperty == null) {
+                throw new MappingException("Unknown orderBy property " + orderBy + " of " + relatedType + " for " + property);
+            }
+            return orderProperty.getNeo4jPropertyName();
+        }
 
-            return doReturn(createManagedSet(entity, values, currentPolicy));
+        long countRelated(Object entity) {
+            return relationshipHelper.countOtherNodes(checkAndGetNode(entity));
+        }
+
+        Node stateOf(Object value) {
+            if (!relatedType.isInstance(value)) return null;
+            return relationshipHelper.getNode(value);
+        }
+
+        List<Relationship> relationshipsBetween(Object entity, Node other) {
+            return relationshipHelper.getRelationshipsBetween(checkAndGetNode(entity), other);
+        }
+
+        List<Relationship> allRelationships(Object entity) {
+            return relationshipHelper.getAllRelationships(checkAndGetNode(entity));
+        }
+
+        void relate(Object entity, Object value) {
+            if (!relatedType.isInstance(value)) {
+                throw new IllegalArgumentException("New value elements must be " + relatedType);
+            }
+            relationshipHelper.createSingleRelationship(checkAndGetNode(entity), relationshipHelper.getOrCreateState(value));
+        }
+
+        void delete(List<Relationship> relationships) {
+            for (Relationship relationship : relationships) {
+                template.delete(relationship);
+            }
         }
 
         @Override
@@ -17,14 +17,23 @@ package org.springframework.data.neo4j.fieldaccess;
 
 import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.RelationshipType;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.PrefetchedStates;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -45,10 +54,14 @@ public class RelationshipHelper {
         this.type = type;
     }
 
-    private Iterable<Node> getOtherNodes(Node node) {
-        final Set<Node> result = new HashSet<Node>();
-        for (final Relationship rel : node.getRelationships(type, direction)) {
-            result.add(rel.getOtherNode(node));
+    private Collection<Node> getOtherNodes(Node node) {
+        final Iterable<Relationship> relationships = getRelationships(node);
+        final int count = relationships instanceof Collection ? ((Collection) relationships).size() : 16;
+        final List<Node> result = new ArrayList<Node>(count);
+        final LongIdSet seen = new LongIdSet(count);
+        for (final Relationship rel : relationships) {
+            final Node otherNode = PrefetchedStates.otherNode(rel, node);
+            if (seen.add(otherNode.getId())) result.add(otherNode);
         }
         return result;
     }
@@ -113,6 +126,72 @@ public class RelationshipHelper {
         return nodes;
     }
 
+    /**
+     * Collects the distinct nodes of the entities of the new collection value, saving new entities.
+     */
+    protected List<Node> createListOfTargetNodes(Object newVal, final Class<?> relatedType) {
+        if (!(newVal instanceof Set)) {
+            throw new IllegalArgumentException("New value must be a Set, was: " + newVal.getClass());
+        }
+        return createListOfTargetNodes((Set<?>) newVal, relatedType);
+    }
+
+    protected List<Node> createListOfTargetNodes(Collection<?> values, final Class<?> relatedType) {
+        final List<Node> nodes = new ArrayList<Node>(values.size());
+        final LongIdSet ids = new LongIdSet(values.size());
+        for (Object value : values) {
+            if (!relatedType.isInstance(value)) {
+                throw new IllegalArgumentException("New value elements must be " + relatedType);
+            }
+            final Node targetNode = getOrCreateState(value);
+            if (ids.add(targetNode.getId())) nodes.add(targetNode);
+        }
+        return nodes;
+    }
+
+    /**
+     * Makes the relationships of the node match the given target nodes in one pass over the existing relationships:
+     * the first relationship to each target node is kept, all others to nodes of the target type are deleted, and the
+     * missing ones are created without looking for them again.
+     */
+    protected void updateRelationships(Node node, List<Node> targetNodes, Class<?> targetType) {
+        final LongIdSet targetIds = new LongIdSet(targetNodes.size());
+        for (Node targetNode : targetNodes) {
+            targetIds.add(targetNode.getId());
+        }
+        final LongIdSet existingIds = new LongIdSet(targetNodes.size());
+        final Map<Object, Boolean> matchingTypes = new HashMap<Object, Boolean>();
+        for (Relationship relationship : node.getRelationships(type, direction)) {
+            final Node otherNode = relationship.getOtherNode(node);
+            final long otherId = otherNode.getId();
+            if (targetIds.contains(otherId) && existingIds.add(otherId)) continue;
+            if (targetType != null && !hasTargetType(otherNode, targetType, matchingTypes)) continue;
+            template.delete(relationship);
+        }
+        for (Node targetNode : targetNodes) {
+            if (existingIds.contains(targetNode.getId())) continue;
+            if (direction == Direction.INCOMING) {
+                targetNode.createRelationshipTo(node, type);
+            } else {
+                node.createRelationshipTo(targetNode, type);
+            }
+        }
+    }
+
+    private boolean hasTargetType(Node node, Class<?> targetType, Map<Object, Boolean> matchingTypes) {
+        final Object actualTargetType = node.getProperty("__type__");
+        Boolean matches = matchingTypes.get(actualTargetType);
+        if (matches == null) {
+            try {
+                matches = targetType.isAssignableFrom(Class.forName((String) actualTargetType));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(format("Could not read type '%s' - type does not exist", actualTargetType), e);
+            }
+            matchingTypes.put(actualTargetType, matches);
+        }
+        return matches;
+    }
+
     protected Node getOrCreateState(Object value) {
         final Node Node = getNode(value);
         if (Node != null) return Node;
@@ -124,11 +203,98 @@ public class RelationshipHelper {
 
 
     protected Set<Object> createEntitySetFromRelationshipEndNodes(Object entity, final MappingPolicy mappingPolicy, final Class<?> relatedType) {
-        final Iterable<Node> nodes = getStatesFromEntity(entity);
-        final Set<Object> result = new HashSet<Object>();
+        return createEntitySet(getStatesFromEntity(entity), mappingPolicy, relatedType, null);
+    }
+
+    /**
+     * Creates the entities for the given nodes in a pre-sized set, keeping only instances of the filter type (if any).
+     */
+    protected Set<Object> createEntitySet(Collection<Node> nodes, final MappingPolicy mappingPolicy, final Class<?> relatedType, final Class<?> filterType) {
+        final Set<Object> result = new HashSet<Object>(Math.max(16, (int) (nodes.size() / .75f) + 1));
         for (final Node otherNode : nodes) {
-            Object target = template.createEntityFromState(otherNode, relatedType, mappingPolicy);
-            result.add(target);
+            final Object target = template.createEntityFromState(otherNode, relatedType, mappingPolicy);
+            if (filterType == null || filterType.isInstance(target)) result.add(target);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the other nodes of the relationships of all the given start nodes with a single cypher query.
+     *
+     * @return map from start node id to the related nodes, contains an entry for each of the given ids
+     */
+    protected Map<Long, List<Node>> getOtherNodesByStartNodeId(Collection<Long> startNodeIds) {
+        final Map<Long, List<Node>> result = new HashMap<Long, List<Node>>(startNodeIds.size());
+        for (Long id : startNodeIds) {
+            result.put(id, new ArrayList<Node>());
+        }
+        if (result.isEmpty()) return result;
+        final Map<String, Object> params = Collections.<String, Object>singletonMap("ids", new ArrayList<Long>(startNodeIds));
+        for (Map<String, Object> row : template.query(otherNodesQuery(), params)) {
+            result.get(((Number) row.get("id")).longValue()).add((Node) row.get("other"));
+        }
+        return result;
+    }
+
+    private String otherNodesQuery() {
+        return "START n=node({ids}) MATCH n" + relationshipPattern("") + "other RETURN ID(n) AS id, other";
+    }
+
+    private String relationshipPattern(String identifier) {
+        final String relationship = "[" + identifier + ":`" + type.name() + "`]";
+        switch (direction) {
+            case OUTGOING: return "-" + relationship + "->";
+            case INCOMING: return "<-" + relationship + "-";
+            default: return "-" + relationship + "-";
+        }
+    }
+
+    /**
+     * Reads one page of the distinct other nodes of the relationships, ordered by the given property or else by node
+     * id. Like in cypher, missing values sort last in ascending and first in descending order.
+     */
+    protected List<Node> getOtherNodesPage(Node node, String orderProperty, Sort.Direction orderDirection, int skip, int limit) {
+        final String order = orderProperty == null ? "ID(other)" : "other.`" + orderProperty + "`?";
+        final String statement = "START n=node({id}) MATCH n" + relationshipPattern("") + "other WITH distinct other RETURN other ORDER BY " + order +
+                (orderDirection == Sort.Direction.DESC ? " DESC" : "") + " SKIP {skip} LIMIT {limit}";
+        final Map<String, Object> params = new HashMap<String, Object>(4);
+        params.put("id", node.getId());
+        params.put("skip", skip);
+        params.put("limit", limit);
+        final List<Node> result = new ArrayList<Node>(limit);
+        for (Map<String, Object> row : template.query(statement, params)) {
+            result.add((Node) row.get("other"));
+        }
+        return result;
+    }
+
+    protected long countOtherNodes(Node node) {
+        final String statement = "START n=node({id}) MATCH n" + relationshipPattern("") + "other RETURN count(distinct other) AS count";
+        final Map<String, Object> params = Collections.<String, Object>singletonMap("id", node.getId());
+        return ((Number) template.query(statement, params).single().get("count")).longValue();
+    }
+
+    /**
+     * Reads the relationships between the two nodes with a query, without iterating all relationships of either.
+     */
+    protected List<Relationship> getRelationshipsBetween(Node node, Node otherNode) {
+        final String statement = "START n=node({id}), other=node({other}) MATCH n" + relationshipPattern("r") + "other RETURN r";
+        final Map<String, Object> params = new HashMap<String, Object>(4);
+        params.put("id", node.getId());
+        params.put("other", otherNode.getId());
+        final List<Relationship> result = new ArrayList<Relationship>();
+        for (Map<String, Object> row : template.query(statement, params)) {
+            result.add((Relationship) row.get("r"));
+        }
+        return result;
+    }
+
+    protected List<Relationship> getAllRelationships(Node node) {
+        final String statement = "START n=node({id}) MATCH n" + relationshipPattern("r") + "other RETURN r";
+        final Map<String, Object> params = Collections.<String, Object>singletonMap("id", node.getId());
+        final List<Relationship> result = new ArrayList<Relationship>();
+        for (Map<String, Object> row : template.query(statement, params)) {
+            result.add((Relationship) row.get("r"));
         }
         return result;
     }
@@ -148,7 +314,7 @@ public class RelationshipHelper {
         }
     }
 
-    protected Iterable<Node> getStatesFromEntity(final Object entity) {
+    protected Collection<Node> getStatesFromEntity(final Object entity) {
         final Node node = getNode(entity);
         return getOtherNodes(node);
     }
@@ -159,11 +325,16 @@ public class RelationshipHelper {
     }
 
     public Iterable<Relationship> getRelationships(Node node) {
+        final List<Relationship> prefetched = PrefetchedStates.relationships(node, type, direction);
+        if (prefetched != null) return prefetched;
         return node.getRelationships(type, direction);
     }
 
     public Relationship getSingleRelationship(Node node) {
-        return node.getSingleRelationship(type,direction);
+        final List<Relationship> prefetched = PrefetchedStates.relationships(node, type, direction);
+        if (prefetched == null) return node.getSingleRelationship(type, direction);
+        if (prefetched.size() > 1) throw new NotFoundException("More than one relationship[" + type + ", " + direction + "] found for " + node);
+        return prefetched.isEmpty() ? null : prefetched.get(0);
     }
 
     public RelationshipType getRelationshipType()
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Identifies the current Spring managed transaction and holds caches bound to it, so that values cached while it runs
+ * are not used by later or suspending transactions.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+final class TransactionScope {
+    private static final Object KEY = TransactionScope.class;
+
+    private TransactionScope() {
+    }
+
+    /**
+     * @return an object unique to the running transaction or null if there is no transaction with active
+     * synchronization
+     */
+    static Object current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        final Object scope = TransactionSynchronizationManager.getResource(KEY);
+        if (scope != null) return scope;
+        return bind(KEY, new Object());
+    }
+
+    /**
+     * @return a map bound to the running transaction under the given key, which keeps only the maxEntries most
+     * recently used entries, null if there is no transaction with active synchronization
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> Map<K, V> boundedCache(Object key, final int maxEntries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        final Map<K, V> cache = (Map<K, V>) TransactionSynchronizationManager.getResource(key);
+        if (cache != null) return cache;
+        return bind(key, new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private static <T> T bind(final Object key, final T value) {
+        TransactionSynchronizationManager.bindResource(key, value);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(key);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(key, value);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(key);
+            }
+        });
+        return value;
+    }
+}
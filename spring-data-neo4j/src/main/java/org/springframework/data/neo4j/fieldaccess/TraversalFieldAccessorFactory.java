@@ -18,10 +18,13 @@ package org.springframework.data.neo4j.fieldaccess;
 
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.traversal.TraversalDescription;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.core.EntityIndependentTraversalDescriptionBuilder;
 import org.springframework.data.neo4j.core.FieldTraversalDescriptionBuilder;
 
 
@@ -30,6 +33,10 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.springframework.data.neo4j.support.DoReturn.doReturn;
 
@@ -59,11 +66,14 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
 	 * @since 12.09.2010
 	 */
 	public static class TraversalFieldAccessor implements FieldAccessor {
+        static final int MAX_CACHED_RESULTS = 1000;
 	    protected final Neo4jPersistentProperty property;
         private final Neo4jTemplate template;
         private final FieldTraversalDescriptionBuilder fieldTraversalDescriptionBuilder;
 	    private Class<?> target;
         protected String[] params;
+        private final TraversalDescription entityIndependentDescription;
+        private final boolean cacheResults;
 
         public TraversalFieldAccessor(final Neo4jPersistentProperty property, Neo4jTemplate template) {
 	        this.property = property;
@@ -72,6 +82,9 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
 	        this.target = resolveTarget(graphEntityTraversal,property);
             this.params = graphEntityTraversal.params();
             this.fieldTraversalDescriptionBuilder = createTraversalDescription(graphEntityTraversal);
+            this.entityIndependentDescription = fieldTraversalDescriptionBuilder instanceof EntityIndependentTraversalDescriptionBuilder
+                    ? fieldTraversalDescriptionBuilder.build(null, property, params) : null;
+            this.cacheResults = graphEntityTraversal.cacheResults();
 	    }
 
         private Class<?> resolveTarget(GraphTraversal graphTraversal, Neo4jPersistentProperty property) {
@@ -104,10 +117,39 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
 
 	    @Override
 	    public Object getValue(final Object entity, MappingPolicy mappingPolicy) {
-	        final TraversalDescription traversalDescription = fieldTraversalDescriptionBuilder.build(entity, property,params);
-            return doReturn(template.traverse(entity, target, traversalDescription));
+            final Node startNode = template.getPersistentState(entity);
+            final Map<List<Object>, Object> cache = cacheResults && startNode != null
+                    ? TransactionScope.<List<Object>, Object>boundedCache(TraversalFieldAccessor.class, MAX_CACHED_RESULTS) : null;
+            if (cache == null) return doReturn(template.traverse(entity, target, traversalDescription(entity)));
+            final List<Object> key = Arrays.<Object>asList(property, startNode.getId());
+            Object result = cache.get(key);
+            if (result == null) {
+                result = traverseAll(entity);
+                cache.put(key, result);
+            }
+            return doReturn(result);
 	    }
 
+        private TraversalDescription traversalDescription(Object entity) {
+            return entityIndependentDescription != null
+                    ? entityIndependentDescription : fieldTraversalDescriptionBuilder.build(entity, property, params);
+        }
+
+        // cached results are read completely, entities are mapped in bulk
+        private Iterable<?> traverseAll(Object entity) {
+            final TraversalDescription traversalDescription = traversalDescription(entity);
+            final boolean nodeEntities = template.isNodeEntity(target);
+            if (!nodeEntities && !template.isRelationshipEntity(target)) {
+                return IteratorUtil.addToCollection(template.traverse(entity, target, traversalDescription), new ArrayList<Object>());
+            }
+            final List<PropertyContainer> states = new ArrayList<PropertyContainer>();
+            for (Path path : template.traverse(entity, traversalDescription)) {
+                final PropertyContainer state = nodeEntities ? path.endNode() : path.lastRelationship();
+                if (state != null) states.add(state);
+            }
+            return template.getInfrastructure().getEntityPersister().createEntitiesFromStates(states, target, template.getMappingPolicy(target), template);
+        }
+
 
 	    private FieldTraversalDescriptionBuilder createTraversalDescription(final GraphTraversal graphEntityTraversal) {
 	        try {
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Publishes lifecycle events only if there is a listener for them. Whether there is one is determined once per event
+ * type and entity type, so callers can skip creating the event altogether. The listeners are the application listener
+ * beans and the listeners added to the application context and its parents. Like the application event multicaster
+ * they are matched by the event type they are declared for, a <code>SmartApplicationListener</code> is also asked
+ * whether it supports the template as source. A listener declared for an event of a specific entity type, e.g.
+ * <code>ApplicationListener&lt;BeforeSaveEvent&lt;Person&gt;&gt;</code>, only counts for entities of that type.
+ * <p/>
+ * The cached answers are discarded whenever the application context is refreshed, listeners added after that only
+ * count after a call to {@link #reset()}. Listeners added directly to the event multicaster are not seen.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class LifecycleEventDispatcher {
+    private final ApplicationContext applicationContext;
+    private final Class<?> sourceType;
+    private final ConcurrentMap<Interest, Boolean> hasListeners = new ConcurrentHashMap<Interest, Boolean>();
+
+    public LifecycleEventDispatcher(ApplicationContext applicationContext, Class<?> sourceType) {
+        this.applicationContext = applicationContext;
+        this.sourceType = sourceType;
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            ((ConfigurableApplicationContext) applicationContext).addApplicationListener(new ApplicationListener<ContextRefreshedEvent>() {
+                @Override
+                public void onApplicationEvent(ContextRefreshedEvent event) {
+                    reset();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return true if any listener of the application context accepts events of the given type for any entity
+     */
+    public boolean hasListeners(Class<? extends ApplicationEvent> eventType) {
+        return hasListeners(eventType, null);
+    }
+
+    /**
+     * @param entityType the type of the entity of the event, null if it is not known or several types are involved
+     * @return true if any listener of the application context accepts events of the given type for the entity type
+     */
+    public boolean hasListeners(Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+        final Interest interest = new Interest(eventType, entityType);
+        Boolean result = hasListeners.get(interest);
+        if (result == null) {
+            result = resolveHasListeners(eventType, entityType);
+            hasListeners.put(interest, result);
+        }
+        return result;
+    }
+
+    public void publish(ApplicationEvent event) {
+        applicationContext.publishEvent(event);
+    }
+
+    public void reset() {
+        hasListeners.clear();
+    }
+
+    private boolean resolveHasListeners(Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+        for (ApplicationListener<?> listener : listeners()) {
+            if (accepts(listener, eventType, entityType)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the listeners added to the context and its parents and their listener beans
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<ApplicationListener<?>> listeners() {
+        final Set<ApplicationListener<?>> listeners = new LinkedHashSet<ApplicationListener<?>>();
+        for (ApplicationContext context = applicationContext; context != null; context = context.getParent()) {
+            if (context instanceof AbstractApplicationContext) {
+                listeners.addAll(((AbstractApplicationContext) context).getApplicationListeners());
+            }
+        }
+        listeners.addAll(BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, ApplicationListener.class, true, false).values());
+        return listeners;
+    }
+
+    private boolean accepts(ApplicationListener<?> listener, Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+        if (listener instanceof SmartApplicationListener) {
+            final SmartApplicationListener smartListener = (SmartApplicationListener) listener;
+            return smartListener.supportsEventType(eventType) && smartListener.supportsSourceType(sourceType);
+        }
+        final Class<?> listenerType = AopUtils.getTargetClass(listener);
+        final Class<?> declaredEventType = GenericTypeResolver.resolveTypeArgument(listenerType, ApplicationListener.class);
+        if (declaredEventType != null && !declaredEventType.isAssignableFrom(eventType)) return false;
+        final Class<?> declaredEntityType = declaredEntityType(listenerType);
+        return entityType == null || declaredEntityType == null || declaredEntityType.isAssignableFrom(entityType);
+    }
+
+    /**
+     * @return the entity type argument of the lifecycle event type the listener class declares directly, or null
+     */
+    private static Class<?> declaredEntityType(Class<?> listenerType) {
+        for (Class<?> type = listenerType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Type genericInterface : type.getGenericInterfaces()) {
+                if (!(genericInterface instanceof ParameterizedType)) continue;
+                final ParameterizedType listenerInterface = (ParameterizedType) genericInterface;
+                if (listenerInterface.getRawType() != ApplicationListener.class) continue;
+                final Type eventType = listenerInterface.getActualTypeArguments()[0];
+                if (!(eventType instanceof ParameterizedType)) return null;
+                final ParameterizedType lifecycleEventType = (ParameterizedType) eventType;
+                if (!(lifecycleEventType.getRawType() instanceof Class)
+                        || !Neo4jLifecycleEvent.class.isAssignableFrom((Class<?>) lifecycleEventType.getRawType())) return null;
+                final Type entityType = lifecycleEventType.getActualTypeArguments()[0];
+                if (entityType instanceof Class) return (Class<?>) entityType;
+                if (entityType instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) entityType).getRawType();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static final class Interest {
+        private final Class<?> eventType;
+        private final Class<?> entityType;
+
+        Interest(Class<?> eventType, Class<?> entityType) {
+            this.eventType = eventType;
+            this.entityType = entityType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Interest)) return false;
+            final Interest other = (Interest) o;
+            return eventType.equals(other.eventType) && (entityType == null ? other.entityType == null : entityType.equals(other.entityType));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventType.hashCode() + (entityType == null ? 0 : entityType.hashCode());
+        }
+    }
+}
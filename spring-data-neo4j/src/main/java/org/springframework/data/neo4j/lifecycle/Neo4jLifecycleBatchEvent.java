@@ -0,0 +1,36 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Collection;
+
+/**
+ * Lifecycle event for a bulk operation, published once for all entities in addition to the per-entity events.
+ */
+public class Neo4jLifecycleBatchEvent<T> extends ApplicationEvent {
+    private final Collection<T> entities;
+
+    public Neo4jLifecycleBatchEvent(Object source, Collection<T> entities) {
+        super(source);
+        this.entities = entities;
+    }
+
+    public Collection<T> getEntities() {
+        return entities;
+    }
+}
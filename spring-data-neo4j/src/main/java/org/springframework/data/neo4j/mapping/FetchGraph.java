@@ -0,0 +1,83 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import java.util.*;
+
+/**
+ * Mapping policy that only loads the given properties and relationships of the root entity, all other fields are not
+ * read from the graph and keep their default values. The id is always loaded.
+ * <pre>
+ * template.findOne(id, Movie.class, FetchGraph.of("title", "year"));
+ * template.query(statement, params).with(FetchGraph.of("title")).to(Movie.class);
+ * </pre>
+ * Saving an entity that was loaded with a fetch graph writes back the loaded properties and the ones that were changed
+ * after loading, the other properties in the graph are left untouched.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class FetchGraph implements MappingPolicy {
+    private final Set<String> properties;
+
+    private FetchGraph(Collection<String> properties) {
+        this.properties = Collections.unmodifiableSet(new LinkedHashSet<String>(properties));
+    }
+
+    public static FetchGraph of(String... properties) {
+        return new FetchGraph(Arrays.asList(properties));
+    }
+
+    public boolean includes(Neo4jPersistentProperty property) {
+        return property.isIdProperty() || properties.contains(property.getName());
+    }
+
+    public Set<String> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public boolean accessField() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldLoad() {
+        return true;
+    }
+
+    @Override
+    public MappingPolicy combineWith(MappingPolicy mappingPolicy) {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "FetchGraph: " + properties;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return properties.equals(((FetchGraph) o).properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return properties.hashCode();
+    }
+}
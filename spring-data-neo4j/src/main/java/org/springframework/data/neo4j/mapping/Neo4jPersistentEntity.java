@@ -46,4 +46,10 @@ public interface Neo4jPersistentEntity<T> extends PersistentEntity<T, Neo4jPersi
     Neo4jPersistentProperty getUniqueProperty();
 
     boolean isUnique();
+
+    /**
+     * @return the simple properties followed by the inverse properties of the associations, the same ones and in the same
+     * order as {@link #doWithProperties} and {@link #doWithAssociations} visit them. The array is shared, don't modify it.
+     */
+    Neo4jPersistentProperty[] getMappedProperties();
 }
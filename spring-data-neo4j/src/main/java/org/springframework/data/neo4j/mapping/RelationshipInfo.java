@@ -19,6 +19,7 @@ package org.springframework.data.neo4j.mapping;
 import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.DynamicRelationshipType;
 import org.neo4j.graphdb.RelationshipType;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.annotation.RelatedTo;
 import org.springframework.data.neo4j.annotation.RelatedToVia;
@@ -28,8 +29,10 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 
 import java.lang.reflect.Field;
+import java.util.List;
 
 public class RelationshipInfo {
+    public static final int DEFAULT_PAGE_SIZE = 100;
 
     private boolean isCollection;
     private final Direction direction;
@@ -37,6 +40,10 @@ public class RelationshipInfo {
     private final TypeInformation<?> targetType;
     private final boolean relatedTo;
     private boolean readonly;
+    private boolean lazy;
+    private String orderBy;
+    private Sort.Direction orderDirection = Sort.Direction.ASC;
+    private int pageSize;
     private Neo4jPersistentEntity targetEntity;
 
     public Direction getDirection() {
@@ -80,6 +87,18 @@ public class RelationshipInfo {
                 ctx
         );
         if (relationshipInfo.isRelatedToVia()) throw new MappingException("Relationship field with NodeEntity "+relationshipInfo.getTargetEntity().getType()+" annotated with @RelatedTo");
+        relationshipInfo.lazy = annotation.lazy();
+        if (!annotation.orderBy().isEmpty() || annotation.pageSize() > 0) {
+            if (!relationshipInfo.isCollection() || relationshipInfo.isReadonly() || !field.getType().isAssignableFrom(List.class)) {
+                throw new MappingException("Ordered or paged @RelatedTo field " + field + " must be declared as a Collection or List");
+            }
+            if (annotation.enforceTargetType()) {
+                throw new MappingException("Ordered or paged @RelatedTo field " + field + " can't enforce the target type");
+            }
+            relationshipInfo.orderBy = annotation.orderBy().isEmpty() ? null : annotation.orderBy();
+            relationshipInfo.orderDirection = annotation.orderDirection();
+            relationshipInfo.pageSize = annotation.pageSize() > 0 ? annotation.pageSize() : DEFAULT_PAGE_SIZE;
+        }
         return relationshipInfo;
     }
 
@@ -126,6 +145,32 @@ public class RelationshipInfo {
         return readonly;
     }
 
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return true if the collection is read page by page, see {@link RelatedTo#orderBy()}
+     */
+    public boolean isPaged() {
+        return pageSize > 0;
+    }
+
+    /**
+     * @return the property of the target entity the paged collection is ordered by, or null
+     */
+    public String getOrderBy() {
+        return orderBy;
+    }
+
+    public Sort.Direction getOrderDirection() {
+        return orderDirection;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
     public Neo4jPersistentEntity getTargetEntity() {
         return targetEntity;
     }
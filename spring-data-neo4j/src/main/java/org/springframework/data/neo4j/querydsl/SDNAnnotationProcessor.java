@@ -19,23 +19,113 @@ import com.mysema.query.annotations.*;
 import com.mysema.query.apt.AbstractQuerydslProcessor;
 import com.mysema.query.apt.Configuration;
 import com.mysema.query.apt.DefaultConfiguration;
+import org.springframework.data.annotation.Persistent;
 import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelationshipEntity;
+import org.springframework.data.neo4j.support.mapping.EntityRegistry;
 
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
- * TODO
+ * Generates the Querydsl query types for the entities. If the {@value EntityRegistry#PROCESSOR_OPTION} option is set
+ * to true, it also records all node and relationship entities and other {@link Persistent} types in
+ * {@value EntityRegistry#LOCATION}, which can be used instead of classpath scanning at startup.
  */
-@SupportedAnnotationTypes({"com.mysema.query.annotations.*","org.springframework.data.neo4j.annotation.*"})
+@SupportedAnnotationTypes({"com.mysema.query.annotations.*","org.springframework.data.neo4j.annotation.*","org.springframework.data.annotation.Persistent"})
 @SuppressWarnings("restriction")
 @SupportedSourceVersion(SourceVersion.RELEASE_6)
 public class SDNAnnotationProcessor extends AbstractQuerydslProcessor {
 
+    private final Set<String> entityClassNames = new TreeSet<String>();
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        final Set<String> options = new HashSet<String>(super.getSupportedOptions());
+        options.add(EntityRegistry.PROCESSOR_OPTION);
+        return options;
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (Boolean.parseBoolean(processingEnv.getOptions().get(EntityRegistry.PROCESSOR_OPTION))) {
+            collectEntities(roundEnv);
+            if (roundEnv.processingOver()) writeEntityRegistry();
+        }
+        return super.process(annotations, roundEnv);
+    }
+
+    private void collectEntities(RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(NodeEntity.class)) {
+            entityClassNames.add(binaryName(element));
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(RelationshipEntity.class)) {
+            entityClassNames.add(binaryName(element));
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Persistent.class)) {
+            // the entity annotations themselves are meta-annotated with @Persistent
+            if (element.getKind() != ElementKind.ANNOTATION_TYPE) entityClassNames.add(binaryName(element));
+        }
+    }
+
+    private String binaryName(Element element) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+    }
+
+    private void writeEntityRegistry() {
+        final Set<String> classNames = new TreeSet<String>(entityClassNames);
+        classNames.addAll(readExistingRegistry());
+        try {
+            final FileObject registry = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", EntityRegistry.LOCATION);
+            final Writer writer = new OutputStreamWriter(registry.openOutputStream(), "UTF-8");
+            try {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (IOException ioe) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Error writing " + EntityRegistry.LOCATION + ": " + ioe.getMessage());
+        }
+    }
+
+    // keeps the entries of an incremental compilation whose classes still exist
+    private Set<String> readExistingRegistry() {
+        final Set<String> classNames = new HashSet<String>();
+        try {
+            final FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", EntityRegistry.LOCATION);
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), "UTF-8"));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || processingEnv.getElementUtils().getTypeElement(line.replace('$', '.')) == null) continue;
+                    classNames.add(line);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException ioe) {
+            // no registry yet
+        }
+        return classNames;
+    }
+
 	@Override
 	protected Configuration createConfiguration(RoundEnvironment roundEnv) {
 
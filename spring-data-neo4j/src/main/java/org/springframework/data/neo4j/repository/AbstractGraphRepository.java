@@ -113,10 +113,7 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
     @SuppressWarnings("unchecked")
     @Override
     public <U extends T> Iterable<U> save(Iterable<U> entities) {
-        for (U entity : entities) {
-            save(entity);
-        }
-        return entities;
+        return template.saveAll(entities);
     }
     
     /**
@@ -342,7 +339,7 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
 
     @Override
     public void deleteAll() {
-        delete(findAll());
+        template.deleteAll(clazz);
     }
 
     @Override
@@ -17,7 +17,9 @@
 package org.springframework.data.neo4j.repository;
 
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.repository.query.CountQuerySettings;
 import org.springframework.data.neo4j.repository.query.GraphQueryMethod;
+import org.springframework.data.neo4j.repository.query.StartClausePlanner;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.core.EntityInformation;
@@ -38,6 +40,8 @@ public class GraphRepositoryFactory extends RepositoryFactorySupport {
 
     private final Neo4jTemplate template;
     private final Neo4jMappingContext mappingContext;
+    private StartClausePlanner startClausePlanner = new StartClausePlanner();
+    private CountQuerySettings countQuerySettings = new CountQuerySettings();
 
     /**
      * Creates a new {@link GraphRepositoryFactory} from the given {@link org.springframework.data.neo4j.support.Neo4jTemplate} and
@@ -110,10 +114,27 @@ public class GraphRepositoryFactory extends RepositoryFactorySupport {
             @Override
             public RepositoryQuery resolveQuery(Method method, RepositoryMetadata repositoryMetadata, NamedQueries namedQueries) {
                 final GraphQueryMethod queryMethod = new GraphQueryMethod(method,repositoryMetadata,namedQueries,mappingContext);
-                return queryMethod.createQuery(GraphRepositoryFactory.this.template);
+                return queryMethod.createQuery(GraphRepositoryFactory.this.template, startClausePlanner, countQuerySettings);
             }
         };
     }
 
+    /**
+     * @param startClausePlanner chooses the index lookups derived finder queries start from, e.g. a planner with
+     *                           {@link org.springframework.data.neo4j.repository.query.SampledIndexStatistics}
+     */
+    public void setStartClausePlanner(StartClausePlanner startClausePlanner) {
+        Assert.notNull(startClausePlanner);
+        this.startClausePlanner = startClausePlanner;
+    }
+
+    /**
+     * @param countQuerySettings how repository methods returning a page compute their total
+     */
+    public void setCountQuerySettings(CountQuerySettings countQuerySettings) {
+        Assert.notNull(countQuerySettings);
+        this.countQuerySettings = countQuerySettings;
+    }
+
 
 }
\ No newline at end of file
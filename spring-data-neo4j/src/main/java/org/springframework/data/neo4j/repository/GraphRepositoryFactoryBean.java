@@ -17,6 +17,8 @@
 package org.springframework.data.neo4j.repository;
 
 import org.neo4j.graphdb.PropertyContainer;
+import org.springframework.data.neo4j.repository.query.CountQuerySettings;
+import org.springframework.data.neo4j.repository.query.StartClausePlanner;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -32,6 +34,8 @@ TransactionalRepositoryFactoryBeanSupport<R, T, Long> {
 
     private Neo4jTemplate template;
     private Neo4jMappingContext neo4jMappingContext;
+    private StartClausePlanner startClausePlanner;
+    private CountQuerySettings countQuerySettings;
 
     public void setNeo4jTemplate(Neo4jTemplate template) {
         this.template = template;
@@ -45,6 +49,14 @@ TransactionalRepositoryFactoryBeanSupport<R, T, Long> {
         this.neo4jMappingContext = neo4jMappingContext;
     }
 
+    public void setStartClausePlanner(StartClausePlanner startClausePlanner) {
+        this.startClausePlanner = startClausePlanner;
+    }
+
+    public void setCountQuerySettings(CountQuerySettings countQuerySettings) {
+        this.countQuerySettings = countQuerySettings;
+    }
+
     @Override
     protected RepositoryFactorySupport doCreateRepositoryFactory() {
         return createRepositoryFactory(template);
@@ -52,7 +64,10 @@ TransactionalRepositoryFactoryBeanSupport<R, T, Long> {
 
     protected RepositoryFactorySupport createRepositoryFactory(Neo4jTemplate template) {
 
-        return new GraphRepositoryFactory(template, neo4jMappingContext);
+        final GraphRepositoryFactory factory = new GraphRepositoryFactory(template, neo4jMappingContext);
+        if (startClausePlanner != null) factory.setStartClausePlanner(startClausePlanner);
+        if (countQuerySettings != null) factory.setCountQuerySettings(countQuerySettings);
+        return factory;
     }
 
     @Override
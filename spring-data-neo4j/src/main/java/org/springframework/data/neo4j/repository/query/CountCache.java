@@ -0,0 +1,33 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Map;
+
+/**
+ * Keeps the totals of paged repository queries, so that expensive count queries don't have to run for every page.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public interface CountCache {
+    /**
+     * @return the cached total for the count query and its parameters, or null if there is none (anymore)
+     */
+    Long get(String countQuery, Map<String, Object> params);
+
+    void put(String countQuery, Map<String, Object> params, long count);
+}
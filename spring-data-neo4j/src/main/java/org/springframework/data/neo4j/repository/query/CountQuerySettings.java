@@ -0,0 +1,51 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+/**
+ * How repository methods returning a {@link org.springframework.data.domain.Page} compute their total.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class CountQuerySettings {
+    private boolean parallel;
+    private CountCache countCache;
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @param parallel true to run the count query on the template's async executor while the page content is read,
+     *                 in its own transaction. Within a running transaction the count still runs synchronously, so it
+     *                 sees the caller's uncommitted changes like the page content.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public CountCache getCountCache() {
+        return countCache;
+    }
+
+    /**
+     * @param countCache keeps the totals of count queries, e.g. a {@link TtlCountCache}, null to always count
+     */
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+}
@@ -22,6 +22,10 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.util.StringUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * @author mh
@@ -29,7 +33,11 @@ import org.springframework.data.repository.query.Parameters;
  */
 class CypherGraphRepositoryQuery extends GraphRepositoryQuery {
 
+    private static final Pattern SIMPLE_RETURN = Pattern.compile("^(.+?\\s)RETURN\\s+(DISTINCT\\s+)?([\\w`]+)\\s*(ORDER\\s+BY\\s.+)?$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern NOT_COUNTABLE = Pattern.compile("\\b(union|skip|limit)\\b", Pattern.CASE_INSENSITIVE);
+
     private QueryEngine<Object> queryEngine;
+    private volatile String derivedCountQuery;
 
     public CypherGraphRepositoryQuery(GraphQueryMethod queryMethod, final Neo4jTemplate template) {
         super(queryMethod, template);
@@ -42,6 +50,35 @@ class CypherGraphRepositoryQuery extends GraphRepositoryQuery {
         return this.queryEngine;
     }
 
+    /**
+     * @return the configured count query, or one derived from a query that returns a single identifier
+     */
+    @Override
+    protected String getCountQueryString() {
+        final String countQuery = super.getCountQueryString();
+        if (StringUtils.hasText(countQuery)) return countQuery;
+        if (derivedCountQuery == null) {
+            final String derived = deriveCountQuery(getQueryMethod().getQueryString());
+            derivedCountQuery = derived != null ? derived : "";
+        }
+        return derivedCountQuery;
+    }
+
+    /**
+     * Turns {@code ... RETURN [DISTINCT] x [ORDER BY ...]} into {@code ... RETURN count([DISTINCT] x)}.
+     *
+     * @return the count query or null if the query is not that simple (e.g. uses skip, limit or union)
+     */
+    static String deriveCountQuery(String query) {
+        if (query == null) return null;
+        final String trimmed = query.trim();
+        if (NOT_COUNTABLE.matcher(trimmed).find()) return null;
+        final Matcher matcher = SIMPLE_RETURN.matcher(trimmed);
+        if (!matcher.matches()) return null;
+        final String distinct = matcher.group(2) != null ? "distinct " : "";
+        return matcher.group(1) + "RETURN count(" + distinct + matcher.group(3) + ")";
+    }
+
     private String addPaging(String baseQuery, Pageable pageable) {
         if (pageable==null) {
             return baseQuery;
@@ -24,9 +24,8 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.parser.Part;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.springframework.util.StringUtils.*;
 
@@ -35,15 +34,57 @@ public class CypherQuery implements CypherQueryDefinition {
     private final List<MatchClause> matchClauses = new ArrayList<MatchClause>();
     private final List<StartClause> startClauses = new ArrayList<StartClause>();
     private final List<WhereClause> whereClauses = new ArrayList<WhereClause>();
+    private final Map<PartInfo, WhereClause> indexCandidates = new LinkedHashMap<PartInfo, WhereClause>();
+    private final StartClausePlanner planner;
+    private volatile PlannedClauses planned;
     private Sort defaultSorts;
     private int index = 0;
     private final Neo4jPersistentEntity<?> entity;
     private final Neo4jTemplate template;
     private boolean isCountQuery = false;
 
+    private static final int MAX_SORTED_STATEMENTS = 64;
+
+    private interface ParameterBinding {
+        Object bind(Object value);
+    }
+
+    /**
+     * The compiled form of the query: the chosen clauses, the statement without sorting, statements per sort order
+     * and a converting binding per parameter index. Compiled once on first use and after each added part.
+     */
+    private static class PlannedClauses {
+        final StartClausePlanner.Plan plan;
+        final List<StartClause> startClauses;
+        final List<WhereClause> whereClauses;
+        final List<StartClause> queryStartClauses = new ArrayList<StartClause>();
+        final ParameterBinding[] bindings;
+        final Map<Sort, String> sortedStatements = new ConcurrentHashMap<Sort, String>();
+        String statement;
+        String countStatement;
+
+        PlannedClauses(StartClausePlanner.Plan plan, List<StartClause> startClauses, List<WhereClause> whereClauses, int parameterCount) {
+            this.plan = plan;
+            this.startClauses = startClauses;
+            this.whereClauses = whereClauses;
+            this.bindings = new ParameterBinding[parameterCount];
+        }
+    }
+
+    private static final Comparator<StartClause> BY_PARAMETER_INDEX = new Comparator<StartClause>() {
+        public int compare(StartClause c1, StartClause c2) {
+            return c1.getPartInfo().getParameterIndex() - c2.getPartInfo().getParameterIndex();
+        }
+    };
+
     public CypherQuery(final Neo4jPersistentEntity<?> entity, Neo4jTemplate template) {
+        this(entity, template, new StartClausePlanner());
+    }
+
+    public CypherQuery(final Neo4jPersistentEntity<?> entity, Neo4jTemplate template, StartClausePlanner planner) {
         this.entity = entity;
         this.template = template;
+        this.planner = planner;
     }
 
     private String getEntityName(Neo4jPersistentEntity<?> entity) {
@@ -64,8 +105,11 @@ public class CypherQuery implements CypherQueryDefinition {
         // index1(a=foo) where a.foo=bar
         Neo4jPersistentProperty leafProperty = partInfo.getLeafProperty();
         if (partInfo.isPrimitiveProperty() && !leafProperty.isIdProperty()) {
-            if (!addedStartClause(partInfo)) {
-                whereClauses.add(new WhereClause(partInfo,template));
+            final WhereClause whereClause = new WhereClause(partInfo, template);
+            whereClauses.add(whereClause);
+            // the start index is chosen by the planner once all parts are known
+            if (StartClausePlanner.isIndexCandidate(partInfo)) {
+                indexCandidates.put(partInfo, whereClause);
             }
         } else if (leafProperty.isRelationship()) {
             startClauses.add(new NodeEntityMatchingStartClause(partInfo));
@@ -77,6 +121,7 @@ public class CypherQuery implements CypherQueryDefinition {
             throw new IllegalStateException("Error "+part+" points neither to a primitive nor a entity property of "+entity);
         }
         index += 1;
+        planned = null;
 
         MatchClause matchClause = new MatchClause(path);
 
@@ -106,26 +151,83 @@ public class CypherQuery implements CypherQueryDefinition {
             : new Sort.Order(o.getDirection(),getEntityName(entity)+"."+o.getProperty());
     }
 
-    private boolean addedStartClause(PartInfo partInfo) {
-        if (!partInfo.isIndexed()) return false;
+    /**
+     * @return the index lookups this query starts from and the indexed parts that are filtered instead
+     */
+    @Override
+    public StartClausePlanner.Plan getStartPlan() {
+        return planned().plan;
+    }
+
+    private PlannedClauses planned() {
+        PlannedClauses planned = this.planned;
+        if (planned == null) {
+            planned = planClauses();
+            this.planned = planned;
+        }
+        return planned;
+    }
+
+    private PlannedClauses planClauses() {
+        final Set<String> startedIdentifiers = new HashSet<String>();
         for (StartClause startClause : startClauses) {
-            // only merge when same index and same variable
-            if (startClause.sameIdentifier(partInfo)) {
-                if (startClause.sameIndex(partInfo)) {
-                    startClause.merge(partInfo);
-                    return true;
-                } else {
-                    // must stop b/c of invalid combination (same identifier but different index)
-                    return false;
+            startedIdentifiers.add(startClause.getPartInfo().getIdentifier());
+        }
+        final StartClausePlanner.Plan plan = planner.plan(new ArrayList<PartInfo>(indexCandidates.keySet()), startedIdentifiers);
+        final List<StartClause> indexStartClauses = new ArrayList<StartClause>();
+        final List<WhereClause> plannedWhereClauses = new ArrayList<WhereClause>(whereClauses);
+        for (PartInfo partInfo : plan.getStartParts()) {
+            addIndexStartClause(indexStartClauses, partInfo);
+            plannedWhereClauses.remove(indexCandidates.get(partInfo));
+        }
+        final List<StartClause> plannedStartClauses = new ArrayList<StartClause>(startClauses);
+        plannedStartClauses.addAll(indexStartClauses);
+        Collections.sort(plannedStartClauses, BY_PARAMETER_INDEX);
+        final PlannedClauses planned = new PlannedClauses(plan, plannedStartClauses, plannedWhereClauses, index);
+        bindParameters(planned);
+        planned.statement = render(planned, isCountQuery);
+        planned.countStatement = isCountQuery ? planned.statement : render(planned, true);
+        return planned;
+    }
+
+    private void bindParameters(PlannedClauses planned) {
+        for (final StartClause startClause : planned.startClauses) {
+            if (startClause instanceof NodeEntityMatchingStartClause) continue;
+            if (startClause.shouldRenderQuery()) {
+                // index queries combine the values of several parameters
+                planned.queryStartClauses.add(startClause);
+                continue;
+            }
+            planned.bindings[startClause.getPartInfo().getParameterIndex()] = new ParameterBinding() {
+                public Object bind(Object value) {
+                    return startClause.resolveValue(value, template);
                 }
+            };
+        }
+        for (final WhereClause whereClause : planned.whereClauses) {
+            final int parameterIndex = whereClause.getPartInfo().getParameterIndex();
+            if (parameterIndex < 0) continue;
+            planned.bindings[parameterIndex] = new ParameterBinding() {
+                public Object bind(Object value) {
+                    return whereClause.resolveValue(value);
+                }
+            };
+        }
+    }
+
+    private void addIndexStartClause(List<StartClause> indexStartClauses, PartInfo partInfo) {
+        for (StartClause startClause : indexStartClauses) {
+            // only merge when same index and same variable
+            if (startClause.sameIdentifier(partInfo) && startClause.sameIndex(partInfo)) {
+                startClause.merge(partInfo);
+                return;
             }
         }
-        startClauses.add(new StartClause(partInfo));
-        return true;
+        indexStartClauses.add(new StartClause(partInfo));
     }
 
     public PartInfo getPartInfo(int parameterIndex) {
-        for (StartClause startClause : startClauses) {
+        for (StartClause startClause : planned().startClauses) {
             if (startClause.getPartInfo().getParameterIndex() == parameterIndex) return startClause.getPartInfo();
         }
         for (WhereClause whereClause : whereClauses) {
@@ -136,14 +238,16 @@ public class CypherQuery implements CypherQueryDefinition {
 
     @Override
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
-        for (StartClause startClause : startClauses) {
+        final PlannedClauses planned = planned();
+        for (StartClause startClause : planned.queryStartClauses) {
             parameters = startClause.resolveParameters(parameters,template);
         }
-        for (MatchClause matchClause : matchClauses) {
-            parameters = matchClause.resolveParameters(parameters);
-        }
-        for (WhereClause whereClause : whereClauses) {
-            parameters = whereClause.resolveParameters(parameters);
+        final ParameterBinding[] bindings = planned.bindings;
+        for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
+            final int parameterIndex = entry.getKey().getIndex();
+            if (parameterIndex < bindings.length && bindings[parameterIndex] != null) {
+                entry.setValue(bindings[parameterIndex].bind(entry.getValue()));
+            }
         }
         return parameters;
     }
@@ -153,10 +257,10 @@ public class CypherQuery implements CypherQueryDefinition {
         return toQueryString(defaultSorts);
     }
 
-    private String render() {
-        String startClauses = collectionToDelimitedString(this.startClauses, ", ");
+    private String render(PlannedClauses planned, boolean isCountQuery) {
+        String startClauses = collectionToDelimitedString(planned.startClauses, ", ");
         String matchClauses = toQueryString(this.matchClauses);
-        String whereClauses = collectionToDelimitedString(this.whereClauses, " AND ");
+        String whereClauses = collectionToDelimitedString(planned.whereClauses, " AND ");
 
         StringBuilder builder = new StringBuilder("START ");
 
@@ -212,11 +316,20 @@ public class CypherQuery implements CypherQueryDefinition {
 
     @Override
     public String toQueryString(Sort sort) {
-        return toQueryString(sort,true);
+        final PlannedClauses planned = planned();
+        if (sort == null) return planned.statement;
+        String statement = planned.sortedStatements.get(sort);
+        if (statement == null) {
+            statement = toQueryString(sort, true);
+            if (planned.sortedStatements.size() < MAX_SORTED_STATEMENTS) {
+                planned.sortedStatements.put(sort, statement);
+            }
+        }
+        return statement;
     }
 
     private String toQueryString(Sort sort,boolean applyMissingRefs) {
-        StringBuilder builder = new StringBuilder(render());
+        StringBuilder builder = new StringBuilder(planned().statement);
         if (sort != null) {
             builder.append(addSorts(
                     applyMissingRefs ? getCypherEntityRefAwareSort(sort) : sort));
@@ -227,11 +340,14 @@ public class CypherQuery implements CypherQueryDefinition {
     @Override
     public String toQueryString(Pageable pageable) {
         if (pageable == null) {
-            return render();
+            return planned().statement;
         }
-        StringBuilder builder = new StringBuilder(toQueryString(pageable.getSort()));
-        builder.append(String.format(QueryTemplates.SKIP_LIMIT, pageable.getOffset(), pageable.getPageSize()));
-        return builder.toString();
+        return toQueryString(pageable.getSort()) + " SKIP " + pageable.getOffset() + " LIMIT " + pageable.getPageSize();
+    }
+
+    @Override
+    public String toCountQueryString() {
+        return planned().countStatement;
     }
 
     @Override
@@ -241,5 +357,6 @@ public class CypherQuery implements CypherQueryDefinition {
 
     public void setIsCountQuery(boolean isCountQuery) {
         this.isCountQuery = isCountQuery;
+        this.planned = null;
     }
 }
@@ -33,9 +33,13 @@ class CypherQueryBuilder {
     private final CypherQuery query;
 
     public CypherQueryBuilder(MappingContext<? extends Neo4jPersistentEntity<?>, Neo4jPersistentProperty> context, Class<?> type, Neo4jTemplate template) {
+        this(context, type, template, new StartClausePlanner());
+    }
+
+    public CypherQueryBuilder(MappingContext<? extends Neo4jPersistentEntity<?>, Neo4jPersistentProperty> context, Class<?> type, Neo4jTemplate template, StartClausePlanner planner) {
         this.context = context;
         Neo4jPersistentEntity<?> entity = context.getPersistentEntity(type);
-        this.query = new CypherQuery(entity, template);
+        this.query = new CypherQuery(entity, template, planner);
     }
 
     public CypherQueryBuilder asCountQuery() {
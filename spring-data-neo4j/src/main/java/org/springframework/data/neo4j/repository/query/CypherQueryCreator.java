@@ -37,6 +37,7 @@ class CypherQueryCreator extends AbstractQueryCreator<CypherQueryDefinition, Cyp
     private final MappingContext<? extends Neo4jPersistentEntity<?>, Neo4jPersistentProperty> context;
     private final Class<?> domainClass;
     private final Neo4jTemplate template;
+    private final StartClausePlanner planner;
     private boolean isCountProjection = false;
 
     /**
@@ -49,14 +50,25 @@ class CypherQueryCreator extends AbstractQueryCreator<CypherQueryDefinition, Cyp
      * @param template
      */
     public CypherQueryCreator(PartTree tree, MappingContext<? extends Neo4jPersistentEntity<?>, Neo4jPersistentProperty> context, Class<?> domainClass, Neo4jTemplate template) {
+        this(tree, context, domainClass, template, new StartClausePlanner());
+    }
+
+    /**
+     * Creates a new {@link CypherQueryCreator} that chooses the start index lookups with the given planner.
+     *
+     * @param planner must not be {@literal null}.
+     */
+    public CypherQueryCreator(PartTree tree, MappingContext<? extends Neo4jPersistentEntity<?>, Neo4jPersistentProperty> context, Class<?> domainClass, Neo4jTemplate template, StartClausePlanner planner) {
 
         super(tree);
 
         Assert.notNull(context);
         Assert.notNull(domainClass);
         Assert.notNull(template);
+        Assert.notNull(planner);
 
         this.template = template;
+        this.planner = planner;
         this.context = context;
         this.domainClass = domainClass;
         this.isCountProjection = tree.isCountProjection();
@@ -69,7 +81,7 @@ class CypherQueryCreator extends AbstractQueryCreator<CypherQueryDefinition, Cyp
     @Override
     protected CypherQueryBuilder create(Part part, Iterator<Object> iterator) {
 
-        CypherQueryBuilder builder = new CypherQueryBuilder(context, domainClass,template);
+        CypherQueryBuilder builder = new CypherQueryBuilder(context, domainClass, template, planner);
         if (isCountProjection) {
             builder = builder.asCountQuery();
         }
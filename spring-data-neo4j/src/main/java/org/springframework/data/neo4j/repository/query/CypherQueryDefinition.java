@@ -52,4 +52,18 @@ interface CypherQueryDefinition extends ParameterResolver {
      * @return
      */
     String toQueryString(Pageable pageable);
+
+    /**
+     * Returns a Cypher query counting the results of the query, using the same parameters.
+     *
+     * @return
+     */
+    String toCountQueryString();
+
+    /**
+     * Returns the index lookups the query starts from, as chosen by the {@link StartClausePlanner}.
+     *
+     * @return
+     */
+    StartClausePlanner.Plan getStartPlan();
 }
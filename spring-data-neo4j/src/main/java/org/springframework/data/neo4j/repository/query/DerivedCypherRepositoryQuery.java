@@ -28,6 +28,7 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import java.util.Map;
 
@@ -50,16 +51,42 @@ public class DerivedCypherRepositoryQuery extends CypherGraphRepositoryQuery {
      * @param template must not be {@literal null}.
      */
     public DerivedCypherRepositoryQuery(Neo4jMappingContext mappingContext, GraphQueryMethod queryMethod, Neo4jTemplate template) {
+        this(mappingContext, queryMethod, template, new StartClausePlanner());
+    }
+
+    /**
+     * Creates a new {@link DerivedCypherRepositoryQuery} that chooses its start index lookups with the given
+     * {@link StartClausePlanner}.
+     */
+    public DerivedCypherRepositoryQuery(Neo4jMappingContext mappingContext, GraphQueryMethod queryMethod, Neo4jTemplate template, StartClausePlanner planner) {
         super(queryMethod, template);
         Assert.notNull(mappingContext);
 
         EntityMetadata<?> info = queryMethod.getEntityInformation();
         PartTree tree = new PartTree(queryMethod.getName(), info.getJavaType());
 
-        this.query = new CypherQueryCreator(tree, mappingContext, info.getJavaType(),template).createQuery();
+        this.query = new CypherQueryCreator(tree, mappingContext, info.getJavaType(), template, planner).createQuery();
+        // compile the statement and parameter bindings up front, unless the plan depends on the data in the graph
+        if (planner.getStatistics() == null) query.getStartPlan();
         if (log.isDebugEnabled()) log.debug("Derived query: "+query+ "from method "+queryMethod);
     }
 
+    /**
+     * @return the index lookups the derived query starts from
+     */
+    public StartClausePlanner.Plan getStartPlan() {
+        return query.getStartPlan();
+    }
+
+    /**
+     * @return the named count query if there is one, the count query derived from the method name otherwise
+     */
+    @Override
+    protected String getCountQueryString() {
+        final String countQuery = super.getCountQueryString();
+        return StringUtils.hasText(countQuery) ? countQuery : query.toCountQueryString();
+    }
+
     @Override
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
         return super.resolveParameters(query.resolveParameters(parameters));
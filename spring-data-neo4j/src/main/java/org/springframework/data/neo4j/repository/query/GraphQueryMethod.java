@@ -15,7 +15,11 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.neo4j.annotation.FetchProperties;
 import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.mapping.FetchGraph;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.GenericTypeExtractor;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
@@ -28,7 +32,10 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.Future;
 
 /**
 * @author mh
@@ -40,6 +47,10 @@ public class GraphQueryMethod extends QueryMethod {
     private final NamedQueries namedQueries;
     private final Neo4jMappingContext mappingContext;
     private final Query queryAnnotation;
+    private final MappingPolicy mappingPolicy;
+    private final boolean async;
+    private final Class<?> resultType;
+    private final Type genericResultType;
 
     public GraphQueryMethod(Method method, RepositoryMetadata metadata, NamedQueries namedQueries, Neo4jMappingContext mappingContext) {
         super(method, metadata);
@@ -47,6 +58,49 @@ public class GraphQueryMethod extends QueryMethod {
         this.namedQueries = namedQueries;
         this.mappingContext = mappingContext;
         this.queryAnnotation = method.getAnnotation(Query.class);
+        final FetchProperties fetchProperties = method.getAnnotation(FetchProperties.class);
+        this.mappingPolicy = fetchProperties != null ? FetchGraph.of(fetchProperties.value()) : null;
+        this.async = Future.class.isAssignableFrom(method.getReturnType());
+        this.genericResultType = async ? futureValueType(method.getGenericReturnType()) : method.getGenericReturnType();
+        this.resultType = async ? rawType(genericResultType) : method.getReturnType();
+    }
+
+    private static Type futureValueType(Type futureType) {
+        if (futureType instanceof ParameterizedType) {
+            return ((ParameterizedType) futureType).getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) return (Class<?>) type;
+        if (type instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) type).getRawType();
+        return Object.class;
+    }
+
+    /**
+     * @return true if the method returns a {@link Future}, the query is then executed asynchronously and the other
+     * result type methods describe the value of the future
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * @return true if the method returns a {@link Page}, for asynchronous methods if the value of the future is one
+     */
+    @Override
+    public boolean isPageQuery() {
+        // called by the super constructor before the result type is resolved
+        if (resultType == null) return super.isPageQuery();
+        return Page.class.isAssignableFrom(resultType);
+    }
+
+    /**
+     * @return the mapping policy for the returned entities or null to use the default policy of their type
+     */
+    public MappingPolicy getMappingPolicy() {
+        return mappingPolicy;
     }
 
     public String getQueryString() {
@@ -81,7 +135,7 @@ public class GraphQueryMethod extends QueryMethod {
 
     
     public Class<?> getReturnType() {
-        return method.getReturnType();
+        return resultType;
     }
 
     protected Map<String, Object> resolveParams(ParameterAccessor accessor, ParameterResolver parameterResolver) {
@@ -120,7 +174,7 @@ public class GraphQueryMethod extends QueryMethod {
         if (elementClass!=null) {
             return elementClass;
         }
-        return GenericTypeExtractor.resolveReturnedType(method);
+        return GenericTypeExtractor.resolveConcreteType(resultType, genericResultType);
     }
 
     private Class<?> getElementClass() {
@@ -139,11 +193,21 @@ public class GraphQueryMethod extends QueryMethod {
     }
 
     public RepositoryQuery createQuery(final Neo4jTemplate template) {
+        return createQuery(template, new StartClausePlanner(), new CountQuerySettings());
+    }
+
+    public RepositoryQuery createQuery(final Neo4jTemplate template, StartClausePlanner planner, CountQuerySettings countQuerySettings) {
+        final GraphRepositoryQuery query = createGraphRepositoryQuery(template, planner);
+        query.setCountQuerySettings(countQuerySettings);
+        return query;
+    }
+
+    private GraphRepositoryQuery createGraphRepositoryQuery(Neo4jTemplate template, StartClausePlanner planner) {
         if (queryAnnotation == null) {
             if (namedQueries.hasQuery(getNamedQueryName())) {
                 return new CypherGraphRepositoryQuery(this, template); // cypher is default for named queries
             } else {
-                return new DerivedCypherRepositoryQuery(mappingContext, this, template);
+                return new DerivedCypherRepositoryQuery(mappingContext, this, template, planner);
             }
         }
         switch (queryAnnotation.type()) {
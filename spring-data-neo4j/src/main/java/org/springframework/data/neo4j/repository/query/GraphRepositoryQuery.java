@@ -21,16 +21,24 @@ import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.conversion.EndResult;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.core.UncategorizedGraphStoreException;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.query.QueryEngine;
+import org.springframework.data.neo4j.template.GraphCallback;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
 * @author mh
@@ -39,6 +47,7 @@ import java.util.*;
 abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolver {
     private final GraphQueryMethod queryMethod;
     protected final Neo4jTemplate template;
+    private CountQuerySettings countQuerySettings = new CountQuerySettings();
 
     public GraphRepositoryQuery(GraphQueryMethod queryMethod, final Neo4jTemplate template) {
         Assert.notNull(queryMethod);
@@ -51,13 +60,18 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
         return template;
     }
 
+    void setCountQuerySettings(CountQuerySettings countQuerySettings) {
+        Assert.notNull(countQuerySettings);
+        this.countQuerySettings = countQuerySettings;
+    }
+
     @Override
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
-        Map<Parameter, Object> result=new LinkedHashMap<Parameter, Object>();
+        // the parameter map is created per invocation, so its values are replaced in place
         for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
-            result.put(entry.getKey(), convertGraphEntityToId(entry.getValue()));
+            entry.setValue(convertGraphEntityToId(entry.getValue()));
         }
-        return result;
+        return parameters;
     }
 
     private Object convertGraphEntityToId(Object value) {
@@ -78,9 +92,24 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
         final ParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
         Map<String, Object> params = resolveParams(accessor);
         final String queryString = createQueryWithPagingAndSorting(accessor);
+        if (queryMethod.isAsync()) return dispatchQueryAsync(queryString, params, accessor);
         return dispatchQuery(queryString, params, accessor);
     }
 
+    private Object dispatchQueryAsync(final String queryString, final Map<String, Object> params, final ParameterAccessor accessor) {
+        return template.execAsync(new GraphCallback<Object>() {
+            @Override
+            public Object doWithGraph(GraphDatabase graph) throws Exception {
+                final Object result = dispatchQuery(queryString, params, accessor);
+                // lazy results are read in the executing thread
+                if (result instanceof EndResult && queryMethod.getReturnType().isAssignableFrom(List.class)) {
+                    return IteratorUtil.addToCollection((EndResult<?>) result, new ArrayList<Object>());
+                }
+                return result;
+            }
+        });
+    }
+
     protected Map<String, Object> resolveParams(ParameterAccessor accessor) {
         return queryMethod.resolveParams(accessor, this);
     }
@@ -95,25 +124,84 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
         final QueryEngine<?> queryEngine = getQueryEngine();
         final Class<?> compoundType = queryMethod.getCompoundType();
         if (queryMethod.isPageQuery()) {
-            @SuppressWarnings("unchecked") final Iterable<?> result = queryEngine.query(queryString, params).to(compoundType);
-            Long count = computeCount(params);
-            return createPage(result, accessor.getPageable(),count);
+            final String countQuery = getCountQueryString();
+            final boolean counting = countQuery != null && StringUtils.hasText(countQuery);
+            Long count = counting ? cachedCount(countQuery, params) : null;
+            final Future<Long> pendingCount = counting && count == null && isParallelCount() ? computeCountAsync(countQuery, params) : null;
+            @SuppressWarnings("unchecked") final Iterable<?> result = query(queryEngine, queryString, params).to(compoundType);
+            final List<?> content = IteratorUtil.addToCollection(result, new ArrayList<Object>());
+            if (counting && count == null) {
+                count = pendingCount != null ? waitFor(pendingCount) : computeCount(countQuery, params);
+                cacheCount(countQuery, params, count);
+            }
+            return createPage(content, accessor.getPageable(),count);
         }
         if (queryMethod.isIterableResult()) {
-            final EndResult<?> result = queryEngine.query(queryString, params).to(compoundType);
+            final EndResult<?> result = query(queryEngine, queryString, params).to(compoundType);
             if (queryMethod.isSetResult()) return IteratorUtil.addToCollection(result,new LinkedHashSet());
             if (queryMethod.isCollectionResult()) return IteratorUtil.addToCollection(result,new ArrayList());
             return result;
         }
-        return queryEngine.query(queryString, params).to(queryMethod.getReturnType()).singleOrNull();
+        return query(queryEngine, queryString, params).to(queryMethod.getReturnType()).singleOrNull();
+    }
+
+    private Result<?> query(QueryEngine<?> queryEngine, String queryString, Map<String, Object> params) {
+        final Result<?> result = queryEngine.query(queryString, params);
+        final MappingPolicy mappingPolicy = getQueryMethod().getMappingPolicy();
+        return mappingPolicy == null ? result : result.with(mappingPolicy);
+    }
+
+    /**
+     * @return the query that computes the total of a page query, by default the configured count query
+     */
+    protected String getCountQueryString() {
+        return queryMethod.getCountQueryString();
+    }
+
+    private boolean isParallelCount() {
+        // asynchronous methods already run on the async executor, they must not wait for another task of it,
+        // within a transaction the count has to see the same (uncommitted) state as the page content
+        return countQuerySettings.isParallel() && !queryMethod.isAsync()
+                && !TransactionSynchronizationManager.isActualTransactionActive() && !template.transactionIsRunning();
     }
 
-    private Long computeCount(Map<String, Object> params) {
-        String countQuery = queryMethod.getCountQueryString();
-        if (countQuery == null || !StringUtils.hasText(countQuery)) return null;
+    private Long computeCount(String countQuery, Map<String, Object> params) {
         return getQueryEngine().query(countQuery,params).to(Long.class).singleOrNull();
     }
 
+    private Future<Long> computeCountAsync(final String countQuery, final Map<String, Object> params) {
+        return template.execAsync(new GraphCallback<Long>() {
+            @Override
+            public Long doWithGraph(GraphDatabase graph) throws Exception {
+                return computeCount(countQuery, params);
+            }
+        });
+    }
+
+    private Long waitFor(Future<Long> count) {
+        try {
+            return count.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncategorizedGraphStoreException("Interrupted while waiting for count query", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new UncategorizedGraphStoreException("Error executing count query", cause);
+        }
+    }
+
+    private Long cachedCount(String countQuery, Map<String, Object> params) {
+        final CountCache countCache = countQuerySettings.getCountCache();
+        return countCache != null ? countCache.get(countQuery, params) : null;
+    }
+
+    private void cacheCount(String countQuery, Map<String, Object> params, Long count) {
+        final CountCache countCache = countQuerySettings.getCountCache();
+        if (countCache != null && count != null) countCache.put(countQuery, params, count);
+    }
+
     @Override
     public GraphQueryMethod getQueryMethod() {
         return queryMethod;
@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.repository.query;
 import org.springframework.data.mapping.context.PersistentPropertyPath;
 import org.springframework.data.neo4j.mapping.IndexInfo;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.index.IndexType;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.util.Assert;
 
@@ -78,6 +79,10 @@ public class PartInfo {
         return isIndexed() && getIndexInfo().isFullText();
     }
 
+    public boolean isUnique() {
+        return isIndexed() && (getIndexInfo().isUnique() || getIndexInfo().getIndexType() == IndexType.UNIQUE);
+    }
+
     private IndexInfo getIndexInfo() {
         return getLeafProperty().getIndexInfo();
     }
@@ -47,7 +47,6 @@ public abstract class QueryTemplates {
 
     static final String DEFAULT_START_CLAUSE = "`%s`=node:__types__(className=\"%s\")";
     public static final String START_NODE_LOOKUP = "`%s`=node({%d})";
-    static final String SKIP_LIMIT = " SKIP %d LIMIT %d";
     static final String START_CLAUSE_INDEX_LOOKUP = "`%s`=node:`%s`(`%s`=" + PLACEHOLDER + ")";
     static final String START_CLAUSE_INDEX_QUERY = "`%s`=node:`%s`(" + PLACEHOLDER + ")";
     static final String WHERE_CLAUSE_1 = "`%1$s`.`%2$s`! %3$s {%4$d}";
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.typerepresentation.AbstractIndexingTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.typerepresentation.IndexingNodeTypeRepresentationStrategy;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the selectivity of indexed properties by sampling the values of the first entities of their type. The
+ * estimate is the ratio of distinct to sampled values, it is taken once per property and kept until {@link #clear()}.
+ * Properties with too few sampled values stay unknown, as do all properties if the node type representation strategy
+ * keeps no type index.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class SampledIndexStatistics implements StartClausePlanner.Statistics {
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+    private static final int MIN_SAMPLED_VALUES = 10;
+    private static final Double UNKNOWN = -1d;
+    private static final String SAMPLE_START = "`n`=node:`%s`(%s=\"%s\")";
+    private static final String SAMPLE_RETURN = " RETURN `n`.`%s`? AS value LIMIT %d";
+
+    private final Neo4jTemplate template;
+    private final int sampleSize;
+    private final Map<String, Double> selectivities = new ConcurrentHashMap<String, Double>();
+
+    public SampledIndexStatistics(Neo4jTemplate template) {
+        this(template, DEFAULT_SAMPLE_SIZE);
+    }
+
+    public SampledIndexStatistics(Neo4jTemplate template, int sampleSize) {
+        this.template = template;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public Double getSelectivity(PartInfo partInfo) {
+        final Neo4jPersistentEntity<?> entity = (Neo4jPersistentEntity<?>) partInfo.getLeafProperty().getOwner();
+        final String alias = String.valueOf(entity.getEntityType().getAlias());
+        final String propertyName = partInfo.getNeo4jPropertyName();
+        final String key = alias + "." + propertyName;
+        Double selectivity = selectivities.get(key);
+        if (selectivity == null) {
+            selectivity = sample(alias, propertyName);
+            selectivities.put(key, selectivity);
+        }
+        return selectivity.equals(UNKNOWN) ? null : selectivity;
+    }
+
+    private Double sample(String alias, String propertyName) {
+        // only the type index allows to read the first entities of a type cheaply
+        if (!(template.getInfrastructure().getNodeTypeRepresentationStrategy() instanceof IndexingNodeTypeRepresentationStrategy)) return UNKNOWN;
+        final String statement = "START " + String.format(SAMPLE_START, IndexingNodeTypeRepresentationStrategy.INDEX_NAME, AbstractIndexingTypeRepresentationStrategy.INDEX_KEY, alias)
+                + String.format(SAMPLE_RETURN, propertyName, sampleSize);
+        final Set<Object> distinct = new HashSet<Object>();
+        int count = 0;
+        for (Map<String, Object> row : template.query(statement, new HashMap<String, Object>())) {
+            final Object value = row.get("value");
+            if (value == null) continue;
+            distinct.add(value);
+            count++;
+        }
+        if (count < MIN_SAMPLED_VALUES) return UNKNOWN;
+        return (double) distinct.size() / count;
+    }
+
+    /**
+     * Discards all estimates, they are sampled again on next use.
+     */
+    public void clear() {
+        selectivities.clear();
+    }
+}
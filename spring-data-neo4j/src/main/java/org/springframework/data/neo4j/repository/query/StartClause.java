@@ -24,6 +24,7 @@ import org.springframework.data.repository.query.parser.Part;
 import org.neo4j.index.lucene.ValueContext;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Representation of a Cypher {@literal start} clause.
@@ -34,6 +35,7 @@ import java.util.*;
 class StartClause {
 
     private final SortedMap<Integer,PartInfo> partInfos=new TreeMap<Integer, PartInfo> ();
+    private final Map<Neo4jPersistentProperty, PropertyConverter> converters = new ConcurrentHashMap<Neo4jPersistentProperty, PropertyConverter>();
 
     /**
      * Creates a new {@link StartClause} from the given {@link Neo4jPersistentProperty}, variable and the given
@@ -57,7 +59,7 @@ class StartClause {
         return String.format(QueryTemplates.START_CLAUSE_INDEX_LOOKUP, identifier, indexName, partInfo.getNeo4jPropertyName(), parameterIndex);
     }
 
-    private boolean shouldRenderQuery() {
+    boolean shouldRenderQuery() {
         PartInfo partInfo = getPartInfo();
         return partInfo.isFullText() || EnumSet.of(Part.Type.LIKE,Part.Type.STARTING_WITH,Part.Type.CONTAINING,Part.Type.ENDING_WITH).contains(partInfo.getType())|| partInfos.size() > 1;
     }
@@ -103,11 +105,22 @@ class StartClause {
         return result;
     }
 
+    /**
+     * @return the value of a single index lookup as it is stored in the index
+     */
+    Object resolveValue(Object value, Neo4jTemplate template) {
+        return convertIfNecessary(template, value, getPartInfo().getLeafProperty());
+    }
+
     private Object convertIfNecessary(Neo4jTemplate template, Object value, Neo4jPersistentProperty property) {
 		if (property.isIndexedNumerically()) return new ValueContext(value).indexNumeric();
         if (property.isNeo4jPropertyType() && property.isNeo4jPropertyValue(value)) return value;
 
-        PropertyConverter converter = new PropertyConverter(template.getConversionService(), property);
+        PropertyConverter converter = converters.get(property);
+        if (converter == null) {
+            converter = new PropertyConverter(template.getConversionService(), property);
+            converters.put(property, converter);
+        }
         return converter.serializePropertyValue(value);
     }
 
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import org.springframework.data.repository.query.parser.Part;
+
+import java.util.*;
+
+/**
+ * Chooses the index lookups a derived finder query starts from.
+ * <p/>
+ * For each variable of the query all its restrictions on indexed properties are candidates. Fulltext and wildcard
+ * queries can't be checked the same way in a where clause, so the first of them (fulltext before wildcard) is always
+ * the start. Otherwise the most selective exact lookup is chosen by the cardinality hints of its index: a lookup on a
+ * unique index first, then the other exact lookups, ties are broken by the optional {@link Statistics}, then by
+ * declaration order. Candidates on the same (non unique) index are combined into one index query; all others are
+ * turned into where clauses.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class StartClausePlanner {
+
+    private static final EnumSet<Part.Type> INDEX_QUERY_TYPES = EnumSet.of(Part.Type.LIKE, Part.Type.STARTING_WITH, Part.Type.CONTAINING, Part.Type.ENDING_WITH);
+
+    /**
+     * How a chosen part accesses its index, in order of preference. Index queries come first as they would change
+     * their meaning as where clauses.
+     */
+    public enum Access {
+        FULLTEXT_QUERY, INDEX_QUERY, UNIQUE_LOOKUP, EXACT_LOOKUP;
+
+        boolean isQuery() {
+            return this == FULLTEXT_QUERY || this == INDEX_QUERY;
+        }
+    }
+
+    /**
+     * Optional selectivity estimates for indexed properties.
+     */
+    public interface Statistics {
+        /**
+         * @return the estimated ratio of distinct values to entities for the property of the part (1.0 for unique
+         * values), or null if unknown
+         */
+        Double getSelectivity(PartInfo partInfo);
+    }
+
+    /**
+     * The chosen start parts of a query, for inspection.
+     */
+    public static class Plan {
+        private final Map<PartInfo, Access> startParts = new LinkedHashMap<PartInfo, Access>();
+        private final List<PartInfo> filteredParts = new ArrayList<PartInfo>();
+
+        public Collection<PartInfo> getStartParts() {
+            return Collections.unmodifiableSet(startParts.keySet());
+        }
+
+        public Access getAccess(PartInfo partInfo) {
+            return startParts.get(partInfo);
+        }
+
+        /**
+         * @return the indexed parts that were turned into where clauses
+         */
+        public List<PartInfo> getFilteredParts() {
+            return Collections.unmodifiableList(filteredParts);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            for (Map.Entry<PartInfo, Access> entry : startParts.entrySet()) {
+                final PartInfo partInfo = entry.getKey();
+                if (sb.length() > 0) sb.append(", ");
+                sb.append(partInfo.getIdentifier()).append(": ").append(entry.getValue())
+                  .append(" ").append(partInfo.getIndexName()).append("(").append(partInfo.getIndexKey()).append(")");
+            }
+            for (PartInfo partInfo : filteredParts) {
+                sb.append(sb.length() > 0 ? ", " : "").append(partInfo.getIdentifier()).append(": FILTER ").append(partInfo.getNeo4jPropertyName());
+            }
+            return sb.toString();
+        }
+    }
+
+    private final Statistics statistics;
+
+    public StartClausePlanner() {
+        this(null);
+    }
+
+    public StartClausePlanner(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return true if the part can be answered by the index of its property
+     */
+    static boolean isIndexCandidate(PartInfo partInfo) {
+        return partInfo.isIndexed() && (partInfo.getType() == Part.Type.SIMPLE_PROPERTY || INDEX_QUERY_TYPES.contains(partInfo.getType()));
+    }
+
+    static Access accessOf(PartInfo partInfo) {
+        if (partInfo.isFullText()) return Access.FULLTEXT_QUERY;
+        if (INDEX_QUERY_TYPES.contains(partInfo.getType())) return Access.INDEX_QUERY;
+        return partInfo.isUnique() ? Access.UNIQUE_LOOKUP : Access.EXACT_LOOKUP;
+    }
+
+    /**
+     * @param candidates         the restrictions on indexed properties, in declaration order
+     * @param startedIdentifiers variables that already have a start clause (e.g. a node id lookup), their candidates
+     *                           are always filtered
+     */
+    public Plan plan(List<PartInfo> candidates, Set<String> startedIdentifiers) {
+        final Plan plan = new Plan();
+        final Map<String, List<PartInfo>> byIdentifier = new LinkedHashMap<String, List<PartInfo>>();
+        for (PartInfo candidate : candidates) {
+            if (startedIdentifiers.contains(candidate.getIdentifier())) {
+                plan.filteredParts.add(candidate);
+                continue;
+            }
+            List<PartInfo> parts = byIdentifier.get(candidate.getIdentifier());
+            if (parts == null) {
+                parts = new ArrayList<PartInfo>();
+                byIdentifier.put(candidate.getIdentifier(), parts);
+            }
+            parts.add(candidate);
+        }
+        for (List<PartInfo> parts : byIdentifier.values()) {
+            final PartInfo best = Collections.min(parts, new Comparator<PartInfo>() {
+                public int compare(PartInfo p1, PartInfo p2) {
+                    final Access access = accessOf(p1);
+                    final int compared = access.compareTo(accessOf(p2));
+                    if (compared != 0) return compared;
+                    // only exact lookups are reordered, index queries keep their declaration order
+                    final int selectivity = access.isQuery() ? 0 : compareSelectivity(p1, p2);
+                    if (selectivity != 0) return selectivity;
+                    return p1.getParameterIndex() - p2.getParameterIndex();
+                }
+            });
+            final Access bestAccess = accessOf(best);
+            for (PartInfo part : parts) {
+                final boolean combined = bestAccess != Access.UNIQUE_LOOKUP && part.sameIndex(best);
+                if (part == best || combined) {
+                    plan.startParts.put(part, accessOf(part));
+                } else {
+                    plan.filteredParts.add(part);
+                }
+            }
+        }
+        return plan;
+    }
+
+    private int compareSelectivity(PartInfo p1, PartInfo p2) {
+        if (statistics == null) return 0;
+        final Double s1 = statistics.getSelectivity(p1);
+        final Double s2 = statistics.getSelectivity(p2);
+        if (s1 == null || s2 == null) return 0;
+        return s2.compareTo(s1);
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link CountCache} that keeps each total for a fixed time, holding at most a given number of totals (least recently
+ * used ones are dropped first).
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class TtlCountCache implements CountCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static class CachedCount {
+        final long count;
+        final long expires;
+
+        CachedCount(long count, long expires) {
+            this.count = count;
+            this.expires = expires;
+        }
+    }
+
+    private final long ttl;
+    private final Map<List<Object>, CachedCount> counts;
+
+    /**
+     * @param ttl milliseconds a total is kept
+     */
+    public TtlCountCache(long ttl) {
+        this(ttl, DEFAULT_MAX_ENTRIES);
+    }
+
+    public TtlCountCache(long ttl, final int maxEntries) {
+        this.ttl = ttl;
+        this.counts = new LinkedHashMap<List<Object>, CachedCount>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedCount> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private List<Object> key(String countQuery, Map<String, Object> params) {
+        return Arrays.<Object>asList(countQuery, params == null ? null : new HashMap<String, Object>(params));
+    }
+
+    @Override
+    public synchronized Long get(String countQuery, Map<String, Object> params) {
+        final List<Object> key = key(countQuery, params);
+        final CachedCount cached = counts.get(key);
+        if (cached == null) return null;
+        if (cached.expires < System.currentTimeMillis()) {
+            counts.remove(key);
+            return null;
+        }
+        return cached.count;
+    }
+
+    @Override
+    public synchronized void put(String countQuery, Map<String, Object> params, long count) {
+        counts.put(key(countQuery, params), new CachedCount(count, System.currentTimeMillis() + ttl));
+    }
+
+    public synchronized void clear() {
+        counts.clear();
+    }
+}
@@ -37,6 +37,7 @@ import static org.springframework.data.neo4j.repository.query.QueryTemplates.WHE
 class WhereClause {
 
     protected static final Map<Type, String> SYMBOLS;
+    private static final EnumSet<Type> EXPRESSION_TYPES = EnumSet.of(Type.CONTAINING, Type.STARTING_WITH, Type.ENDING_WITH);
 
     static {
 
@@ -108,15 +109,15 @@ class WhereClause {
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
         for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
             if (partInfo.getParameterIndex() == entry.getKey().getIndex()) {
-                Object value = entry.getValue();
-                if (EnumSet.of(Type.CONTAINING,Type.STARTING_WITH,Type.ENDING_WITH).contains(type))
-                    value = QueryTemplates.formatExpression(partInfo, value);
-                else if (propertyConverter!=null) {
-                    value = propertyConverter.serializePropertyValue(value);
-                }
-                entry.setValue(value);
+                entry.setValue(resolveValue(entry.getValue()));
             }
         }
         return parameters;
     }
+
+    Object resolveValue(Object value) {
+        if (EXPRESSION_TYPES.contains(type)) return QueryTemplates.formatExpression(partInfo, value);
+        if (propertyConverter != null) return propertyConverter.serializePropertyValue(value);
+        return value;
+    }
 }
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support;
+
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.helpers.collection.ClosableIterable;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.support.mapping.EntityRemover;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Deletes large numbers of nodes or relationships without mapping them to entities, committing a transaction every
+ * {@link #getBatchSize() batch size} removed elements. A node is always removed together with its relationships, so
+ * a batch can exceed the batch size by the relationships of its last node. The delete methods return the number of
+ * deleted entities, i.e. of the nodes or relationships that were selected, the progress is reported in removed
+ * elements, which includes the relationships removed together with the nodes. Relationships, index entries and the type
+ * representation bookkeeping are removed via the {@link EntityRemover}.
+ * <p/>
+ * Each batch queries the remaining elements again, so an interrupted delete can just be run again and continues with
+ * what is left. Inside of a surrounding transaction the batches are not committed separately.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class BulkDeleter {
+    public static final int DEFAULT_BATCH_SIZE = 10000;
+
+    public interface ProgressListener {
+        /**
+         * @param deleted number of nodes and relationships deleted so far
+         */
+        void batchCommitted(long deleted);
+    }
+
+    private interface Remaining {
+        Iterator<? extends PropertyContainer> iterator();
+        void close();
+    }
+
+    private final Neo4jTemplate template;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private ProgressListener progressListener;
+
+    public BulkDeleter(Neo4jTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Deletes all instances of the entity type as provided by the type representation strategy.
+     * @return number of deleted entities
+     */
+    public long deleteAll(Class<?> entityClass) {
+        final StoredEntityType type = template.getEntityType(entityClass);
+        return delete(new Remaining() {
+            private ClosableIterable<PropertyContainer> all;
+
+            @Override
+            public Iterator<? extends PropertyContainer> iterator() {
+                all = template.getInfrastructure().getTypeRepresentationStrategies().findAll(type);
+                return all.iterator();
+            }
+
+            @Override
+            public void close() {
+                if (all != null) all.close();
+            }
+        });
+    }
+
+    /**
+     * Deletes the nodes or relationships returned by the cypher statement, which has to return a single column.
+     * @return number of deleted nodes or relationships returned by the statement
+     */
+    public long deleteAll(final String statement, final Map<String, Object> params) {
+        return delete(new Remaining() {
+            private Result<Map<String, Object>> result;
+
+            @Override
+            public Iterator<? extends PropertyContainer> iterator() {
+                result = template.query(statement, params);
+                final Iterator<Map<String, Object>> rows = result.iterator();
+                return new Iterator<PropertyContainer>() {
+                    @Override
+                    public boolean hasNext() {
+                        return rows.hasNext();
+                    }
+
+                    @Override
+                    public PropertyContainer next() {
+                        final Object value = rows.next().values().iterator().next();
+                        if (value instanceof PropertyContainer) return (PropertyContainer) value;
+                        throw new IllegalArgumentException("Expected nodes or relationships as result of " + statement + " but got " + value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                if (result != null) result.finish();
+            }
+        });
+    }
+
+    private long delete(Remaining remaining) {
+        final EntityRemover entityRemover = template.getInfrastructure().getEntityRemover();
+        long deleted = 0;
+        long deletedEntities = 0;
+        while (true) {
+            int batch = 0;
+            int batchEntities = 0;
+            boolean exhausted = true;
+            final Transaction tx = template.getGraphDatabase().beginTx();
+            try {
+                final Iterator<? extends PropertyContainer> states = remaining.iterator();
+                while (states.hasNext()) {
+                    if (batch >= batchSize) {
+                        exhausted = false;
+                        break;
+                    }
+                    batch += entityRemover.removeState(states.next());
+                    batchEntities++;
+                }
+                tx.success();
+            } catch (RuntimeException e) {
+                tx.failure();
+                throw e;
+            } finally {
+                try {
+                    remaining.close();
+                } finally {
+                    tx.finish();
+                }
+            }
+            deleted += batch;
+            deletedEntities += batchEntities;
+            if (batch > 0 && progressListener != null) progressListener.batchCommitted(deleted);
+            if (exhausted) return deletedEntities;
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive, was " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+}
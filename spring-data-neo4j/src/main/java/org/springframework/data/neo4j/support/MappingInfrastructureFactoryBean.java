@@ -36,6 +36,7 @@ import org.springframework.data.neo4j.support.index.IndexProviderImpl;
 import org.springframework.data.neo4j.support.mapping.EntityRemover;
 import org.springframework.data.neo4j.support.mapping.EntityStateHandler;
 import org.springframework.data.neo4j.support.mapping.EntityTools;
+import org.springframework.data.neo4j.support.mapping.Neo4jEntityFetchPlanner;
 import org.springframework.data.neo4j.support.mapping.Neo4jEntityPersister;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.node.EntityStateFactory;
@@ -81,6 +82,9 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
     private GraphDatabase graphDatabase;
     private IsNewStrategyFactory isNewStrategyFactory;
     private TypeSafetyPolicy typeSafetyPolicy;
+    private int maxFetchDepth = Neo4jEntityFetchPlanner.UNLIMITED_DEPTH;
+    private Boolean bulkLoadFetchedStates;
+    private Boolean prefetchEntityStates;
 
     private MappingInfrastructure mappingInfrastructure;
     private TypeRepresentationStrategyFactory.Strategy typeRepresentationStrategy;
@@ -146,6 +150,10 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         EntityTools<Node> nodeEntityTools = new EntityTools<Node>(nodeTypeRepresentationStrategy, nodeEntityStateFactory, nodeEntityInstantiator, mappingContext);
         EntityTools<Relationship> relationshipEntityTools = new EntityTools<Relationship>(relationshipTypeRepresentationStrategy, relationshipEntityStateFactory, relationshipEntityInstantiator, mappingContext);
         this.entityPersister = new Neo4jEntityPersister(conversionService, nodeEntityTools, relationshipEntityTools, mappingContext, entityStateHandler);
+        this.entityPersister.getFetchPlanner().setMaxFetchDepth(maxFetchDepth);
+        // reading a level of fetched entities with one query only pays off for remote databases
+        this.entityPersister.getFetchPlanner().setBulkLoadStates(bulkLoadFetchedStates != null ? bulkLoadFetchedStates : !(graphDatabase instanceof DelegatingGraphDatabase));
+        this.entityPersister.getStatePrefetcher().setEnabled(prefetchEntityStates != null ? prefetchEntityStates : !(graphDatabase instanceof DelegatingGraphDatabase));
         this.entityRemover = new EntityRemover(this.entityStateHandler, nodeTypeRepresentationStrategy, relationshipTypeRepresentationStrategy, graphDatabase);
         if (this.resultConverter == null) {
             this.resultConverter = new EntityResultConverter<Object, Object>(conversionService);
@@ -306,6 +314,18 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         return typeSafetyPolicy;
     }
 
+    public void setMaxFetchDepth(int maxFetchDepth) {
+        this.maxFetchDepth = maxFetchDepth;
+    }
+
+    public void setBulkLoadFetchedStates(boolean bulkLoadFetchedStates) {
+        this.bulkLoadFetchedStates = bulkLoadFetchedStates;
+    }
+
+    public void setPrefetchEntityStates(boolean prefetchEntityStates) {
+        this.prefetchEntityStates = prefetchEntityStates;
+    }
+
     @Override
     public Infrastructure getObject() {
         return mappingInfrastructure;
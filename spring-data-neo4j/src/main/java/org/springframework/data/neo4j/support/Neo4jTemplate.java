@@ -20,13 +20,16 @@ import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.index.Index;
 import org.neo4j.graphdb.traversal.TraversalDescription;
 import org.neo4j.helpers.collection.ClosableIterable;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.neo4j.index.lucene.ValueContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.mapping.model.MappingException;
@@ -38,10 +41,16 @@ import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.core.UncategorizedGraphStoreException;
+import org.springframework.data.neo4j.fieldaccess.FieldAccessor;
 import org.springframework.data.neo4j.fieldaccess.GraphBackedEntityIterableWrapper;
+import org.springframework.data.neo4j.fieldaccess.LazyManagedSet;
+import org.springframework.data.neo4j.fieldaccess.QueryFieldAccessorFactory;
+import org.springframework.data.neo4j.lifecycle.AfterSaveAllEvent;
 import org.springframework.data.neo4j.lifecycle.AfterSaveEvent;
+import org.springframework.data.neo4j.lifecycle.BeforeSaveAllEvent;
 import org.springframework.data.neo4j.lifecycle.BeforeSaveEvent;
 import org.springframework.data.neo4j.lifecycle.DeleteEvent;
+import org.springframework.data.neo4j.lifecycle.LifecycleEventDispatcher;
 import org.springframework.data.neo4j.mapping.IndexInfo;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
@@ -52,19 +61,29 @@ import org.springframework.data.neo4j.repository.RelationshipGraphRepository;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.index.IndexType;
 import org.springframework.data.neo4j.support.mapping.*;
+import org.springframework.data.neo4j.support.node.EntityStateFactory;
+import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 import org.springframework.data.neo4j.template.GraphCallback;
 import org.springframework.data.neo4j.template.Neo4jOperations;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.validation.Validator;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
 
@@ -80,11 +99,17 @@ import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
 /*
 TODO This is a  merge of GraphDatabaseContext and the previous Neo4jTemplate, so it still contains inconsistencies, if you spot them, please mark them with a TODO
  */
-public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
+public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware, DisposableBean {
     private static final Logger log = LoggerFactory.getLogger(Neo4jTemplate.class);
 
+    public static final int DEFAULT_ASYNC_POOL_SIZE = 10;
+    public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1000;
+
     private final Infrastructure infrastructure;
     private ApplicationContext applicationContext;
+    private volatile LifecycleEventDispatcher eventDispatcher;
+    private volatile AsyncTaskExecutor asyncExecutor;
+    private ThreadPoolTaskExecutor defaultAsyncExecutor;
 
     /**
      * @param graphDatabase      the neo4j graph database
@@ -143,20 +168,47 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
 
     @Override
     public <T> T findOne(long id, final Class<T> entityClass) {
+        return findOne(id, entityClass, null);
+    }
+
+    @Override
+    public <T> T findOne(long id, final Class<T> entityClass, MappingPolicy mappingPolicy) {
         final Neo4jPersistentEntityImpl<?> persistentEntity = getPersistentEntity(entityClass);
+        if (mappingPolicy == null) mappingPolicy = persistentEntity.getMappingPolicy();
         if (persistentEntity.isNodeEntity()) {
+            final Neo4jEntityStatePrefetcher statePrefetcher = infrastructure.getEntityPersister().getStatePrefetcher();
+            if (statePrefetcher.isEnabled()) {
+                PrefetchedStates.push();
+                try {
+                    final Node node = prefetchNode(statePrefetcher, id, persistentEntity, mappingPolicy);
+                    if (node == null) return null;
+                    return infrastructure.getEntityPersister().createEntityFromState(node, entityClass, mappingPolicy, this);
+                } finally {
+                    PrefetchedStates.pop();
+                }
+            }
             final Node node = getNode(id);
             if (node == null) return null;
-            return infrastructure.getEntityPersister().createEntityFromState(node, entityClass, persistentEntity.getMappingPolicy(), this);
+            return infrastructure.getEntityPersister().createEntityFromState(node, entityClass, mappingPolicy, this);
         }
         if (persistentEntity.isRelationshipEntity()) {
             final Relationship relationship = getRelationship(id);
             if (relationship == null) return null;
-            return infrastructure.getEntityPersister().createEntityFromState(relationship, entityClass, persistentEntity.getMappingPolicy(), this);
+            return infrastructure.getEntityPersister().createEntityFromState(relationship, entityClass, mappingPolicy, this);
         }
         throw new IllegalArgumentException("provided entity type is neither annotated with @NodeEntiy nor @RelationshipEntity");
     }
 
+    private Node prefetchNode(Neo4jEntityStatePrefetcher statePrefetcher, long id, Neo4jPersistentEntityImpl<?> persistentEntity, MappingPolicy mappingPolicy) {
+        try {
+            return statePrefetcher.prefetchNode(id, persistentEntity, mappingPolicy, this);
+        } catch (RuntimeException e) {
+            // report unknown ids the same way as without prefetching
+            getNode(id);
+            throw translateExceptionIfPossible(e);
+        }
+    }
+
     @Override
     public <T> EndResult<T> findAll(final Class<T> entityClass) {
         notNull(entityClass, "entity type");
@@ -164,6 +216,13 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         return new QueryResultBuilder<PropertyContainer>(all, getDefaultConverter()).to(entityClass);
     }
 
+    @Override
+    public <T> EndResult<T> findAll(final Class<T> entityClass, MappingPolicy mappingPolicy) {
+        notNull(entityClass, "entity type", mappingPolicy, "mapping policy");
+        final ClosableIterable<PropertyContainer> all = infrastructure.getTypeRepresentationStrategies().findAll(getEntityType(entityClass));
+        return new QueryResultBuilder<PropertyContainer>(all, getDefaultConverter()).with(mappingPolicy).to(entityClass);
+    }
+
     @Override
     public <T> long count(final Class<T> entityClass) {
         notNull(entityClass, "entity type");
@@ -221,7 +280,26 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     public void delete(final Object entity) {
         infrastructure.getEntityRemover().remove(entity);
 
-        if (applicationContext != null) applicationContext.publishEvent(new DeleteEvent<Object>(this, entity));
+        final LifecycleEventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher != null && dispatcher.hasListeners(DeleteEvent.class, entity.getClass())) {
+            dispatcher.publish(new DeleteEvent<Object>(this, entity));
+        }
+    }
+
+    @Override
+    public <T> long deleteAll(Class<T> entityClass) {
+        notNull(entityClass, "entity type");
+        final LifecycleEventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher != null && dispatcher.hasListeners(DeleteEvent.class, entityClass)) {
+            // the listeners need the mapped entities
+            long deleted = 0;
+            for (T entity : findAll(entityClass)) {
+                delete(entity);
+                deleted++;
+            }
+            return deleted;
+        }
+        return new BulkDeleter(this).deleteAll(entityClass);
     }
 
     /**
@@ -289,12 +367,34 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
 
     @SuppressWarnings("unchecked")
     public <T> T save(T entity, final RelationshipType annotationProvidedRelationshipType) {
-        if (applicationContext != null) applicationContext.publishEvent(new BeforeSaveEvent<T>(this, entity));
+        final LifecycleEventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher != null && dispatcher.hasListeners(BeforeSaveEvent.class, entity.getClass())) {
+            dispatcher.publish(new BeforeSaveEvent<T>(this, entity));
+        }
         T t = (T) infrastructure.getEntityPersister().persist(entity, getMappingPolicy(entity), this, annotationProvidedRelationshipType);
-        if (applicationContext != null) applicationContext.publishEvent(new AfterSaveEvent<T>(this, entity));
+        if (dispatcher != null && dispatcher.hasListeners(AfterSaveEvent.class, entity.getClass())) {
+            dispatcher.publish(new AfterSaveEvent<T>(this, entity));
+        }
         return t;
     }
 
+    @Override
+    public <T> Iterable<T> saveAll(Iterable<T> entities) {
+        notNull(entities, "entities");
+        final List<T> toSave = IteratorUtil.addToCollection(entities, new ArrayList<T>());
+        final LifecycleEventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher != null && dispatcher.hasListeners(BeforeSaveAllEvent.class)) {
+            dispatcher.publish(new BeforeSaveAllEvent<T>(this, toSave));
+        }
+        for (T entity : toSave) {
+            save(entity);
+        }
+        if (dispatcher != null && dispatcher.hasListeners(AfterSaveAllEvent.class)) {
+            dispatcher.publish(new AfterSaveAllEvent<T>(this, toSave));
+        }
+        return entities;
+    }
+
     public boolean isManaged(Object entity) {
         return infrastructure.getEntityStateHandler().isManaged(entity);
     }
@@ -409,6 +509,135 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         });
     }
 
+    @Override
+    public <T> Future<T> execAsync(final GraphCallback<T> callback) {
+        notNull(callback, "callback");
+        return getAsyncExecutor().submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                return exec(callback);
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> execConcurrently(List<? extends GraphCallback<? extends T>> callbacks) {
+        notNull(callbacks, "callbacks");
+        final List<Future<? extends T>> futures = new ArrayList<Future<? extends T>>(callbacks.size());
+        for (GraphCallback<? extends T> callback : callbacks) {
+            futures.add(execAsync(callback));
+        }
+        final List<T> results = new ArrayList<T>(futures.size());
+        for (Future<? extends T> future : futures) {
+            results.add(waitFor(future));
+        }
+        return results;
+    }
+
+    private <T> T waitFor(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncategorizedGraphStoreException("Interrupted while waiting for asynchronous graph operation", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new UncategorizedGraphStoreException("Error executing asynchronous graph operation", cause);
+        }
+    }
+
+    @Override
+    public <T> Future<T> findOneAsync(final long id, final Class<T> entityClass) {
+        return execAsync(new GraphCallback<T>() {
+            @Override
+            public T doWithGraph(GraphDatabase graph) throws Exception {
+                return findOne(id, entityClass);
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<List<T>> findAllAsync(final Class<T> entityClass) {
+        return execAsync(new GraphCallback<List<T>>() {
+            @Override
+            public List<T> doWithGraph(GraphDatabase graph) throws Exception {
+                return IteratorUtil.addToCollection(findAll(entityClass), new ArrayList<T>());
+            }
+        });
+    }
+
+    @Override
+    public Future<List<Map<String, Object>>> queryAsync(final String statement, final Map<String, Object> params) {
+        notNull(statement, "statement");
+        return execAsync(new GraphCallback<List<Map<String, Object>>>() {
+            @Override
+            public List<Map<String, Object>> doWithGraph(GraphDatabase graph) throws Exception {
+                return IteratorUtil.addToCollection(query(statement, params), new ArrayList<Map<String, Object>>());
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<T> saveAsync(final T entity) {
+        notNull(entity, "entity");
+        return execAsync(new GraphCallback<T>() {
+            @Override
+            public T doWithGraph(GraphDatabase graph) throws Exception {
+                return save(entity);
+            }
+        });
+    }
+
+    public AsyncTaskExecutor getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    defaultAsyncExecutor = createDefaultAsyncExecutor();
+                    asyncExecutor = defaultAsyncExecutor;
+                }
+            }
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * @param asyncExecutor executor for the <code>*Async</code> operations, by default a bounded pool of
+     *                      {@value #DEFAULT_ASYNC_POOL_SIZE} daemon threads which runs tasks in the calling thread
+     *                      when its queue is full. An executor passed in is not shut down by {@link #destroy()}.
+     */
+    public void setAsyncExecutor(AsyncTaskExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    private ThreadPoolTaskExecutor createDefaultAsyncExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(DEFAULT_ASYNC_POOL_SIZE);
+        executor.setMaxPoolSize(DEFAULT_ASYNC_POOL_SIZE);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(DEFAULT_ASYNC_QUEUE_CAPACITY);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("neo4j-async-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Shuts down the default executor of the <code>*Async</code> operations if this template created it.
+     */
+    @Override
+    public void destroy() {
+        final ThreadPoolTaskExecutor executor;
+        synchronized (this) {
+            executor = defaultAsyncExecutor;
+            defaultAsyncExecutor = null;
+            if (executor != null && asyncExecutor == executor) asyncExecutor = null;
+        }
+        if (executor != null) executor.shutdown();
+    }
+
     @Override
     public Node getReferenceNode() {
         try {
@@ -481,6 +710,58 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         }
     }
 
+    @Override
+    public void initializeLazy(Iterable<?> entities, String propertyName) {
+        notNull(entities, "entities", propertyName, "property name");
+        final List<LazyManagedSet<?>> lazySets = new ArrayList<LazyManagedSet<?>>();
+        for (Object entity : entities) {
+            final Neo4jPersistentProperty property = getPersistentProperty(entity.getClass(), propertyName);
+            if (property == null) throw new InvalidDataAccessApiUsageException("Unknown property " + propertyName + " of " + entity.getClass());
+            final Object value = property.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
+            if (value instanceof LazyManagedSet) lazySets.add((LazyManagedSet<?>) value);
+        }
+        LazyManagedSet.initializeAll(lazySets);
+    }
+
+    @Override
+    public void initializeQueryField(Iterable<?> entities, String propertyName) {
+        notNull(entities, "entities", propertyName, "property name");
+        final Map<Neo4jPersistentProperty, List<Object>> entitiesByProperty = new LinkedHashMap<Neo4jPersistentProperty, List<Object>>();
+        for (Object entity : entities) {
+            final Neo4jPersistentProperty property = getPersistentProperty(entity.getClass(), propertyName);
+            if (property == null || !property.hasQuery()) throw new InvalidDataAccessApiUsageException("Unknown query property " + propertyName + " of " + entity.getClass());
+            List<Object> propertyEntities = entitiesByProperty.get(property);
+            if (propertyEntities == null) entitiesByProperty.put(property, propertyEntities = new ArrayList<Object>());
+            propertyEntities.add(entity);
+        }
+        try {
+            for (Map.Entry<Neo4jPersistentProperty, List<Object>> entry : entitiesByProperty.entrySet()) {
+                final Neo4jPersistentProperty property = entry.getKey();
+                final QueryFieldAccessorFactory.QueryFieldAccessor accessor = queryFieldAccessorFor(property);
+                final Map<Object, Object> values = accessor.getValues(entry.getValue(), property.getMappingPolicy());
+                for (Map.Entry<Object, Object> value : values.entrySet()) {
+                    property.setValue(value.getKey(), value.getValue());
+                }
+            }
+        } catch (RuntimeException e) {
+            throw translateExceptionIfPossible(e);
+        }
+    }
+
+    /**
+     * Uses the accessor of the node entity states for the field, so that it is set up only once per field.
+     */
+    private QueryFieldAccessorFactory.QueryFieldAccessor queryFieldAccessorFor(Neo4jPersistentProperty property) {
+        final EntityStateFactory<Node> stateFactory = infrastructure.getEntityPersister().getNodeEntityStateFactory();
+        if (stateFactory instanceof NodeEntityStateFactory) {
+            final FieldAccessor accessor = ((NodeEntityStateFactory) stateFactory).getFieldAccessorFactory(this).forField(property);
+            if (accessor instanceof QueryFieldAccessorFactory.QueryFieldAccessor) {
+                return (QueryFieldAccessorFactory.QueryFieldAccessor) accessor;
+            }
+        }
+        return new QueryFieldAccessorFactory.QueryFieldAccessor(property, this);
+    }
+
     @Override
     public MappingPolicy getMappingPolicy(Class<?> targetType) {
         return getPersistentEntity(targetType).getMappingPolicy();
@@ -689,5 +970,6 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
+        this.eventDispatcher = applicationContext != null ? new LifecycleEventDispatcher(applicationContext, getClass()) : null;
     }
 }
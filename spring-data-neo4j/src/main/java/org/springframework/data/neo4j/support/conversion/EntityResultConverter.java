@@ -16,27 +16,31 @@
 
 package org.springframework.data.neo4j.support.conversion;
 
+import org.neo4j.graphdb.Transaction;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.neo4j.annotation.MapResult;
 import org.springframework.data.neo4j.conversion.DefaultConverter;
+import org.springframework.data.neo4j.conversion.ParallelResultConverter;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.EntityPath;
 import org.springframework.data.neo4j.mapping.EntityPersister;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.Neo4jTemplateAware;
+import org.springframework.data.neo4j.support.mapping.Neo4jEntityPersister;
 import org.springframework.data.neo4j.support.path.ConvertingEntityPath;
 
 import javax.inject.Provider;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * @author mh
  * @since 28.06.11
  */
-public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implements Neo4jTemplateAware<EntityResultConverter<T,R>> {
+public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implements Neo4jTemplateAware<EntityResultConverter<T,R>>, ParallelResultConverter {
     private final ConversionService conversionService;
     private Neo4jTemplate template;
 
@@ -99,4 +103,23 @@ public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implemen
             return super.convert(value, type,mappingPolicy);
     }
 
+    /**
+     * Converts a batch of a parallel conversion within a read transaction of the worker thread and with one entity
+     * cache for the whole batch.
+     */
+    @Override
+    public <V> V convertInWorker(Callable<V> batch) throws Exception {
+        if (template == null) return batch.call();
+        final Neo4jEntityPersister entityPersister = template.getInfrastructure().getEntityPersister();
+        final Transaction tx = template.getGraphDatabase().beginTx();
+        entityPersister.beginEntityCacheScope();
+        try {
+            final V result = batch.call();
+            tx.success();
+            return result;
+        } finally {
+            entityPersister.endEntityCacheScope();
+            tx.finish();
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.springframework.data.mapping.model.MappingException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Reads the entity class names that {@link org.springframework.data.neo4j.querydsl.SDNAnnotationProcessor} recorded at
+ * build time (when run with the {@value #PROCESSOR_OPTION} option), so that the entities of a base package can be
+ * registered without scanning the classpath at startup. It is only used if enabled with the
+ * <code>entityRegistry</code> attribute of <code>&lt;neo4j:config&gt;</code>.
+ * <p/>
+ * All entities of a base package have to be compiled with the option, otherwise the ones without a registry entry
+ * are missed.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public final class EntityRegistry {
+    public static final String LOCATION = "META-INF/spring-data-neo4j.entities";
+    public static final String PROCESSOR_OPTION = "neo4j.entityRegistry";
+
+    private EntityRegistry() {
+    }
+
+    /**
+     * @return the registered entity classes in the given packages (or their sub packages), or null if there is no
+     * registry entry for any of them, in which case the packages have to be scanned
+     */
+    public static Set<String> findEntityClassNames(ClassLoader classLoader, String... basePackages) {
+        final Set<String> result = new LinkedHashSet<String>();
+        for (String className : readEntityClassNames(classLoader)) {
+            if (isInPackages(className, basePackages)) result.add(className);
+        }
+        return result.isEmpty() ? null : result;
+    }
+
+    private static boolean isInPackages(String className, String[] basePackages) {
+        for (String basePackage : basePackages) {
+            if (className.startsWith(basePackage + ".")) return true;
+        }
+        return false;
+    }
+
+    static Set<String> readEntityClassNames(ClassLoader classLoader) {
+        final Set<String> classNames = new LinkedHashSet<String>();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                readEntityClassNames(resources.nextElement(), classNames);
+            }
+        } catch (IOException ioe) {
+            throw new MappingException("Error reading the entity registry " + LOCATION, ioe);
+        }
+        return classNames;
+    }
+
+    private static void readEntityClassNames(URL resource, Set<String> classNames) throws IOException {
+        final InputStream stream = resource.openStream();
+        try {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, "UTF-8"));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                classNames.add(line);
+            }
+        } finally {
+            stream.close();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.support.mapping;
 
 import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Relationship;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
@@ -45,12 +46,15 @@ public class EntityRemover {
         removeNode(node);
     }
 
-    private void removeNode(Node node) {
+    private int removeNode(Node node) {
         nodeTypeRepresentationStrategy.preEntityRemoval(node);
+        int removed = 1;
         for (Relationship relationship : node.getRelationships()) {
             removeRelationship(relationship);
+            removed++;
         }
         graphDatabase.remove(node);
+        return removed;
     }
 
     public void removeRelationshipEntity(Object entity) {
@@ -71,6 +75,17 @@ public class EntityRemover {
         }
     }
 
+    /**
+     * Removes the node with all its relationships or the relationship, including their index entries and type
+     * representation.
+     * @return the number of removed nodes and relationships
+     */
+    public int removeState(PropertyContainer state) {
+        if (state instanceof Node) return removeNode((Node) state);
+        removeRelationship((Relationship) state);
+        return 1;
+    }
+
     public void remove(Object entity) {
         if (entity instanceof Node) {
             removeNode((Node)entity);
@@ -99,11 +99,15 @@ public class EntityStateHandler {
         if (isManaged(entity)) {
             return ((ManagedEntity<S, Object>) entity).getPersistentState();
         }
+        final S mapped = MappedEntityStates.get(entity);
+        if (mapped != null) return mapped;
         final Number id = getId(entity);
         if (id == null) return null;
         long graphId = id.longValue();
         final Neo4jPersistentEntityImpl<?> persistentEntity = mappingContext.getPersistentEntity(entity.getClass());
         if (persistentEntity.isNodeEntity()) {
+            final Node prefetched = PrefetchedStates.node(graphId);
+            if (prefetched != null) return (S) prefetched;
             return (S) graphDatabase.getNodeById(graphId);
         }
         if (persistentEntity.isRelationshipEntity()) {
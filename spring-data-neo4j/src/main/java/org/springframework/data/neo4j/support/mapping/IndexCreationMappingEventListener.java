@@ -15,30 +15,136 @@
  */
 package org.springframework.data.neo4j.support.mapping;
 
-import org.neo4j.graphdb.index.Index;
-import org.springframework.context.ApplicationListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.Ordered;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContextEvent;
+import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.index.IndexType;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
 /**
+ * Creates (or verifies) the indexes of each entity added to the mapping context. By default that happens right away, if
+ * an executor is set the indexes are created in the background on it, so the startup does not wait for them.
+ * <p/>
+ * Background creation only overlaps with the rest of the startup: when the application context is refreshed the
+ * listener waits for all pending indexes, so no save or index lookup runs before they exist, and fails the refresh if
+ * one of them could not be created. Entities added to the mapping context afterwards get their indexes right away. The
+ * executor is shut down when the listener is destroyed.
+ *
  * @author mh
  * @since 12.04.12
  */
-public class IndexCreationMappingEventListener implements ApplicationListener<MappingContextEvent<Neo4jPersistentEntity<?>, Neo4jPersistentProperty>> {
+public class IndexCreationMappingEventListener implements SmartApplicationListener, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(IndexCreationMappingEventListener.class);
+
     private IndexProvider indexProvider;
+    private Executor executor;
+    private final Queue<Future<?>> pending = new ConcurrentLinkedQueue<Future<?>>();
+    private volatile boolean refreshed;
+
     public IndexCreationMappingEventListener(IndexProvider indexProvider) {
         this.indexProvider = indexProvider;
     }
 
     @Override
-    public void onApplicationEvent(MappingContextEvent<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> event) {
-        if (!(event.getSource() instanceof Neo4jMappingContext)) return;
-        final Neo4jPersistentEntity entity = event.getPersistentEntity();
-        ensureEntityIndexes(entity);
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return MappingContextEvent.class.isAssignableFrom(eventType) || ContextRefreshedEvent.class.isAssignableFrom(eventType);
+    }
+
+    @Override
+    public boolean supportsSourceType(Class<?> sourceType) {
+        return true;
+    }
+
+    /**
+     * Runs before the other listeners of the context refresh, so they already see the indexes.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ContextRefreshedEvent) {
+            awaitIndexes();
+            refreshed = true;
+            return;
+        }
+        if (!(event instanceof MappingContextEvent) || !(event.getSource() instanceof Neo4jMappingContext)) return;
+        @SuppressWarnings("unchecked") final Neo4jPersistentEntity<?> entity =
+                ((MappingContextEvent<Neo4jPersistentEntity<?>, Neo4jPersistentProperty>) event).getPersistentEntity();
+        if (executor == null || refreshed) {
+            ensureEntityIndexes(entity);
+            return;
+        }
+        final FutureTask<Void> task = new FutureTask<Void>(new Runnable() {
+            public void run() {
+                ensureEntityIndexes(entity);
+            }
+        }, null);
+        pending.add(task);
+        executor.execute(task);
+    }
+
+    /**
+     * Waits until the indexes of all entities handed to the executor so far have been created.
+     * @throws MappingException or the error of the first index that could not be created, after all others are done
+     */
+    public void awaitIndexes() {
+        Throwable failure = null;
+        Future<?> future;
+        while ((future = pending.peek()) != null) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MappingException("Interrupted while waiting for the entity indexes", e);
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+                else log.error("Error creating indexes", e.getCause());
+            }
+            pending.remove(future);
+        }
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        if (failure != null) throw new MappingException("Error creating the entity indexes", failure);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+        pending.clear();
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param executor if set, the indexes are created asynchronously on it until the context is refreshed, otherwise
+     *                 synchronously. An {@link ExecutorService} is shut down with the listener.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
     }
 
     private void ensureEntityIndexes(Neo4jPersistentEntity<?> entity) {
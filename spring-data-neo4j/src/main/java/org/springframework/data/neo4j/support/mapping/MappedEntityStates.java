@@ -0,0 +1,64 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.PropertyContainer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Thread bound store of the node or relationship of each entity that is currently copied from or to the graph by the
+ * {@link SourceStateTransmitter}. The field accessors resolve the persistent state of the entity for every property,
+ * with it that is a map lookup instead of reading the id and looking up the node or relationship each time.
+ * <p/>
+ * Scopes nest like the entity cache, the store is dropped when the outermost scope is closed.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class MappedEntityStates {
+    private static final ThreadLocal<MappedEntityStates> current = new ThreadLocal<MappedEntityStates>();
+
+    private int depth;
+    private final Map<Object, PropertyContainer> states = new IdentityHashMap<Object, PropertyContainer>();
+
+    public static void push(Object entity, PropertyContainer state) {
+        MappedEntityStates mappedStates = current.get();
+        if (mappedStates == null) {
+            mappedStates = new MappedEntityStates();
+            current.set(mappedStates);
+        }
+        mappedStates.depth++;
+        if (state != null) mappedStates.states.put(entity, state);
+    }
+
+    public static void pop() {
+        final MappedEntityStates mappedStates = current.get();
+        if (mappedStates != null && --mappedStates.depth == 0) {
+            current.remove();
+        }
+    }
+
+    /**
+     * @return the state of the entity if it is mapped in the current scope, null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static <S extends PropertyContainer> S get(Object entity) {
+        final MappedEntityStates mappedStates = current.get();
+        return mappedStates == null ? null : (S) mappedStates.states.get(entity);
+    }
+}
@@ -38,7 +38,7 @@ import java.lang.reflect.InvocationTargetException;
  * @author mh
  * @since 07.10.11
  */
-public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements Neo4jEntityConverter<T,S> {
+public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements Neo4jEntityConverter<T,S>, Neo4jEntityFetchPlanner.Loader<S> {
     private final Neo4jMappingContext mappingContext;
     private final ConversionService conversionService;
     private final EntityInstantiator<S> entityInstantiator;
@@ -46,10 +46,18 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
     private final TypeMapper<S> typeMapper;
     private final SourceStateTransmitter<S> sourceStateTransmitter;
     private final Neo4jEntityFetchHandler entityFetchHandler;
+    private final Neo4jEntityFetchPlanner fetchPlanner;
 
     public Neo4jEntityConverterImpl(Neo4jMappingContext mappingContext, ConversionService conversionService,
                                     EntityStateHandler entityStateHandler, Neo4jEntityFetchHandler entityFetchHandler,
                                     EntityTools<S> entityTools) {
+        this(mappingContext, conversionService, entityStateHandler, entityFetchHandler, entityTools, new Neo4jEntityFetchPlanner());
+    }
+
+    public Neo4jEntityConverterImpl(Neo4jMappingContext mappingContext, ConversionService conversionService,
+                                    EntityStateHandler entityStateHandler, Neo4jEntityFetchHandler entityFetchHandler,
+                                    EntityTools<S> entityTools, Neo4jEntityFetchPlanner fetchPlanner) {
+        this.fetchPlanner = fetchPlanner;
         this.mappingContext = mappingContext;
         this.conversionService = conversionService;
         this.entityStateHandler = entityStateHandler;
@@ -108,24 +116,34 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
     @Override
     public <R extends T> R loadEntity(R entity, S source, MappingPolicy mappingPolicy, Neo4jPersistentEntityImpl<R> persistentEntity, final Neo4jTemplate template) {
         if (mappingPolicy.shouldLoad()) {
-            final BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper = BeanWrapper.<Neo4jPersistentEntity<R>, R>create(entity, conversionService);
-            sourceStateTransmitter.copyPropertiesFrom(wrapper, source, persistentEntity,mappingPolicy, template);
-            // 6) handle cascading fetches
-            cascadeFetch(persistentEntity, wrapper, mappingPolicy, template);
+            // entities fetched while loading another one are loaded breadth first by the running plan
+            if (fetchPlanner.schedule(entity, source, persistentEntity, mappingPolicy, this)) return entity;
+            fetchPlanner.load(entity, source, persistentEntity, mappingPolicy, this, template);
         }
         return entity;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void loadNow(Object entity, S source, Neo4jPersistentEntityImpl<?> persistentEntity, MappingPolicy mappingPolicy, Neo4jTemplate template) {
+        final Neo4jPersistentEntityImpl<Object> entityType = (Neo4jPersistentEntityImpl<Object>) persistentEntity;
+        final BeanWrapper<Neo4jPersistentEntity<Object>, Object> wrapper = BeanWrapper.<Neo4jPersistentEntity<Object>, Object>create(entity, conversionService);
+        sourceStateTransmitter.copyPropertiesFrom(wrapper, source, entityType, mappingPolicy, template);
+        // 6) handle cascading fetches
+        cascadeFetch(entityType, wrapper, mappingPolicy, template);
+    }
+
     private <R extends T> boolean storedAndRequestedTypesMatch(Class<R> requestedType, S source) {
         TypeInformation<?> storedType = typeMapper.readType(source);
         return storedType.getType().isAssignableFrom(requestedType);
     }
 
-    private <R extends T> void cascadeFetch(Neo4jPersistentEntityImpl<R> persistentEntity, final BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, final MappingPolicy policy, final Neo4jTemplate template) {
+    private <R> void cascadeFetch(Neo4jPersistentEntityImpl<R> persistentEntity, final BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, final MappingPolicy policy, final Neo4jTemplate template) {
         persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
             @Override
             public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
                 final Neo4jPersistentProperty property = association.getInverse();
+                if (policy instanceof FetchGraph && !((FetchGraph) policy).includes(property)) return;
                 // MappingPolicy mappingPolicy = policy.combineWith(property.getMappingPolicy());
                 final MappingPolicy mappingPolicy = property.getMappingPolicy();
                 if (mappingPolicy.shouldLoad() && property.isRelationship()) {
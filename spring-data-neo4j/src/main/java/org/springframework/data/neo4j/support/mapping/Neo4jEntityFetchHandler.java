@@ -55,6 +55,11 @@ public class Neo4jEntityFetchHandler {
         if (property.getTypeInformation().isCollectionLike()) {
             List<Object> replacement = new ArrayList<Object>();
             for (Object inner : ((Iterable) value)) {
+                // already loaded or scheduled for loading by the running fetch plan, no need to look up its state
+                if (Neo4jEntityFetchPlanner.isScheduled(inner)) {
+                    replacement.add(inner);
+                    continue;
+                }
                 final BeanWrapper<Neo4jPersistentEntity<Object>, Object> innerWrapper = BeanWrapper.<Neo4jPersistentEntity<Object>, Object>create(inner, conversionService);
                 final PropertyContainer state = entityStateHandler.getPersistentState(inner);
                 fetchValue(innerWrapper, state, persistentEntity, mappingPolicy, template);
@@ -63,6 +68,7 @@ public class Neo4jEntityFetchHandler {
             }
             return replacement;
         } else {
+            if (Neo4jEntityFetchPlanner.isScheduled(value)) return value;
             final BeanWrapper<Neo4jPersistentEntity<Object>, Object> innerWrapper = BeanWrapper.<Neo4jPersistentEntity<Object>, Object>create(value, conversionService);
             final PropertyContainer state = entityStateHandler.getPersistentState(value);
             fetchValue(innerWrapper, state, persistentEntity, mappingPolicy, template);
@@ -71,6 +77,8 @@ public class Neo4jEntityFetchHandler {
         return value;
     }
     public  void fetchValue(final BeanWrapper<Neo4jPersistentEntity<Object>, Object> wrapper, PropertyContainer source, Neo4jPersistentEntity<Object> persistentEntity, final MappingPolicy mappingPolicy, final Neo4jTemplate template) {
+        // already loaded or scheduled for loading by the running fetch plan
+        if (Neo4jEntityFetchPlanner.isScheduled(wrapper.getBean())) return;
         if (persistentEntity.isNodeEntity()) {
             nodeStateTransmitter.copyPropertiesFrom(wrapper, (Node) source,persistentEntity, mappingPolicy, template);
         }
@@ -0,0 +1,223 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.*;
+
+/**
+ * Loads the entities reached via {@link org.springframework.data.neo4j.annotation.Fetch} breadth first.
+ * <p/>
+ * While an entity is loaded, the fetched entities it refers to are only scheduled. Afterwards they are loaded level by
+ * level, each entity instance exactly once, up to the configured maximum fetch depth. Entities beyond that depth stay
+ * id-only, just like not fetched ones. If bulk state loading is enabled (useful for remote databases), the states of
+ * each level are read ahead instead of one read per entity: the nodes of each entity type together with their mapped
+ * relationships and end nodes via the {@link Neo4jEntityStatePrefetcher} (one cypher query per entity type and level),
+ * the relationships of relationship entities with one cypher query per level.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class Neo4jEntityFetchPlanner {
+    public static final int UNLIMITED_DEPTH = -1;
+
+    interface Loader<S extends PropertyContainer> {
+        void loadNow(Object entity, S source, Neo4jPersistentEntityImpl<?> persistentEntity, MappingPolicy mappingPolicy, Neo4jTemplate template);
+    }
+
+    private static class Pending {
+        final Object entity;
+        final PropertyContainer source;
+        final Neo4jPersistentEntityImpl<?> persistentEntity;
+        final MappingPolicy mappingPolicy;
+        final Loader<PropertyContainer> loader;
+
+        Pending(Object entity, PropertyContainer source, Neo4jPersistentEntityImpl<?> persistentEntity, MappingPolicy mappingPolicy, Loader<PropertyContainer> loader) {
+            this.entity = entity;
+            this.source = source;
+            this.persistentEntity = persistentEntity;
+            this.mappingPolicy = mappingPolicy;
+            this.loader = loader;
+        }
+
+        boolean isNode() {
+            return source instanceof Node;
+        }
+
+        long id() {
+            return isNode() ? ((Node) source).getId() : ((Relationship) source).getId();
+        }
+    }
+
+    private static class Plan {
+        private final int maxFetchDepth;
+        private int depth;
+        private List<Pending> nextLevel = new ArrayList<Pending>();
+        private final Set<Object> scheduled = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+        Plan(int maxFetchDepth) {
+            this.maxFetchDepth = maxFetchDepth;
+        }
+
+        boolean mayFetchNextLevel() {
+            return maxFetchDepth == UNLIMITED_DEPTH || depth < maxFetchDepth;
+        }
+    }
+
+    private static final ThreadLocal<Plan> currentPlan = new ThreadLocal<Plan>();
+
+    private final Neo4jEntityStatePrefetcher statePrefetcher;
+    private int maxFetchDepth = UNLIMITED_DEPTH;
+    private boolean bulkLoadStates;
+
+    public Neo4jEntityFetchPlanner() {
+        this(new Neo4jEntityStatePrefetcher());
+    }
+
+    public Neo4jEntityFetchPlanner(Neo4jEntityStatePrefetcher statePrefetcher) {
+        this.statePrefetcher = statePrefetcher;
+    }
+
+    /**
+     * @return true if a fetch plan is running and the entity has been (or had already been) handed to it, so it must
+     * not be loaded right away
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends PropertyContainer> boolean schedule(Object entity, S source, Neo4jPersistentEntityImpl<?> persistentEntity, MappingPolicy mappingPolicy, Loader<S> loader) {
+        final Plan plan = currentPlan.get();
+        if (plan == null) return false;
+        if (plan.scheduled.add(entity) && plan.mayFetchNextLevel()) {
+            plan.nextLevel.add(new Pending(entity, source, persistentEntity, mappingPolicy, (Loader<PropertyContainer>) loader));
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the entity is handled by the currently running fetch plan
+     */
+    public static boolean isScheduled(Object entity) {
+        final Plan plan = currentPlan.get();
+        return plan != null && plan.scheduled.contains(entity);
+    }
+
+    /**
+     * Loads the entity and then, level by level, all the entities scheduled while doing so.
+     */
+    public <S extends PropertyContainer> void load(Object entity, S source, Neo4jPersistentEntityImpl<?> persistentEntity, MappingPolicy mappingPolicy, Loader<S> loader, Neo4jTemplate template) {
+        final Plan plan = new Plan(maxFetchDepth);
+        plan.scheduled.add(entity);
+        currentPlan.set(plan);
+        Neo4jEntityPersister.StackedEntityCache.push();
+        try {
+            loader.loadNow(entity, source, persistentEntity, mappingPolicy, template);
+            while (!plan.nextLevel.isEmpty()) {
+                final List<Pending> level = plan.nextLevel;
+                plan.nextLevel = new ArrayList<Pending>();
+                plan.depth++;
+                loadLevel(level, template);
+            }
+        } finally {
+            Neo4jEntityPersister.StackedEntityCache.pop();
+            currentPlan.remove();
+        }
+    }
+
+    private void loadLevel(List<Pending> level, Neo4jTemplate template) {
+        if (!bulkLoadStates) {
+            loadPending(level, Collections.<Long, PropertyContainer>emptyMap(), template);
+            return;
+        }
+        PrefetchedStates.push();
+        try {
+            final Map<Long, PropertyContainer> relationships = loadRelationshipStates(level, template);
+            prefetchNodeStates(level, template);
+            loadPending(level, relationships, template);
+        } finally {
+            PrefetchedStates.pop();
+        }
+    }
+
+    private void loadPending(List<Pending> level, Map<Long, PropertyContainer> relationships, Neo4jTemplate template) {
+        for (Pending pending : level) {
+            final PropertyContainer loaded = pending.isNode() ? PrefetchedStates.node(pending.id()) : relationships.get(pending.id());
+            final PropertyContainer source = loaded != null ? loaded : pending.source;
+            pending.loader.loadNow(pending.entity, source, pending.persistentEntity, pending.mappingPolicy, template);
+        }
+    }
+
+    /**
+     * Reads the nodes of the level grouped by entity type and mapping policy, together with the relationships and end
+     * nodes needed to map them, into the current {@link PrefetchedStates}.
+     */
+    private void prefetchNodeStates(List<Pending> level, Neo4jTemplate template) {
+        final Map<List<Object>, Set<Long>> groups = new LinkedHashMap<List<Object>, Set<Long>>();
+        for (Pending pending : level) {
+            if (!pending.isNode()) continue;
+            final List<Object> key = Arrays.<Object>asList(pending.persistentEntity, pending.mappingPolicy);
+            Set<Long> ids = groups.get(key);
+            if (ids == null) {
+                ids = new LinkedHashSet<Long>();
+                groups.put(key, ids);
+            }
+            ids.add(pending.id());
+        }
+        for (Map.Entry<List<Object>, Set<Long>> group : groups.entrySet()) {
+            final Neo4jPersistentEntityImpl<?> persistentEntity = (Neo4jPersistentEntityImpl<?>) group.getKey().get(0);
+            final MappingPolicy mappingPolicy = (MappingPolicy) group.getKey().get(1);
+            statePrefetcher.prefetchNodes(group.getValue(), persistentEntity, mappingPolicy, template);
+        }
+    }
+
+    private Map<Long, PropertyContainer> loadRelationshipStates(List<Pending> level, Neo4jTemplate template) {
+        final Set<Long> ids = new LinkedHashSet<Long>();
+        for (Pending pending : level) {
+            if (!pending.isNode()) ids.add(pending.id());
+        }
+        if (ids.size() < 2) return Collections.emptyMap();
+        final Map<Long, PropertyContainer> result = new HashMap<Long, PropertyContainer>(ids.size());
+        final Map<String, Object> params = Collections.<String, Object>singletonMap("ids", new ArrayList<Long>(ids));
+        for (Map<String, Object> row : template.query("START e=relationship({ids}) RETURN e", params)) {
+            final Relationship state = (Relationship) row.get("e");
+            result.put(state.getId(), state);
+        }
+        return result;
+    }
+
+    public int getMaxFetchDepth() {
+        return maxFetchDepth;
+    }
+
+    /**
+     * @param maxFetchDepth how many levels of fetched relationships are followed from a loaded entity,
+     *                      {@link #UNLIMITED_DEPTH} by default
+     */
+    public void setMaxFetchDepth(int maxFetchDepth) {
+        this.maxFetchDepth = maxFetchDepth;
+    }
+
+    public boolean isBulkLoadStates() {
+        return bulkLoadStates;
+    }
+
+    public void setBulkLoadStates(boolean bulkLoadStates) {
+        this.bulkLoadStates = bulkLoadStates;
+    }
+}
@@ -23,8 +23,11 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.neo4j.mapping.*;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.node.EntityStateFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,19 +39,46 @@ public class Neo4jEntityPersister implements EntityPersister, Neo4jEntityConvert
     Neo4jEntityConverter<Object,Relationship> relationshipConverter;
     private EntityStateHandler entityStateHandler;
     private final Neo4jMappingContext mappingContext;
+    private final Neo4jEntityStatePrefetcher statePrefetcher = new Neo4jEntityStatePrefetcher();
+    private final Neo4jEntityFetchPlanner fetchPlanner = new Neo4jEntityFetchPlanner(statePrefetcher);
+    private final EntityStateFactory<Node> nodeEntityStateFactory;
 
     public Neo4jEntityPersister(ConversionService conversionService, EntityTools<Node> nodeEntityTools, EntityTools<Relationship> relationshipEntityTools, Neo4jMappingContext mappingContext, EntityStateHandler entityStateHandler) {
         this.mappingContext = mappingContext;
         this.entityStateHandler = entityStateHandler;
+        this.nodeEntityStateFactory = nodeEntityTools.getEntityStateFactory();
 
         Neo4jEntityFetchHandler fetchHandler=new Neo4jEntityFetchHandler(entityStateHandler, conversionService, nodeEntityTools.getSourceStateTransmitter(), relationshipEntityTools.getSourceStateTransmitter());
 
-        this.nodeConverter = new CachedConverter<Node>(new Neo4jEntityConverterImpl<Object,Node>(mappingContext, conversionService, entityStateHandler, fetchHandler, nodeEntityTools));
+        this.nodeConverter = new CachedConverter<Node>(new Neo4jEntityConverterImpl<Object,Node>(mappingContext, conversionService, entityStateHandler, fetchHandler, nodeEntityTools, fetchPlanner));
 
-        this.relationshipConverter = new CachedConverter<Relationship>(new Neo4jEntityConverterImpl<Object,Relationship>(mappingContext, conversionService, entityStateHandler, fetchHandler, relationshipEntityTools));
+        this.relationshipConverter = new CachedConverter<Relationship>(new Neo4jEntityConverterImpl<Object,Relationship>(mappingContext, conversionService, entityStateHandler, fetchHandler, relationshipEntityTools, fetchPlanner));
 
     }
 
+    public Neo4jEntityFetchPlanner getFetchPlanner() {
+        return fetchPlanner;
+    }
+
+    public Neo4jEntityStatePrefetcher getStatePrefetcher() {
+        return statePrefetcher;
+    }
+
+    public EntityStateFactory<Node> getNodeEntityStateFactory() {
+        return nodeEntityStateFactory;
+    }
+
+    /**
+     * Entities created on the current thread share one entity cache until the matching {@link #endEntityCacheScope()}.
+     */
+    public void beginEntityCacheScope() {
+        StackedEntityCache.push();
+    }
+
+    public void endEntityCacheScope() {
+        StackedEntityCache.pop();
+    }
+
     public <S extends PropertyContainer, T> T createEntityFromStoredType(S state, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
         return createEntityFromState(state,null, mappingPolicy, template);
     }
@@ -194,6 +224,23 @@ public class Neo4jEntityPersister implements EntityPersister, Neo4jEntityConvert
         throw new IllegalArgumentException("state has to be either a Node or Relationship");
     }
 
+    /**
+     * Creates the entities for all the states within a single entity cache scope, so that states which occur several
+     * times, directly or as fetched associations, are mapped only once.
+     */
+    public <S extends PropertyContainer, T> List<T> createEntitiesFromStates(Iterable<S> states, Class<T> type, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
+        final List<T> result = new ArrayList<T>();
+        StackedEntityCache.push();
+        try {
+            for (S state : states) {
+                result.add(this.<S, T>createEntityFromState(state, type, mappingPolicy, template));
+            }
+            return result;
+        } finally {
+            StackedEntityCache.pop();
+        }
+    }
+
     private boolean isRelationship(PropertyContainer state) {
         return state instanceof Relationship;
     }
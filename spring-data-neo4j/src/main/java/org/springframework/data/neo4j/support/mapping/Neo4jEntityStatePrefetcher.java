@@ -0,0 +1,183 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.mapping.FetchGraph;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.mapping.RelationshipInfo;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.typerepresentation.SubReferenceNodeTypeRepresentationStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the node of a node entity together with its type alias and the directly mapped relationships and their end
+ * nodes with a single cypher statement. The results are registered with the {@link PrefetchedStates} of the current
+ * load, so the mapping doesn't have to read them one by one. That is one request instead of several per entity for a
+ * remote database, where the returned nodes and relationships already carry their properties. The
+ * {@link Neo4jEntityFetchPlanner} reads all the fetched nodes of one entity type on a level with one statement.
+ * <p/>
+ * The statement is generated once per entity type and mapping policy. Lazy relationships, relationships excluded by a
+ * {@link FetchGraph} and dynamic (query or traversal) fields are not read ahead.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class Neo4jEntityStatePrefetcher {
+    private static final String ALIAS = "alias";
+
+    private static class Prefetch {
+        final String statement;
+        final List<RelationshipInfo> relationships;
+        final boolean readsTypeAlias;
+
+        Prefetch(String statement, List<RelationshipInfo> relationships, boolean readsTypeAlias) {
+            this.statement = statement;
+            this.relationships = relationships;
+            this.readsTypeAlias = readsTypeAlias;
+        }
+    }
+
+    private final Map<List<Object>, Prefetch> prefetches = new ConcurrentHashMap<List<Object>, Prefetch>();
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Reads the node with the given id and the states needed to map it to the entity type into the current
+     * {@link PrefetchedStates}, which have to be pushed by the caller.
+     *
+     * @return the node or null if it doesn't exist
+     */
+    public Node prefetchNode(long id, Neo4jPersistentEntity<?> persistentEntity, MappingPolicy mappingPolicy, Neo4jTemplate template) {
+        return prefetchNodes(Collections.singletonList(id), persistentEntity, mappingPolicy, template).get(id);
+    }
+
+    /**
+     * Reads the nodes with the given ids, which all have to be mapped to the same entity type, and the states needed to
+     * map them with a single statement into the current {@link PrefetchedStates}, which have to be pushed by the caller.
+     *
+     * @return the existing nodes by id
+     */
+    public Map<Long, Node> prefetchNodes(Collection<Long> ids, Neo4jPersistentEntity<?> persistentEntity, MappingPolicy mappingPolicy, Neo4jTemplate template) {
+        final Prefetch prefetch = prefetchFor(persistentEntity, mappingPolicy, template);
+        final Map<String, Object> params = Collections.<String, Object>singletonMap("ids", new ArrayList<Long>(ids));
+        final PrefetchedStates states = PrefetchedStates.current();
+        final Map<Long, Node> result = new HashMap<Long, Node>(ids.size());
+        for (Map<String, Object> row : template.query(prefetch.statement, params)) {
+            final Node node = (Node) row.get("n");
+            final long id = node.getId();
+            result.put(id, node);
+            states.addNode(node);
+            if (prefetch.readsTypeAlias) states.addTypeAlias(id, row.get(ALIAS));
+            for (int i = 0; i < prefetch.relationships.size(); i++) {
+                final RelationshipInfo info = prefetch.relationships.get(i);
+                for (Object other : asCollection(row.get("m" + i))) {
+                    states.addNode((Node) other);
+                }
+                @SuppressWarnings("unchecked") final Collection<Relationship> rels = (Collection<Relationship>) asCollection(row.get("r" + i));
+                states.addRelationships(id, info.getRelationshipType(), info.getDirection(), rels);
+            }
+        }
+        return result;
+    }
+
+    private static Collection<?> asCollection(Object value) {
+        if (value == null) return Collections.emptyList();
+        if (value instanceof Collection) return (Collection<?>) value;
+        if (value instanceof Iterable) {
+            final List<Object> result = new ArrayList<Object>();
+            for (Object o : (Iterable<?>) value) {
+                result.add(o);
+            }
+            return result;
+        }
+        return Collections.singletonList(value);
+    }
+
+    private Prefetch prefetchFor(Neo4jPersistentEntity<?> persistentEntity, MappingPolicy mappingPolicy, Neo4jTemplate template) {
+        final List<Object> key = Arrays.<Object>asList(persistentEntity.getType(), mappingPolicy);
+        Prefetch prefetch = prefetches.get(key);
+        if (prefetch == null) {
+            prefetch = createPrefetch(persistentEntity, mappingPolicy, template.getInfrastructure().getNodeTypeRepresentationStrategy() instanceof SubReferenceNodeTypeRepresentationStrategy);
+            prefetches.put(key, prefetch);
+        }
+        return prefetch;
+    }
+
+    Prefetch createPrefetch(Neo4jPersistentEntity<?> persistentEntity, final MappingPolicy mappingPolicy, boolean readTypeAlias) {
+        final List<RelationshipInfo> relationships = new ArrayList<RelationshipInfo>();
+        persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                if (!property.isRelationship() || property.hasQuery() || property.getAnnotation(GraphTraversal.class) != null) return;
+                if (mappingPolicy instanceof FetchGraph && !((FetchGraph) mappingPolicy).includes(property)) return;
+                final RelationshipInfo info = property.getRelationshipInfo();
+                if (info == null || info.isLazy()) return;
+                relationships.add(info);
+            }
+        });
+        final StringBuilder statement = new StringBuilder("START n=node({ids})");
+        final StringBuilder carried = new StringBuilder("n");
+        for (int i = 0; i < relationships.size(); i++) {
+            final RelationshipInfo info = relationships.get(i);
+            statement.append(" MATCH n").append(pattern(info, "r" + i)).append("m").append(i)
+                    .append(" WITH ").append(carried).append(", collect(r").append(i).append(") AS rels").append(i)
+                    .append(", collect(m").append(i).append(") AS nodes").append(i);
+            carried.append(", rels").append(i).append(", nodes").append(i);
+        }
+        if (readTypeAlias) {
+            statement.append(" MATCH n-[?:").append(SubReferenceNodeTypeRepresentationStrategy.INSTANCE_OF_RELATIONSHIP_TYPE.name()).append("]->t");
+        }
+        statement.append(" RETURN n");
+        for (int i = 0; i < relationships.size(); i++) {
+            statement.append(", rels").append(i).append(" AS r").append(i).append(", nodes").append(i).append(" AS m").append(i);
+        }
+        if (readTypeAlias) {
+            statement.append(", t.").append(SubReferenceNodeTypeRepresentationStrategy.SUBREF_CLASS_KEY).append("? AS ").append(ALIAS);
+        }
+        return new Prefetch(statement.toString(), relationships, readTypeAlias);
+    }
+
+    private static String pattern(RelationshipInfo info, String identifier) {
+        final String relationship = "[" + identifier + "?:`" + info.getType() + "`]";
+        if (info.getDirection() == Direction.OUTGOING) return "-" + relationship + "->";
+        if (info.getDirection() == Direction.INCOMING) return "<-" + relationship + "-";
+        return "-" + relationship + "-";
+    }
+}
@@ -33,6 +33,8 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Neo4J specific {@link MappingContext} implementation. Simply creates {@link Neo4jPersistentEntityImpl} and
@@ -42,8 +44,11 @@ import java.util.*;
  */
 public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentEntityImpl<?>, Neo4jPersistentProperty> {
 
-    private final Map<Annotation, Boolean> referenceAnnotations = new IdentityHashMap<Annotation, java.lang.Boolean>();
-    
+    // the lookups below are hit for every mapped entity from all threads, so they are plain concurrent reads
+    private final ConcurrentMap<Class<? extends Annotation>, Boolean> referenceAnnotations = new ConcurrentHashMap<Class<? extends Annotation>, Boolean>();
+    private final ConcurrentMap<Object, Neo4jPersistentEntity<?>> entitiesByAlias = new ConcurrentHashMap<Object, Neo4jPersistentEntity<?>>();
+    private final ConcurrentMap<Class<?>, Class<?>> entityKinds = new ConcurrentHashMap<Class<?>, Class<?>>();
+
     protected <T> Neo4jPersistentEntityImpl<?> createPersistentEntity(TypeInformation<T> typeInformation) {
         final Class<T> type = typeInformation.getType();
         if (type.isAnnotationPresent(NodeEntity.class)) {
@@ -59,10 +64,21 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
     protected Neo4jPersistentEntityImpl<?> addPersistentEntity(TypeInformation<?> typeInformation) {
         final Neo4jPersistentEntityImpl<?> entity = super.addPersistentEntity(typeInformation);
         Collection<Neo4jPersistentEntity<?>> superTypeEntities = addSuperTypes(entity);
-        entity.updateStoredType(new StoredEntityType(entity,superTypeEntities,entityAlias));
+        final StoredEntityType storedType = new StoredEntityType(entity, superTypeEntities, entityAlias);
+        entity.updateStoredType(storedType);
+        indexEntity(entity, storedType);
         return entity;
     }
 
+    private void indexEntity(Neo4jPersistentEntityImpl<?> entity, StoredEntityType storedType) {
+        final Class<?> type = entity.getType();
+        entityKinds.putIfAbsent(type, kindOf(entity));
+        entitiesByAlias.putIfAbsent(type, entity);
+        entitiesByAlias.putIfAbsent(type.getName(), entity);
+        entitiesByAlias.putIfAbsent(entity.getTypeInformation(), entity);
+        if (storedType.getAlias() != null) entitiesByAlias.putIfAbsent(storedType.getAlias(), entity);
+    }
+
     private List<Neo4jPersistentEntity<?>> addSuperTypes(Neo4jPersistentEntity<?> entity) {
         List<Neo4jPersistentEntity<?>> entities=new ArrayList<Neo4jPersistentEntity<?>>();
         final Class<?> type = entity.getType();
@@ -88,10 +104,15 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return type.isAnnotationPresent(NodeEntity.class);
     }
 
-    // todo performance, change to direct lookups if too slow
     public Neo4jPersistentEntity<?> getPersistentEntity(Object alias) {
+        if (alias == null) return null;
+        final Neo4jPersistentEntity<?> indexed = entitiesByAlias.get(alias);
+        if (indexed != null) return indexed;
         for (Neo4jPersistentEntityImpl<?> entity : getPersistentEntities()) {
-            if (entity.matchesAlias(alias)) return entity;
+            if (entity.matchesAlias(alias)) {
+                entitiesByAlias.putIfAbsent(alias, entity);
+                return entity;
+            }
         }
         return tryToResolveAliasAsEntityClassName(alias);
     }
@@ -127,33 +148,38 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return new Neo4jPersistentPropertyImpl(field, descriptor, owner, simpleTypeHolder,this);
     }
 
-    private final Map<Class<?>,Class<?>> annotationCheckCache = new IdentityHashMap<Class<?>, Class<?>>();
-
     public boolean isNodeEntity(Class<?> type) {
-        if (!annotationCheckCache.containsKey(type)) cacheType(type);
-        return checkAnnotationType(type,NodeEntity.class);
+        return entityKindOf(type) == NodeEntity.class;
+    }
+
+    public boolean isRelationshipEntity(Class<?> type) {
+        return entityKindOf(type) == RelationshipEntity.class;
+    }
+
+    /**
+     * @return {@link NodeEntity}, {@link RelationshipEntity} or the type itself if it is not mapped
+     */
+    private Class<?> entityKindOf(Class<?> type) {
+        final Class<?> kind = entityKinds.get(type);
+        if (kind != null) return kind;
+        final Class<?> computed = computeEntityKind(type);
+        final Class<?> existing = entityKinds.putIfAbsent(type, computed);
+        return existing != null ? existing : computed;
     }
 
-    private void cacheType(Class<?> type) {
+    private Class<?> computeEntityKind(Class<?> type) {
         try {
             final Neo4jPersistentEntityImpl<?> entity = getPersistentEntity(type);
-            if (entity == null) annotationCheckCache.put(type, type);
-            else if (entity.isNodeEntity()) annotationCheckCache.put(type, NodeEntity.class);
-            else if (entity.isRelationshipEntity()) annotationCheckCache.put(type, RelationshipEntity.class);
-            else annotationCheckCache.put(type, type);
+            return entity == null ? type : kindOf(entity);
         } catch (InvalidEntityTypeException me) {
-            annotationCheckCache.put(type, type);
+            return type;
         }
     }
 
-    private boolean checkAnnotationType(Class<?> type, Class<?> annotation) {
-        final Class<?> marker = annotationCheckCache.get(type);
-        return marker==annotation;
-    }
-
-    public boolean isRelationshipEntity(Class<?> type) {
-        if (!annotationCheckCache.containsKey(type)) cacheType(type);
-        return checkAnnotationType(type,RelationshipEntity.class);
+    private Class<?> kindOf(Neo4jPersistentEntityImpl<?> entity) {
+        if (entity.isNodeEntity()) return NodeEntity.class;
+        if (entity.isRelationshipEntity()) return RelationshipEntity.class;
+        return entity.getType();
     }
 
     public void setPersistentState(Object entity, PropertyContainer pc) {
@@ -173,11 +199,12 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
     
     public boolean isReference(Neo4jPersistentProperty property) {
         for (Annotation annotation : property.getAnnotations()) {
-            Boolean isReference = referenceAnnotations.get(annotation);
+            final Class<? extends Annotation> annotationType = annotation.annotationType();
+            Boolean isReference = referenceAnnotations.get(annotationType);
             if (isReference == null) {
-                isReference = Reference.class.isInstance(annotation) || annotation.annotationType().isAnnotationPresent(Reference.class);
-                referenceAnnotations.put(annotation, isReference);
-            } 
+                isReference = annotationType == Reference.class || annotationType.isAnnotationPresent(Reference.class);
+                referenceAnnotations.put(annotationType, isReference);
+            }
             if (isReference) return true;
         }
         return false;
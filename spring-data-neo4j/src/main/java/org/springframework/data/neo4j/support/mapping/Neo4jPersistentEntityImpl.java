@@ -17,13 +17,16 @@
 package org.springframework.data.neo4j.support.mapping;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Relationship;
 import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.mapping.model.MappingException;
@@ -51,6 +54,7 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     private StoredEntityType storedType;
     private Neo4jPersistentProperty uniqueProperty;
     private final boolean shouldUseShortNames;
+    private volatile Neo4jPersistentProperty[] mappedProperties;
 
     /**
      * Creates a new {@link Neo4jPersistentEntityImpl} instance.
@@ -168,6 +172,7 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     @Override
     public void addPersistentProperty(Neo4jPersistentProperty property) {
         super.addPersistentProperty(property);
+        this.mappedProperties = null;
         if (property.isRelationshipType()) {
             this.relationshipType = property;
         }
@@ -181,6 +186,7 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     @Override
     public void addAssociation(Association<Neo4jPersistentProperty> neo4jPersistentPropertyAssociation) {
         super.addAssociation(neo4jPersistentPropertyAssociation);
+        this.mappedProperties = null;
         final Neo4jPersistentProperty property = neo4jPersistentPropertyAssociation.getInverse();
         if (property.isStartNode()) {
             this.startNodeProperty = property;
@@ -231,6 +237,31 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
         return storedType.matchesAlias(alias);
     }
 
+    @Override
+    public Neo4jPersistentProperty[] getMappedProperties() {
+        Neo4jPersistentProperty[] properties = mappedProperties;
+        if (properties == null) {
+            properties = collectMappedProperties();
+            mappedProperties = properties;
+        }
+        return properties;
+    }
+
+    private Neo4jPersistentProperty[] collectMappedProperties() {
+        final List<Neo4jPersistentProperty> properties = new ArrayList<Neo4jPersistentProperty>();
+        doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                properties.add(property);
+            }
+        });
+        doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                properties.add(association.getInverse());
+            }
+        });
+        return properties.toArray(new Neo4jPersistentProperty[properties.size()]);
+    }
+
     public Neo4jPersistentProperty getUniqueProperty() {
         return uniqueProperty;
     }
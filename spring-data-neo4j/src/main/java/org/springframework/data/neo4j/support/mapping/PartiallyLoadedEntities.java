@@ -0,0 +1,127 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.springframework.data.neo4j.mapping.FetchGraph;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.util.ObjectUtils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers which entities were loaded with a {@link FetchGraph}, so that saving them doesn't overwrite the properties
+ * that were never loaded. The values the excluded fields had after loading are kept as well, a field that was changed
+ * since is written back like a loaded one. Entities are held weakly and compared by identity.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class PartiallyLoadedEntities {
+    private static class EntityReference extends WeakReference<Object> {
+        private final int hash;
+
+        EntityReference(Object entity, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EntityReference)) return false;
+            final Object entity = get();
+            return entity != null && entity == ((EntityReference) o).get();
+        }
+    }
+
+    /**
+     * The fetch graph an entity was loaded with and the values of its fields that were not loaded.
+     */
+    public static class LoadedState {
+        private final FetchGraph fetchGraph;
+        private final Map<String, Object> excludedValues = new LinkedHashMap<String, Object>();
+
+        LoadedState(FetchGraph fetchGraph) {
+            this.fetchGraph = fetchGraph;
+        }
+
+        public FetchGraph getFetchGraph() {
+            return fetchGraph;
+        }
+
+        void excluded(Neo4jPersistentProperty property, Object value) {
+            excludedValues.put(property.getName(), snapshot(value));
+        }
+
+        /**
+         * @return true if the property was loaded or if the value of the excluded field changed since loading
+         */
+        public boolean shouldWrite(Neo4jPersistentProperty property, Object value) {
+            if (fetchGraph.includes(property)) return true;
+            if (!excludedValues.containsKey(property.getName())) return false;
+            return !ObjectUtils.nullSafeEquals(excludedValues.get(property.getName()), snapshot(value));
+        }
+
+        // collections are copied, so that elements added to or removed from the field itself are noticed
+        private static Object snapshot(Object value) {
+            if (value instanceof Collection) return new ArrayList<Object>((Collection<?>) value);
+            if (value instanceof Map) return new LinkedHashMap<Object, Object>((Map<?, ?>) value);
+            return value;
+        }
+    }
+
+    private final ConcurrentMap<EntityReference, LoadedState> loadedStates = new ConcurrentHashMap<EntityReference, LoadedState>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+    public void register(Object entity, LoadedState loadedState) {
+        expungeCollected();
+        loadedStates.put(new EntityReference(entity, queue), loadedState);
+    }
+
+    public void remove(Object entity) {
+        if (loadedStates.isEmpty()) return;
+        expungeCollected();
+        loadedStates.remove(new EntityReference(entity, null));
+    }
+
+    /**
+     * @return the state the entity was loaded with or null if it was loaded completely
+     */
+    public LoadedState get(Object entity) {
+        if (loadedStates.isEmpty()) return null;
+        return loadedStates.get(new EntityReference(entity, null));
+    }
+
+    private void expungeCollected() {
+        Reference<?> collected;
+        while ((collected = queue.poll()) != null) {
+            loadedStates.remove(collected);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread bound store of the nodes and relationships read ahead by the {@link Neo4jEntityStatePrefetcher} while an
+ * entity is loaded. The mapping layer consults it before going to the database, which for a remote database saves one
+ * request per state and relationship list.
+ * <p/>
+ * Scopes nest like the entity cache, the store is dropped when the outermost scope is closed.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class PrefetchedStates {
+    private static final ThreadLocal<PrefetchedStates> current = new ThreadLocal<PrefetchedStates>();
+
+    private int depth;
+    private final Map<Long, Node> nodes = new HashMap<Long, Node>();
+    private final Map<String, List<Relationship>> relationships = new HashMap<String, List<Relationship>>();
+    private final Map<Long, Object> typeAliases = new HashMap<Long, Object>();
+
+    public static PrefetchedStates push() {
+        PrefetchedStates states = current.get();
+        if (states == null) {
+            states = new PrefetchedStates();
+            current.set(states);
+        }
+        states.depth++;
+        return states;
+    }
+
+    public static void pop() {
+        final PrefetchedStates states = current.get();
+        if (states != null && --states.depth == 0) {
+            current.remove();
+        }
+    }
+
+    static PrefetchedStates current() {
+        final PrefetchedStates states = current.get();
+        if (states == null) throw new IllegalStateException("No prefetch scope pushed");
+        return states;
+    }
+
+    /**
+     * @return the node with the given id if it was prefetched in the current scope, null otherwise
+     */
+    public static Node node(long id) {
+        final PrefetchedStates states = current.get();
+        return states == null ? null : states.nodes.get(id);
+    }
+
+    /**
+     * @return the relationships of the given type and direction of the node if they were prefetched in the current
+     * scope, null otherwise
+     */
+    public static List<Relationship> relationships(Node node, RelationshipType type, Direction direction) {
+        final PrefetchedStates states = current.get();
+        return states == null ? null : states.relationships.get(key(node.getId(), type, direction));
+    }
+
+    /**
+     * @return the prefetched node on the other side of the relationship, or the one the relationship provides
+     */
+    public static Node otherNode(Relationship relationship, Node node) {
+        final Node other = relationship.getOtherNode(node);
+        final Node prefetched = node(other.getId());
+        return prefetched != null ? prefetched : other;
+    }
+
+    /**
+     * @return the type alias of the node with the given id if it was prefetched in the current scope, null otherwise
+     */
+    public static Object typeAlias(long nodeId) {
+        final PrefetchedStates states = current.get();
+        return states == null ? null : states.typeAliases.get(nodeId);
+    }
+
+    void addNode(Node node) {
+        if (node != null) nodes.put(node.getId(), node);
+    }
+
+    void addTypeAlias(long nodeId, Object alias) {
+        if (alias != null) typeAliases.put(nodeId, alias);
+    }
+
+    /**
+     * Registers the given relationships as all the relationships of that type and direction of the node.
+     */
+    void addRelationships(long nodeId, RelationshipType type, Direction direction, Iterable<Relationship> rels) {
+        final Map<Long, Relationship> byId = new LinkedHashMap<Long, Relationship>();
+        for (Relationship rel : rels) {
+            if (rel != null) byId.put(rel.getId(), rel);
+        }
+        relationships.put(key(nodeId, type, direction), new ArrayList<Relationship>(byId.values()));
+    }
+
+    private static String key(long nodeId, RelationshipType type, Direction direction) {
+        return nodeId + ":" + type.name() + ":" + direction.name();
+    }
+}
@@ -18,12 +18,10 @@ package org.springframework.data.neo4j.support.mapping;
 import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Transaction;
 import org.springframework.core.convert.ConverterNotFoundException;
-import org.springframework.data.mapping.Association;
-import org.springframework.data.mapping.AssociationHandler;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.core.EntityState;
+import org.springframework.data.neo4j.mapping.FetchGraph;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
@@ -39,6 +37,7 @@ import java.lang.reflect.InvocationTargetException;
  */
 public class SourceStateTransmitter<S extends PropertyContainer> {
     private final EntityStateFactory<S> entityStateFactory;
+    private final PartiallyLoadedEntities partiallyLoadedEntities = new PartiallyLoadedEntities();
 
     public SourceStateTransmitter(EntityStateFactory<S> entityStateFactory) {
         this.entityStateFactory = entityStateFactory;
@@ -46,24 +45,35 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
 
     public <R> R copyPropertiesFrom(final BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, S source, Neo4jPersistentEntity<R> persistentEntity, final MappingPolicy mappingPolicy, final Neo4jTemplate template) {
         final R entity = wrapper.getBean();
+            final FetchGraph fetchGraph = mappingPolicy instanceof FetchGraph ? (FetchGraph) mappingPolicy : null;
             final EntityState<S> entityState = entityStateFactory.getEntityState(entity, false, template);
             entityState.setPersistentState(source);
-            persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+            MappedEntityStates.push(entity, source);
+            try {
+                for (Neo4jPersistentProperty property : persistentEntity.getMappedProperties()) {
+                    if (fetchGraph != null && !fetchGraph.includes(property)) continue;
                     copyEntityStatePropertyValue(property, entityState, wrapper, property.getMappingPolicy());  // TODO intelligent mappingPolicy.combineWith(property.getMappingPolicy())
                 }
-            });
-            persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
-                    final Neo4jPersistentProperty property = association.getInverse();
-                    copyEntityStatePropertyValue(property, entityState, wrapper, property.getMappingPolicy());  // TODO intelligent mappingPolicy.combineWith(property.getMappingPolicy())
-                }
-            });
+            } finally {
+                MappedEntityStates.pop();
+            }
+            if (fetchGraph != null) {
+                partiallyLoadedEntities.register(entity, loadedState(wrapper, persistentEntity, fetchGraph));
+            } else {
+                partiallyLoadedEntities.remove(entity);
+            }
             return entity;
     }
 
+    private <R> PartiallyLoadedEntities.LoadedState loadedState(BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, Neo4jPersistentEntity<R> persistentEntity, FetchGraph fetchGraph) {
+        final PartiallyLoadedEntities.LoadedState loadedState = new PartiallyLoadedEntities.LoadedState(fetchGraph);
+        for (Neo4jPersistentProperty property : persistentEntity.getMappedProperties()) {
+            if (fetchGraph.includes(property)) continue;
+            loadedState.excluded(property, getProperty(wrapper, property));
+        }
+        return loadedState;
+    }
+
     private <R> void setEntityStateValue(Neo4jPersistentProperty property, EntityState<S> entityState, BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, final MappingPolicy mappingPolicy) {
         if (!entityState.isWritable(property)) return;
         final Object value = getProperty(wrapper, property);
@@ -94,25 +104,21 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
 
     public <R> void copyPropertiesTo(final BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, S target, Neo4jPersistentEntity<R> persistentEntity, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
         final Transaction tx = template.getGraphDatabase().beginTx();
+        MappedEntityStates.push(wrapper.getBean(), target);
         try {
             final EntityState<S> entityState = entityStateFactory.getEntityState(wrapper.getBean(), false, template);
             entityState.setPersistentState(target);
             entityState.persist();
-            // todo take mapping policies for attributes into account
-            persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithPersistentProperty(Neo4jPersistentProperty property) {
-                    setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy());
-                }
-            });
-            // todo take mapping policies for relationships into account
-            persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
-                    final Neo4jPersistentProperty property = association.getInverse();
-                    setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy());
-                }
-            });
+            // entities loaded with a fetch graph only write back what was loaded and what was changed since
+            final PartiallyLoadedEntities.LoadedState loadedState = partiallyLoadedEntities.get(wrapper.getBean());
+            // todo take mapping policies for attributes and relationships into account
+            for (Neo4jPersistentProperty property : persistentEntity.getMappedProperties()) {
+                if (loadedState != null && !loadedState.shouldWrite(property, getProperty(wrapper, property))) continue;
+                setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy());
+            }
+            if (loadedState != null) {
+                partiallyLoadedEntities.register(wrapper.getBean(), loadedState(wrapper, persistentEntity, loadedState.getFetchGraph()));
+            }
             tx.success();
         } catch(Throwable t) {
 			tx.failure();
@@ -120,6 +126,7 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
 			if (t instanceof RuntimeException) throw (RuntimeException)t;
 			throw new org.springframework.data.neo4j.core.UncategorizedGraphStoreException("Error copying properties from "+persistentEntity+" to "+target,t);
         } finally {
+            MappedEntityStates.pop();
             tx.finish();
         }
     }
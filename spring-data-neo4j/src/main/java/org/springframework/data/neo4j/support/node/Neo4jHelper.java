@@ -19,9 +19,11 @@ package org.springframework.data.neo4j.support.node;
 import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.index.IndexManager;
 import org.neo4j.tooling.GlobalGraphOperations;
+import org.springframework.data.neo4j.support.BulkDeleter;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 public abstract class Neo4jHelper {
@@ -77,22 +79,96 @@ public abstract class Neo4jHelper {
         final GlobalGraphOperations globalGraphOperations = GlobalGraphOperations.at(graphDatabaseService);
         for (Node node : globalGraphOperations.getAllNodes()) {
             for (Relationship rel : node.getRelationships(Direction.OUTGOING)) {
-                try {
-                    rel.delete();
-                } catch(IllegalStateException ise) {
-                    if (!ise.getMessage().contains("since it has already been deleted")) throw ise;
-                }
-
+                delete(rel);
             }
         }
         for (Node node : globalGraphOperations.getAllNodes()) {
             if (includeReferenceNode || !graphDatabaseService.getReferenceNode().equals(node)) {
-                try {
-                    node.delete();
-                } catch(IllegalStateException ise) {
-                    if (!ise.getMessage().contains("since it has already been deleted")) throw ise;
+                delete(node);
+            }
+        }
+    }
+
+    /**
+     * Removes all relationships, nodes and indexes, committing every <code>batchSize</code> deleted elements, for
+     * stores too large to be cleaned in a single transaction. Unlike the other <code>cleanDb</code> methods this is
+     * not atomic, a failure leaves a partly cleaned store. The batches continue one scan of the relationships and
+     * one of the nodes, so the store is read only once. What is deleted stays deleted, so after an interruption it can
+     * just be run again, the new scan passes over the freed records once.
+     * @param progressListener optional, informed after each committed batch
+     * @return number of deleted nodes and relationships
+     */
+    public static long cleanDb(GraphDatabaseService graphDatabaseService, boolean includeReferenceNode, int batchSize, BulkDeleter.ProgressListener progressListener) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive, was " + batchSize);
+        try {
+            final GlobalGraphOperations globalGraphOperations = GlobalGraphOperations.at(graphDatabaseService);
+            final Node referenceNode = includeReferenceNode ? null : graphDatabaseService.getReferenceNode();
+            final BatchCommitter committer = new BatchCommitter(graphDatabaseService, batchSize, progressListener);
+            final Iterator<Relationship> relationships = globalGraphOperations.getAllRelationships().iterator();
+            while (committer.deleteBatch(relationships, null)) ;
+            final Iterator<Node> nodes = globalGraphOperations.getAllNodes().iterator();
+            while (committer.deleteBatch(nodes, referenceNode)) ;
+            Transaction tx = graphDatabaseService.beginTx();
+            try {
+                clearIndex(graphDatabaseService);
+                tx.success();
+            } finally {
+                tx.finish();
+            }
+            return committer.total;
+        } catch(Throwable t) {
+            throw new org.springframework.data.neo4j.core.UncategorizedGraphStoreException("Error cleaning database ",t);
+        }
+    }
+
+    private static class BatchCommitter {
+        private final GraphDatabaseService graphDatabaseService;
+        private final int batchSize;
+        private final BulkDeleter.ProgressListener progressListener;
+        private long total;
+
+        BatchCommitter(GraphDatabaseService graphDatabaseService, int batchSize, BulkDeleter.ProgressListener progressListener) {
+            this.graphDatabaseService = graphDatabaseService;
+            this.batchSize = batchSize;
+            this.progressListener = progressListener;
+        }
+
+        /**
+         * Deletes up to a batch of the elements in its own transaction, the next batch continues where it stopped.
+         * @return true if there may be more elements to delete
+         */
+        boolean deleteBatch(Iterator<? extends PropertyContainer> elements, Node keep) {
+            int batch = 0;
+            Transaction tx = graphDatabaseService.beginTx();
+            try {
+                while (batch < batchSize && elements.hasNext()) {
+                    final PropertyContainer element = elements.next();
+                    if (element.equals(keep)) continue;
+                    if (delete(element)) batch++;
                 }
+                tx.success();
+            } catch (RuntimeException e) {
+                tx.failure();
+                throw e;
+            } finally {
+                tx.finish();
             }
+            total += batch;
+            if (batch > 0 && progressListener != null) progressListener.batchCommitted(total);
+            return batch >= batchSize;
+        }
+    }
+
+    private static boolean delete(PropertyContainer pc) {
+        try {
+            if (pc instanceof Node) ((Node) pc).delete();
+            else ((Relationship) pc).delete();
+            return true;
+        } catch(IllegalStateException ise) {
+            if (!ise.getMessage().contains("since it has already been deleted")) throw ise;
+            return false;
+        } catch(NotFoundException nfe) {
+            return false;
         }
     }
 
@@ -19,6 +19,7 @@ package org.springframework.data.neo4j.support.node;
 import org.neo4j.graphdb.Node;
 import org.springframework.data.neo4j.core.EntityState;
 
+import org.springframework.data.neo4j.fieldaccess.DelegatingFieldAccessorFactory;
 import org.springframework.data.neo4j.fieldaccess.DetachedEntityState;
 import org.springframework.data.neo4j.fieldaccess.FieldAccessorFactoryFactory;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
@@ -29,6 +30,8 @@ public class NodeEntityStateFactory implements EntityStateFactory<Node> {
 
     protected final FieldAccessorFactoryFactory nodeDelegatingFieldAccessorFactory;
     protected final Neo4jMappingContext mappingContext;
+    private boolean writeBehind;
+    private boolean cachePropertyValues;
 
     public NodeEntityStateFactory(Neo4jMappingContext mappingContext, FieldAccessorFactoryFactory nodeDelegatingFieldAccessorFactory) {
         this.nodeDelegatingFieldAccessorFactory = nodeDelegatingFieldAccessorFactory;
@@ -42,9 +45,44 @@ public class NodeEntityStateFactory implements EntityStateFactory<Node> {
 
         NodeEntityState nodeEntityState = new NodeEntityState(null, entity, entityType, template,
                 nodeDelegatingFieldAccessorFactory.provideFactoryFor(template), persistentEntity);
+        nodeEntityState.setCacheValues(cachePropertyValues);
         if (!detachable) {
             return nodeEntityState;
         }
-        return new DetachedEntityState<Node>(nodeEntityState, template);
+        return new DetachedEntityState<Node>(nodeEntityState, template, writeBehind);
+    }
+
+    /**
+     * @return the field accessor factory of node entity states, it hands out the accessors for all node entity fields
+     */
+    public DelegatingFieldAccessorFactory getFieldAccessorFactory(Neo4jTemplate template) {
+        return nodeDelegatingFieldAccessorFactory.provideFactoryFor(template);
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * @param writeBehind buffer writes of simple properties of aspect backed entities within a Spring managed
+     *                    transaction and write them on persist() or before commit, false by default
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public boolean isCachePropertyValues() {
+        return cachePropertyValues;
+    }
+
+    /**
+     * @param cachePropertyValues cache simple property values of aspect backed entities per entity for the duration
+     *                            of a Spring managed transaction, false by default. Only writes through the same
+     *                            entity invalidate a cached value, changes made via the Neo4j API, the template,
+     *                            cypher or another entity instance for the same node stay invisible to it until the
+     *                            transaction ends.
+     */
+    public void setCachePropertyValues(boolean cachePropertyValues) {
+        this.cachePropertyValues = cachePropertyValues;
     }
 }
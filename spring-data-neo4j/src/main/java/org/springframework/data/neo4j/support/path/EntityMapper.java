@@ -34,6 +34,10 @@ public abstract class EntityMapper<S, E, T> implements PathMapper<T> {
 
     public abstract T mapPath(EntityPath<S,E> entityPath);
 
+    Neo4jTemplate getTemplate() {
+        return template;
+    }
+
     @Override
     public T mapPath(Path path) {
         return mapPath(new ConvertingEntityPath<S,E>(path, template));
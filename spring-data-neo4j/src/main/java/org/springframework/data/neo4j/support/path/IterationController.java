@@ -41,7 +41,20 @@ public interface IterationController {
          * iterates eagerly over the results to ensure callbacks happening, ignores results and returns null from
          * the iteration, i.e. callback only
          */
-        EAGER_IGNORE_RESULTS
+        EAGER_IGNORE_RESULTS,
+        /**
+         * iterates eagerly over the results and maps batches of paths concurrently, returns the full results in
+         * iteration order, the path mapper has to be thread-safe. The batches run on the executor of the
+         * {@link PathMappingIterator} outside of the caller's transaction and entity cache, so they don't see
+         * uncommitted changes and return separate entity instances. Without an executor or within a running
+         * transaction the paths are mapped sequentially like {@link #EAGER}.
+         */
+        EAGER_PARALLEL,
+        /**
+         * like {@link #EAGER_PARALLEL} but returns the results in the order in which the batches were mapped, with the
+         * same restrictions
+         */
+        EAGER_PARALLEL_UNORDERED
     }
 
     IterationMode getIterationMode();
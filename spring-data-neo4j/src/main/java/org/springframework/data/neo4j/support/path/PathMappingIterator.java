@@ -19,20 +19,53 @@ package org.springframework.data.neo4j.support.path;
 import org.neo4j.graphdb.Path;
 import org.neo4j.helpers.collection.ClosableIterable;
 import org.neo4j.helpers.collection.IterableWrapper;
+import org.springframework.data.neo4j.core.UncategorizedGraphStoreException;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * @author mh
  * @since 22.02.11
  */
 public class PathMappingIterator {
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private Executor executor;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxBatchesInFlight = 2 * Runtime.getRuntime().availableProcessors();
+
+    public PathMappingIterator() {
+    }
+
+    /**
+     * @param executor runs the batches of the parallel iteration modes
+     */
+    public PathMappingIterator(Executor executor) {
+        this.executor = executor;
+    }
+
     public <T> Iterable<T> mapPaths(final Iterable<Path> paths, final PathMapper<T> pathMapper) {
         assert paths != null;
         assert pathMapper != null;
         IterationController.IterationMode mode = getIterationControl(pathMapper);
         switch (mode) {
+            case EAGER_PARALLEL:
+            case EAGER_PARALLEL_UNORDERED:
+                if (executor != null && !inTransaction(pathMapper)) {
+                    return mapInParallel(paths, pathMapper, executor, mode == IterationController.IterationMode.EAGER_PARALLEL);
+                }
+                // no executor configured or running within a transaction, map sequentially
             case EAGER:
             case EAGER_STOP_ON_NULL:
                 List<T> result = new ArrayList<T>();
@@ -68,6 +101,121 @@ public class PathMappingIterator {
         }
     }
 
+    /**
+     * The paths are read in the calling thread, as traversals are not thread-safe, and handed to the executor in
+     * batches. At most {@link #getMaxBatchesInFlight()} batches are submitted and not yet collected at any time.
+     */
+    private <T> List<T> mapInParallel(Iterable<Path> paths, PathMapper<T> pathMapper, Executor executor, boolean preserveOrder) {
+        final List<T> result = new ArrayList<T>();
+        final LinkedList<Future<List<T>>> inFlight = new LinkedList<Future<List<T>>>();
+        final CompletionService<List<T>> completionService = preserveOrder ? null : new ExecutorCompletionService<List<T>>(executor);
+        try {
+            List<Path> batch = new ArrayList<Path>(batchSize);
+            for (Path path : paths) {
+                batch.add(path);
+                if (batch.size() < batchSize) continue;
+                if (inFlight.size() >= maxBatchesInFlight) result.addAll(waitFor(next(inFlight, completionService)));
+                inFlight.add(submit(batch, pathMapper, executor, completionService));
+                batch = new ArrayList<Path>(batchSize);
+            }
+            if (!batch.isEmpty()) inFlight.add(submit(batch, pathMapper, executor, completionService));
+            while (!inFlight.isEmpty()) {
+                result.addAll(waitFor(next(inFlight, completionService)));
+            }
+            return result;
+        } finally {
+            for (Future<List<T>> future : inFlight) {
+                future.cancel(true);
+            }
+            close(paths);
+        }
+    }
+
+    private <T> Future<List<T>> submit(final List<Path> batch, final PathMapper<T> pathMapper, Executor executor, CompletionService<List<T>> completionService) {
+        final Callable<List<T>> mapBatch = new Callable<List<T>>() {
+            @Override
+            public List<T> call() throws Exception {
+                final List<T> mapped = new ArrayList<T>(batch.size());
+                for (Path path : batch) {
+                    mapped.add(pathMapper.mapPath(path));
+                }
+                return mapped;
+            }
+        };
+        if (completionService != null) return completionService.submit(mapBatch);
+        final FutureTask<List<T>> task = new FutureTask<List<T>>(mapBatch);
+        executor.execute(task);
+        return task;
+    }
+
+    private <T> Future<List<T>> next(LinkedList<Future<List<T>>> inFlight, CompletionService<List<T>> completionService) {
+        if (completionService == null) return inFlight.removeFirst();
+        try {
+            final Future<List<T>> done = completionService.take();
+            inFlight.remove(done);
+            return done;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncategorizedGraphStoreException("Interrupted while mapping paths", e);
+        }
+    }
+
+    private <T> T waitFor(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncategorizedGraphStoreException("Interrupted while mapping paths", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new UncategorizedGraphStoreException("Error mapping paths", cause);
+        }
+    }
+
+    /**
+     * The batches would be mapped outside of the caller's transaction and entity cache, so they neither see its
+     * uncommitted changes nor share its entity instances.
+     */
+    private boolean inTransaction(PathMapper<?> pathMapper) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return true;
+        if (pathMapper instanceof EntityMapper) {
+            final Neo4jTemplate template = ((EntityMapper) pathMapper).getTemplate();
+            return template != null && template.transactionIsRunning();
+        }
+        return false;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param executor runs the batches of the parallel iteration modes, if not set they map sequentially
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesInFlight() {
+        return maxBatchesInFlight;
+    }
+
+    public void setMaxBatchesInFlight(int maxBatchesInFlight) {
+        if (maxBatchesInFlight < 1) throw new IllegalArgumentException("maxBatchesInFlight must be positive, was " + maxBatchesInFlight);
+        this.maxBatchesInFlight = maxBatchesInFlight;
+    }
+
     private void close(Iterable<Path> paths) {
         if (paths instanceof ClosableIterable) {
             ((ClosableIterable)paths).close();
@@ -30,6 +30,8 @@ public class RelationshipEntityStateFactory implements EntityStateFactory<Relati
 
     private final FieldAccessorFactoryFactory relationshipDelegatingFieldAccessorFactory;
     private final Neo4jMappingContext mappingContext;
+    private boolean writeBehind;
+    private boolean cachePropertyValues;
 
     public RelationshipEntityStateFactory(Neo4jMappingContext mappingContext, FieldAccessorFactoryFactory relationshipDelegatingFieldAccessorFactory) {
         this.mappingContext = mappingContext;
@@ -42,10 +44,33 @@ public class RelationshipEntityStateFactory implements EntityStateFactory<Relati
         final Neo4jPersistentEntity persistentEntity = (Neo4jPersistentEntity) mappingContext.getPersistentEntity(entityType);
         final DelegatingFieldAccessorFactory fieldAccessorFactory = relationshipDelegatingFieldAccessorFactory.provideFactoryFor(template);
         final RelationshipEntityState relationshipEntityState = new RelationshipEntityState(null, entity, entityType, template, fieldAccessorFactory, persistentEntity);
+        relationshipEntityState.setCacheValues(cachePropertyValues);
         if (!detachable) {
             return relationshipEntityState;
         }
-        return new DetachedEntityState<Relationship>(relationshipEntityState, template);
+        return new DetachedEntityState<Relationship>(relationshipEntityState, template, writeBehind);
 
 	}
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * @see org.springframework.data.neo4j.support.node.NodeEntityStateFactory#setWriteBehind(boolean)
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public boolean isCachePropertyValues() {
+        return cachePropertyValues;
+    }
+
+    /**
+     * @see org.springframework.data.neo4j.support.node.NodeEntityStateFactory#setCachePropertyValues(boolean)
+     */
+    public void setCachePropertyValues(boolean cachePropertyValues) {
+        this.cachePropertyValues = cachePropertyValues;
+    }
 }
@@ -30,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.NodeTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.mapping.PrefetchedStates;
 import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 
 import java.util.Collections;
@@ -135,6 +136,8 @@ public class SubReferenceNodeTypeRepresentationStrategy implements NodeTypeRepre
 	@Override
 	public Object readAliasFrom(Node node) {
         if (node == null) throw new IllegalArgumentException("Node is null");
+        final Object prefetchedAlias = PrefetchedStates.typeAlias(node.getId());
+        if (prefetchedAlias != null) return prefetchedAlias;
         Relationship instanceOfRelationship = node.getSingleRelationship(INSTANCE_OF_RELATIONSHIP_TYPE, Direction.OUTGOING);
         if (instanceOfRelationship == null)
             throw new IllegalArgumentException("The node " + node + " is not attached to a type hierarchy.");
@@ -32,7 +32,9 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.repository.GraphRepository;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * A template with convenience operations, exception translation and implicit transaction for modifying methods
@@ -235,12 +237,24 @@ public interface Neo4jOperations {
      * @return mapped entity or null
      */
     <T> T findOne(long id, Class<T> type);
+
+    /**
+     * Retrieves a node or relationship and maps it to the appropriate type using the given mapping policy, e.g. a
+     * {@link org.springframework.data.neo4j.mapping.FetchGraph} to load only some of its properties
+     * @return mapped entity or null
+     */
+    <T> T findOne(long id, Class<T> type, MappingPolicy mappingPolicy);
     /**
      * Provides all instances of a given entity type using the typerepresentation strategy configured for this template.
      * This method is also provided by the appropriate repository.
      */
     <T> EndResult<T> findAll(Class<T> entityClass);
 
+    /**
+     * Provides all instances of a given entity type mapped with the given mapping policy.
+     */
+    <T> EndResult<T> findAll(Class<T> entityClass, MappingPolicy mappingPolicy);
+
     /**
      * Provies the instance count a given entity type using the typerepresentation strategy configured for this template.
      * This method is also provided by the appropriate repository.
@@ -286,6 +300,68 @@ public interface Neo4jOperations {
      */
     <T> T fetch(T value);
 
+    /**
+     * Deletes all instances of the entity type in batches, committing after each batch, without mapping them to
+     * entities unless there are listeners for {@link org.springframework.data.neo4j.lifecycle.DeleteEvent}s.
+     * See {@link org.springframework.data.neo4j.support.BulkDeleter} for deletes of custom queries or with progress
+     * reporting.
+     * @return the number of deleted entities, relationships removed together with them are not counted
+     */
+    <T> long deleteAll(Class<T> entityClass);
+
+    /**
+     * Saves all entities, publishing a single {@link org.springframework.data.neo4j.lifecycle.BeforeSaveAllEvent} and
+     * {@link org.springframework.data.neo4j.lifecycle.AfterSaveAllEvent} for them in addition to the per-entity events.
+     */
+    <T> Iterable<T> saveAll(Iterable<T> entities);
+
+    /**
+     * Executes the callback in its own transaction on the asynchronous executor of the template. The callback doesn't
+     * see uncommitted changes of a transaction running in the calling thread.
+     */
+    <T> Future<T> execAsync(GraphCallback<T> callback);
+
+    /**
+     * Executes independent callbacks (e.g. the reads to assemble a page) concurrently on the asynchronous executor and
+     * waits for all of them, so the latency is about the one of the slowest callback instead of the sum of all.
+     * @return the results in the order of the callbacks
+     */
+    <T> List<T> execConcurrently(List<? extends GraphCallback<? extends T>> callbacks);
+
+    /**
+     * Asynchronous variant of {@link #findOne(long, Class)}.
+     */
+    <T> Future<T> findOneAsync(long id, Class<T> entityClass);
+
+    /**
+     * Asynchronous variant of {@link #findAll(Class)}, the result is read completely before the future completes.
+     */
+    <T> Future<List<T>> findAllAsync(Class<T> entityClass);
+
+    /**
+     * Asynchronous variant of {@link #query(String, java.util.Map)}, the result is read completely before the future
+     * completes.
+     */
+    Future<List<Map<String, Object>>> queryAsync(String statement, Map<String, Object> params);
+
+    /**
+     * Asynchronous variant of {@link #save(Object)}.
+     */
+    <T> Future<T> saveAsync(T entity);
+
+    /**
+     * initializes the lazy (<code>@RelatedTo(lazy=true)</code>) collection property of all given entities with a single
+     * query instead of one read per entity
+     */
+    void initializeLazy(Iterable<?> entities, String propertyName);
+
+    /**
+     * computes the <code>@Query</code> field of all given entities with a single query, if the query starts at
+     * <code>node({self})</code> and contains no WITH, SKIP, LIMIT or UNION clauses, otherwise with one query per
+     * entity. The values are stored in the fields and, if enabled by <code>cacheResults</code>, in the result cache.
+     */
+    void initializeQueryField(Iterable<?> entities, String propertyName);
+
     /**
      * loades the provided node or relationship to be used as an entity of the given type
      */
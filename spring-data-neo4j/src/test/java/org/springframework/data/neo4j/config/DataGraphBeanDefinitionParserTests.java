@@ -0,0 +1,124 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.neo4j.support.mapping.EntityRegistry;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.FileWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class DataGraphBeanDefinitionParserTests {
+
+    private static final String REGISTERED_ONLY = "org.springframework.data.neo4j.config.RegisteredOnly";
+
+    private final DataGraphBeanDefinitionParser parser = new DataGraphBeanDefinitionParser();
+    private Element element;
+
+    @Before
+    public void setUp() throws Exception {
+        element = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument().createElement("config");
+    }
+
+    @Test
+    public void testScansCommaSeparatedBasePackages() throws Exception {
+        element.setAttribute("base-package", "org.springframework.data.neo4j.config, org.springframework.data.neo4j.repository.query");
+        final Set<String> classes = parser.getInitialEntityClasses(element);
+        assertTrue(classes.contains(TestEntity.class.getName()));
+        assertTrue(classes.contains(org.springframework.data.neo4j.repository.query.Person.class.getName()));
+    }
+
+    @Test
+    public void testUsesEntityRegistryOnlyIfEnabled() throws Exception {
+        element.setAttribute("base-package", "org.springframework.data.neo4j.config");
+        final Thread thread = Thread.currentThread();
+        final ClassLoader classLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[]{createRegistry(REGISTERED_ONLY).toURI().toURL()}, classLoader));
+        try {
+            final Set<String> scanned = parser.getInitialEntityClasses(element);
+            assertTrue(scanned.contains(TestEntity.class.getName()));
+            assertFalse(scanned.contains(REGISTERED_ONLY));
+
+            element.setAttribute("entityRegistry", "true");
+            assertEquals(singleton(REGISTERED_ONLY), parser.getInitialEntityClasses(element));
+        } finally {
+            thread.setContextClassLoader(classLoader);
+        }
+    }
+
+    @Test
+    public void testDefinesRemoteDatabaseWithTransportSettingsForServerUri() throws Exception {
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions(new ClassPathResource("DataGraphBeanDefinitionParserTests-server-context.xml", getClass()));
+
+        final BeanDefinition graphDatabase = beanFactory.getBeanDefinition("graphDatabaseService");
+        assertEquals(DataGraphBeanDefinitionParser.REST_GRAPH_DATABASE, graphDatabase.getBeanClassName());
+        final ConstructorArgumentValues arguments = graphDatabase.getConstructorArgumentValues();
+        assertEquals(4, arguments.getArgumentCount());
+        assertEquals("http://localhost:7474/db/data/", argument(arguments, 0));
+        assertEquals("user", argument(arguments, 1));
+        assertEquals("secret", argument(arguments, 2));
+
+        final BeanDefinition transport = (BeanDefinition) argument(arguments, 3);
+        assertEquals(DataGraphBeanDefinitionParser.REST_TRANSPORT_CONFIG, transport.getBeanClassName());
+        final MutablePropertyValues settings = transport.getPropertyValues();
+        assertEquals(4, settings.size());
+        assertEquals("2000", settings.getPropertyValue("connectTimeout").getValue());
+        assertEquals("30000", settings.getPropertyValue("readTimeout").getValue());
+        assertEquals("20", settings.getPropertyValue("maxIdleConnections").getValue());
+        assertEquals("true", settings.getPropertyValue("streaming").getValue());
+        assertFalse(settings.contains("keepAlive"));
+    }
+
+    private Object argument(ConstructorArgumentValues arguments, int index) {
+        return arguments.getIndexedArgumentValue(index, null).getValue();
+    }
+
+    private File createRegistry(String... lines) throws Exception {
+        final File dir = File.createTempFile("registry", "");
+        dir.delete();
+        final File registry = new File(dir, EntityRegistry.LOCATION);
+        registry.getParentFile().mkdirs();
+        final FileWriter writer = new FileWriter(registry);
+        for (String line : lines) {
+            writer.write(line + "\n");
+        }
+        writer.close();
+        return dir;
+    }
+}
@@ -17,10 +17,16 @@ package org.springframework.data.neo4j.conversion;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.helpers.collection.ClosableIterable;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
-import static org.junit.Assert.assertThat;
+import static org.junit.Assert.*;
 import static org.springframework.data.neo4j.conversion.QueryResultBuilder.from;
 
 /**
@@ -69,4 +75,110 @@ public class QueryResultBuilderTests {
     public void testIterator() throws Exception {
 
     }
+
+    @Test
+    public void testParallelConversionKeepsOrder() throws Exception {
+        final List<Integer> rows = rows(1000);
+        final ThreadRecordingConverter converter = new ThreadRecordingConverter();
+        final List<String> converted = new ArrayList<String>();
+        for (String value : new QueryResultBuilder<Integer>(rows).to(String.class, converter).parallel(4)) {
+            converted.add(value);
+        }
+        assertEquals(1000, converted.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.valueOf(i), converted.get(i));
+        }
+        assertFalse(converter.threads.contains(Thread.currentThread().getName()));
+        assertEquals(10, converter.batches.get());
+    }
+
+    @Test
+    public void testUnorderedParallelConversion() throws Exception {
+        final List<Integer> rows = rows(1000);
+        final Set<String> converted = new HashSet<String>();
+        new QueryResultBuilder<Integer>(rows).to(String.class, new ThreadRecordingConverter()).parallel(4, false).handle(new Handler<String>() {
+            public void handle(String value) {
+                converted.add(value);
+            }
+        });
+        assertEquals(1000, converted.size());
+        assertTrue(converted.contains("999"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testParallelConversionRethrowsErrors() throws Exception {
+        new QueryResultBuilder<Integer>(rows(500)).to(String.class, new ResultConverter.ResultConverterAdapter<Integer, String>() {
+            @Override
+            public String convert(Integer value, Class<String> type, MappingPolicy mappingPolicy) {
+                if (value == 250) throw new IllegalStateException("failed " + value);
+                return value.toString();
+            }
+        }).parallel(2).as(List.class);
+    }
+
+    @Test
+    public void testFinishReleasesWorkersOfAbandonedIteration() throws Exception {
+        final EndResult<String> converted = new QueryResultBuilder<Integer>(rows(1000)).to(String.class, new ThreadRecordingConverter()).parallel(4);
+        assertEquals("0", converted.iterator().next());
+        converted.finish();
+        final long timeout = System.currentTimeMillis() + 5000;
+        while (conversionThreads() > 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, conversionThreads());
+    }
+
+    @Test
+    public void testExhaustedParallelIterationClosesRows() throws Exception {
+        final List<Integer> rows = rows(500);
+        final AtomicInteger closed = new AtomicInteger();
+        final ClosableIterable<Integer> closableRows = new ClosableIterable<Integer>() {
+            public Iterator<Integer> iterator() {
+                return rows.iterator();
+            }
+
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+        int count = 0;
+        for (String value : new QueryResultBuilder<Integer>(closableRows).to(String.class, new ThreadRecordingConverter()).parallel(2)) {
+            count++;
+        }
+        assertEquals(500, count);
+        assertEquals(1, closed.get());
+    }
+
+    private int conversionThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && thread.getName().startsWith("neo4j-conversion-")) count++;
+        }
+        return count;
+    }
+
+    private List<Integer> rows(int count) {
+        final List<Integer> rows = new ArrayList<Integer>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(i);
+        }
+        return rows;
+    }
+
+    private static class ThreadRecordingConverter extends ResultConverter.ResultConverterAdapter<Integer, String> implements ParallelResultConverter {
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+        final AtomicInteger batches = new AtomicInteger();
+
+        @Override
+        public String convert(Integer value, Class<String> type, MappingPolicy mappingPolicy) {
+            threads.add(Thread.currentThread().getName());
+            return value.toString();
+        }
+
+        @Override
+        public <V> V convertInWorker(Callable<V> batch) throws Exception {
+            batches.incrementAndGet();
+            return batch.call();
+        }
+    }
 }
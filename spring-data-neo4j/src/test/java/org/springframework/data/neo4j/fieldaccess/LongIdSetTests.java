@@ -0,0 +1,132 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class LongIdSetTests {
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        final LongIdSet ids = new LongIdSet(2);
+        assertTrue(ids.add(0));
+        assertTrue(ids.add(42));
+        assertFalse(ids.add(42));
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains(0));
+        assertFalse(ids.contains(1));
+        assertTrue(ids.remove(0));
+        assertFalse(ids.remove(0));
+        assertFalse(ids.contains(0));
+        assertTrue(ids.contains(42));
+        assertEquals(1, ids.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeIds() throws Exception {
+        new LongIdSet(1).add(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContainsRejectsNegativeIds() throws Exception {
+        new LongIdSet(1).contains(-1);
+    }
+
+    @Test
+    public void testRemoveRejectsNegativeIdsWithoutChangingTheSet() throws Exception {
+        final LongIdSet ids = new LongIdSet(1);
+        ids.add(1);
+        try {
+            ids.remove(-1);
+            fail("negative id accepted");
+        } catch (IllegalArgumentException expected) {
+            // free slots are -1
+        }
+        assertEquals(1, ids.size());
+        assertTrue(ids.contains(1));
+    }
+
+    @Test
+    public void testAllocatesLessThanHashSet() throws Exception {
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof ThreadMXBean && ((ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+        final ThreadMXBean allocations = (ThreadMXBean) threads;
+        allocations.setThreadAllocatedMemoryEnabled(true);
+        fillLongIdSet(100);
+        fillHashSet(100);
+        for (int members : new int[]{10, 1000, 100000}) {
+            final long threadId = Thread.currentThread().getId();
+            long start = allocations.getThreadAllocatedBytes(threadId);
+            final LongIdSet ids = fillLongIdSet(members);
+            final long longIdSetBytes = allocations.getThreadAllocatedBytes(threadId) - start;
+            start = allocations.getThreadAllocatedBytes(threadId);
+            final Set<Long> boxed = fillHashSet(members);
+            final long hashSetBytes = allocations.getThreadAllocatedBytes(threadId) - start;
+            assertEquals(boxed.size(), ids.size());
+            assertTrue(members + " members: " + longIdSetBytes + " bytes vs. " + hashSetBytes + " bytes of a HashSet",
+                    longIdSetBytes < hashSetBytes);
+        }
+    }
+
+    // ids above the Long cache, like the ones of a populated store
+    private LongIdSet fillLongIdSet(int members) {
+        final LongIdSet ids = new LongIdSet(members);
+        for (long id = 1000000; id < 1000000 + members; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private Set<Long> fillHashSet(int members) {
+        final Set<Long> ids = new HashSet<Long>(members * 2);
+        for (long id = 1000000; id < 1000000 + members; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Test
+    public void testBehavesLikeHashSetForManyIds() throws Exception {
+        final Random random = new Random(42);
+        final LongIdSet ids = new LongIdSet(10);
+        final Set<Long> expected = new HashSet<Long>();
+        for (int i = 0; i < 100000; i++) {
+            final long id = random.nextInt(50000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id), ids.remove(id));
+            } else {
+                assertEquals(expected.add(id), ids.add(id));
+            }
+        }
+        assertEquals(expected.size(), ids.size());
+        for (long id = 0; id < 50000; id++) {
+            assertEquals(expected.contains(id), ids.contains(id));
+        }
+    }
+}
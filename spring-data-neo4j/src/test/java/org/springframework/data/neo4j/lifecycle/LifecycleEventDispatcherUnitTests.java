@@ -0,0 +1,126 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.neo4j.model.Group;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LifecycleEventDispatcher}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class LifecycleEventDispatcherUnitTests {
+
+    static class PersonSaveListener implements ApplicationListener<BeforeSaveEvent<Object>> {
+        @Override
+        public void onApplicationEvent(BeforeSaveEvent<Object> event) {
+        }
+    }
+
+    static class GroupDeleteListener implements ApplicationListener<DeleteEvent<Group>> {
+        @Override
+        public void onApplicationEvent(DeleteEvent<Group> event) {
+        }
+    }
+
+    private StaticApplicationContext context;
+    private LifecycleEventDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        context = new StaticApplicationContext();
+        dispatcher = new LifecycleEventDispatcher(context, Neo4jTemplate.class);
+    }
+
+    @Test
+    public void hasNoListenersInEmptyContext() {
+        context.refresh();
+        assertFalse(dispatcher.hasListeners(BeforeSaveEvent.class));
+        assertFalse(dispatcher.hasListeners(DeleteEvent.class));
+    }
+
+    @Test
+    public void resolvesListenersByEventType() {
+        context.registerSingleton("personSaveListener", PersonSaveListener.class);
+        context.refresh();
+        assertTrue(dispatcher.hasListeners(BeforeSaveEvent.class));
+        assertFalse(dispatcher.hasListeners(AfterSaveEvent.class));
+    }
+
+    @Test
+    public void generalListenersAcceptAllLifecycleEvents() {
+        context.addApplicationListener(new ApplicationListener<Neo4jLifecycleEvent>() {
+            @Override
+            public void onApplicationEvent(Neo4jLifecycleEvent event) {
+            }
+        });
+        context.refresh();
+        assertTrue(dispatcher.hasListeners(AfterSaveEvent.class));
+        assertTrue(dispatcher.hasListeners(DeleteEvent.class));
+        assertFalse(dispatcher.hasListeners(BeforeSaveAllEvent.class));
+    }
+
+    @Test
+    public void resolvesListenersByEntityType() {
+        context.registerSingleton("groupDeleteListener", GroupDeleteListener.class);
+        context.registerSingleton("personSaveListener", PersonSaveListener.class);
+        context.refresh();
+        assertTrue(dispatcher.hasListeners(DeleteEvent.class, Group.class));
+        assertFalse(dispatcher.hasListeners(DeleteEvent.class, Person.class));
+        assertTrue(dispatcher.hasListeners(DeleteEvent.class));
+        assertTrue(dispatcher.hasListeners(BeforeSaveEvent.class, Person.class));
+        assertTrue(dispatcher.hasListeners(BeforeSaveEvent.class, Group.class));
+    }
+
+    @Test
+    public void findsListenersOfParentContext() {
+        final StaticApplicationContext parent = new StaticApplicationContext();
+        parent.registerSingleton("personSaveListener", PersonSaveListener.class);
+        parent.refresh();
+        context.setParent(parent);
+        context.refresh();
+        assertTrue(dispatcher.hasListeners(BeforeSaveEvent.class, Person.class));
+    }
+
+    @Test
+    public void refreshDiscardsResolvedListeners() {
+        context.refresh();
+        assertFalse(dispatcher.hasListeners(BeforeSaveEvent.class));
+        context.addApplicationListener(new PersonSaveListener());
+        context.publishEvent(new ContextRefreshedEvent(context));
+        assertTrue(dispatcher.hasListeners(BeforeSaveEvent.class));
+    }
+
+    @Test
+    public void resetDiscardsResolvedListeners() {
+        context.refresh();
+        assertFalse(dispatcher.hasListeners(BeforeSaveEvent.class));
+        context.addApplicationListener(new PersonSaveListener());
+        dispatcher.reset();
+        assertTrue(dispatcher.hasListeners(BeforeSaveEvent.class));
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class FetchGraphTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Film {
+        @GraphId
+        Long id;
+        String title;
+        int year;
+        String plot;
+        @RelatedTo(type = "SEQUEL")
+        Film sequel;
+
+        public Film() {
+        }
+
+        public Film(String title, int year, String plot, Film sequel) {
+            this.title = title;
+            this.year = year;
+            this.plot = plot;
+            this.sequel = sequel;
+        }
+    }
+
+    @Test
+    public void testLoadsOnlyPropertiesOfFetchGraph() throws Exception {
+        final Film film = template.save(new Film("The Matrix", 1999, "Neo wakes up", template.save(new Film("The Matrix Reloaded", 2003, "Zion", null))));
+        final Film loaded = template.findOne(film.id, Film.class, FetchGraph.of("title"));
+        assertEquals(film.id, loaded.id);
+        assertEquals("The Matrix", loaded.title);
+        assertEquals(0, loaded.year);
+        assertNull(loaded.plot);
+        assertNull(loaded.sequel);
+    }
+
+    @Test
+    public void testLoadsRelationshipsOfFetchGraph() throws Exception {
+        final Film film = template.save(new Film("The Matrix", 1999, "Neo wakes up", template.save(new Film("The Matrix Reloaded", 2003, "Zion", null))));
+        final Film loaded = template.findOne(film.id, Film.class, FetchGraph.of("sequel"));
+        assertNull(loaded.title);
+        assertEquals(film.sequel.id, loaded.sequel.id);
+    }
+
+    @Test
+    public void testSavingPartiallyLoadedEntityKeepsOtherProperties() throws Exception {
+        final Film film = template.save(new Film("The Matrix", 1999, "Neo wakes up", template.save(new Film("The Matrix Reloaded", 2003, "Zion", null))));
+        final Film loaded = template.findOne(film.id, Film.class, FetchGraph.of("title"));
+        loaded.title = "Matrix";
+        template.save(loaded);
+        final Node node = template.getNode(film.id);
+        assertEquals("Matrix", node.getProperty("title"));
+        assertEquals(1999, node.getProperty("year"));
+        assertEquals("Neo wakes up", node.getProperty("plot"));
+        assertEquals(film.sequel.id, template.findOne(film.id, Film.class).sequel.id);
+    }
+
+    @Test
+    public void testSavingPartiallyLoadedEntityWritesChangedExcludedProperties() throws Exception {
+        final Film film = template.save(new Film("The Matrix", 1999, "Neo wakes up", null));
+        final Film sequel = template.save(new Film("The Matrix Reloaded", 2003, "Zion", null));
+        final Film loaded = template.findOne(film.id, Film.class, FetchGraph.of("title"));
+        loaded.year = 2000;
+        loaded.sequel = sequel;
+        template.save(loaded);
+        final Node node = template.getNode(film.id);
+        assertEquals("The Matrix", node.getProperty("title"));
+        assertEquals(2000, node.getProperty("year"));
+        assertEquals("Neo wakes up", node.getProperty("plot"));
+        assertEquals(sequel.id, template.findOne(film.id, Film.class).sequel.id);
+    }
+
+    @Test
+    public void testQueryResultWithFetchGraph() throws Exception {
+        final Film film = template.save(new Film("The Matrix", 1999, "Neo wakes up", null));
+        final Film loaded = template.query("start n=node({id}) return n", Collections.<String, Object>singletonMap("id", film.id))
+                .with(FetchGraph.of("year")).to(Film.class).single();
+        assertEquals(1999, loaded.year);
+        assertNull(loaded.title);
+    }
+
+    @Test
+    public void testFindAllWithFetchGraph() throws Exception {
+        template.save(new Film("The Matrix", 1999, "Neo wakes up", null));
+        final Film loaded = template.findAll(Film.class, FetchGraph.of("title")).single();
+        assertEquals("The Matrix", loaded.title);
+        assertNull(loaded.plot);
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.fieldaccess.LazyManagedSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class LazyRelatedToTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Member {
+        @GraphId
+        Long id;
+        String name;
+        @RelatedTo(type = "FRIEND", lazy = true)
+        Set<Member> friends = new HashSet<Member>();
+
+        public Member() {
+        }
+
+        public Member(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testLazyCollectionIsNotInitializedOnLoad() throws Exception {
+        final Member member = saveMemberWithFriends("Michael", "Emil", "Andrés");
+        final Member loaded = template.findOne(member.id, Member.class);
+        assertTrue(loaded.friends instanceof LazyManagedSet);
+        assertFalse(((LazyManagedSet) loaded.friends).isInitialized());
+        assertEquals(2, loaded.friends.size());
+        assertTrue(((LazyManagedSet) loaded.friends).isInitialized());
+    }
+
+    @Test
+    public void testSavingUntouchedLazyCollectionKeepsRelationships() throws Exception {
+        final Member member = saveMemberWithFriends("Michael", "Emil", "Andrés");
+        final Member loaded = template.findOne(member.id, Member.class);
+        loaded.name = "Michael Hunger";
+        template.save(loaded);
+        assertFalse(((LazyManagedSet) loaded.friends).isInitialized());
+        assertEquals(2, getRelatedNodes(template.getNode(member.id), "FRIEND", Direction.OUTGOING).size());
+    }
+
+    @Test
+    public void testAddToLazyCollectionCreatesRelationship() throws Exception {
+        final Member member = saveMemberWithFriends("Michael", "Emil");
+        final Member loaded = template.findOne(member.id, Member.class);
+        loaded.friends.add(template.save(new Member("Andrés")));
+        final Node node = template.getNode(member.id);
+        assertEquals(2, getRelatedNodes(node, "FRIEND", Direction.OUTGOING).size());
+    }
+
+    @Test
+    public void testInitializeLazyForMultipleEntities() throws Exception {
+        final Member michael = saveMemberWithFriends("Michael", "Emil", "Andrés");
+        final Member emil = saveMemberWithFriends("Emil", "Peter");
+        final Member lonely = saveMemberWithFriends("Lonely");
+        final Member loadedMichael = template.findOne(michael.id, Member.class);
+        final Member loadedEmil = template.findOne(emil.id, Member.class);
+        final Member loadedLonely = template.findOne(lonely.id, Member.class);
+
+        template.initializeLazy(asList(loadedMichael, loadedEmil, loadedLonely), "friends");
+
+        assertTrue(((LazyManagedSet) loadedMichael.friends).isInitialized());
+        assertEquals(2, loadedMichael.friends.size());
+        assertEquals(1, loadedEmil.friends.size());
+        assertTrue(((LazyManagedSet) loadedLonely.friends).isInitialized());
+        assertEquals(0, loadedLonely.friends.size());
+    }
+
+    @Test
+    public void testInitializeLazyForSameNodeLoadedTwice() throws Exception {
+        final Member michael = saveMemberWithFriends("Michael", "Emil", "Andrés");
+        final Member first = template.findOne(michael.id, Member.class);
+        final Member second = template.findOne(michael.id, Member.class);
+        assertNotSame(first.friends, second.friends);
+
+        template.initializeLazy(asList(first, second), "friends");
+
+        assertTrue(((LazyManagedSet) first.friends).isInitialized());
+        assertTrue(((LazyManagedSet) second.friends).isInitialized());
+        assertEquals(2, first.friends.size());
+        assertEquals(2, second.friends.size());
+    }
+
+    private Member saveMemberWithFriends(String name, String... friendNames) {
+        final Member member = new Member(name);
+        for (String friendName : friendNames) {
+            member.friends.add(template.save(new Member(friendName)));
+        }
+        return template.save(member);
+    }
+}
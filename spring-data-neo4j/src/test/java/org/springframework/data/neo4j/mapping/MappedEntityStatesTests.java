@@ -0,0 +1,79 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.support.mapping.MappedEntityStates;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class MappedEntityStatesTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Member {
+        @GraphId
+        Long id;
+        String name;
+    }
+
+    @Test
+    public void testResolvesMappedStateWithoutId() throws Exception {
+        final Member member = new Member();
+        final Node node = createNewNode();
+        MappedEntityStates.push(member, node);
+        try {
+            assertSame(node, template.getPersistentState(member));
+        } finally {
+            MappedEntityStates.pop();
+        }
+        assertNull(template.getPersistentState(member));
+    }
+
+    @Test
+    public void testKeepsStatesUntilOutermostScopeIsClosed() throws Exception {
+        final Member outer = new Member();
+        final Member inner = new Member();
+        final Node outerNode = createNewNode();
+        final Node innerNode = createNewNode();
+        MappedEntityStates.push(outer, outerNode);
+        try {
+            MappedEntityStates.push(inner, innerNode);
+            MappedEntityStates.pop();
+            assertSame(innerNode, MappedEntityStates.get(inner));
+            assertSame(outerNode, MappedEntityStates.get(outer));
+        } finally {
+            MappedEntityStates.pop();
+        }
+        assertNull(MappedEntityStates.get(inner));
+    }
+
+    @Test
+    public void testMappingUsesStateOfTheOperation() throws Exception {
+        final Member member = new Member();
+        member.name = "Michael";
+        final Node node = createNewNode();
+        write(member, node);
+        assertEquals("Michael", node.getProperty("name"));
+        assertNull(MappedEntityStates.get(member));
+    }
+}
@@ -305,6 +305,20 @@ public class Neo4jEntityConverterTests extends Neo4jPersistentTestBase {
         assertEquals(set(andresNode(), michaelNode()), set(groupMemberNodes()));
     }
 
+    @Test
+    public void testRelationshipCollectionUpdateRemovesDuplicateRelationships() {
+        group.setPersons(set(storeInGraph(emil), storeInGraph(andres)));
+        storeInGraph(group);
+        groupNode().createRelationshipTo(emilNode(), PERSONS);
+        assertEquals(3, groupMemberNodes().size());
+
+        group.getPersons().add(storeInGraph(michael));
+        storeInGraph(group);
+
+        assertEquals(3, groupMemberNodes().size());
+        assertEquals(set(emilNode(), andresNode(), michaelNode()), set(groupMemberNodes()));
+    }
+
     @Test
     public void testNullValuesForRelationshipCollectionsAreIgnored() {
         group.setPersons(set(storeInGraph(emil)));
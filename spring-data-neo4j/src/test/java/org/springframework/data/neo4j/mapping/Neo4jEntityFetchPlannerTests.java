@@ -0,0 +1,115 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.springframework.data.neo4j.annotation.Fetch;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.support.mapping.Neo4jEntityFetchPlanner;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class Neo4jEntityFetchPlannerTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Link {
+        @GraphId
+        Long id;
+        String name;
+        @Fetch @RelatedTo(type = "NEXT")
+        Link next;
+        @Fetch @RelatedTo(type = "BRANCH")
+        Set<Link> branches = new HashSet<Link>();
+
+        public Link() {
+        }
+
+        public Link(String name, Link next) {
+            this.name = name;
+            this.next = next;
+        }
+    }
+
+    private Neo4jEntityFetchPlanner fetchPlanner() {
+        return template.getInfrastructure().getEntityPersister().getFetchPlanner();
+    }
+
+    @Test
+    public void testFetchesAllLevelsByDefault() throws Exception {
+        final Link first = template.save(new Link("first", template.save(new Link("second", template.save(new Link("third", null))))));
+        final Link loaded = template.findOne(first.id, Link.class);
+        assertEquals("first", loaded.name);
+        assertEquals("second", loaded.next.name);
+        assertEquals("third", loaded.next.next.name);
+    }
+
+    @Test
+    public void testStopsFetchingAtMaxFetchDepth() throws Exception {
+        final Link first = template.save(new Link("first", template.save(new Link("second", template.save(new Link("third", null))))));
+        fetchPlanner().setMaxFetchDepth(1);
+        try {
+            final Link loaded = template.findOne(first.id, Link.class);
+            assertEquals("second", loaded.next.name);
+            assertNotNull(loaded.next.next.id);
+            assertNull(loaded.next.next.name);
+        } finally {
+            fetchPlanner().setMaxFetchDepth(Neo4jEntityFetchPlanner.UNLIMITED_DEPTH);
+        }
+    }
+
+    @Test
+    public void testLoadsCyclicFetchesOnce() throws Exception {
+        final Link first = template.save(new Link("first", template.save(new Link("second", null))));
+        final Link second = first.next;
+        second.next = first;
+        template.save(second);
+        final Link loaded = template.findOne(first.id, Link.class);
+        assertEquals("second", loaded.next.name);
+        assertSame(loaded, loaded.next.next);
+    }
+
+    @Test
+    public void testBulkLoadsLevelsWithTheirRelationships() throws Exception {
+        final Link root = new Link("root", null);
+        root.branches.add(template.save(new Link("left", template.save(new Link("leftNext", null)))));
+        root.branches.add(template.save(new Link("right", null)));
+        template.save(root);
+        fetchPlanner().setBulkLoadStates(true);
+        try {
+            final Link loaded = template.findOne(root.id, Link.class);
+            assertEquals(2, loaded.branches.size());
+            for (Link branch : loaded.branches) {
+                if (branch.name.equals("left")) {
+                    assertEquals("leftNext", branch.next.name);
+                } else {
+                    assertEquals("right", branch.name);
+                    assertNull(branch.next);
+                }
+            }
+        } finally {
+            fetchPlanner().setBulkLoadStates(false);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.annotation.Fetch;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.support.mapping.Neo4jEntityStatePrefetcher;
+import org.springframework.data.neo4j.support.mapping.PrefetchedStates;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class Neo4jEntityStatePrefetcherTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Member {
+        @GraphId
+        Long id;
+        String name;
+        @Fetch @RelatedTo(type = "FRIEND")
+        Set<Member> friends = new HashSet<Member>();
+        @RelatedTo(type = "MENTOR")
+        Member mentor;
+        @RelatedTo(type = "FAN", direction = Direction.INCOMING, lazy = true)
+        Set<Member> fans = new HashSet<Member>();
+
+        public Member() {
+        }
+
+        public Member(String name) {
+            this.name = name;
+        }
+    }
+
+    private Neo4jEntityStatePrefetcher statePrefetcher() {
+        return template.getInfrastructure().getEntityPersister().getStatePrefetcher();
+    }
+
+    @Before
+    public void enablePrefetching() {
+        statePrefetcher().setEnabled(true);
+    }
+
+    @After
+    public void disablePrefetching() {
+        statePrefetcher().setEnabled(false);
+    }
+
+    private Member saveMember() {
+        final Member member = new Member("Michael");
+        member.friends.add(template.save(new Member("Emil")));
+        member.friends.add(template.save(new Member("Andres")));
+        member.mentor = template.save(new Member("Peter"));
+        return template.save(member);
+    }
+
+    @Test
+    public void testLoadsEntityFromPrefetchedStates() throws Exception {
+        final Member member = saveMember();
+        final Member loaded = template.findOne(member.id, Member.class);
+        assertEquals("Michael", loaded.name);
+        assertEquals(2, loaded.friends.size());
+        assertEquals(member.mentor.id, loaded.mentor.id);
+    }
+
+    @Test
+    public void testPrefetchesMappedRelationshipsAndEndNodes() throws Exception {
+        final Member member = saveMember();
+        PrefetchedStates.push();
+        try {
+            final Node node = statePrefetcher().prefetchNode(member.id, mappingContext.getPersistentEntity(Member.class), MappingPolicy.DEFAULT_POLICY, template);
+            assertEquals(2, PrefetchedStates.relationships(node, DynamicRelationshipType.withName("FRIEND"), Direction.OUTGOING).size());
+            assertEquals(1, PrefetchedStates.relationships(node, DynamicRelationshipType.withName("MENTOR"), Direction.OUTGOING).size());
+            assertNull("lazy relationships are not prefetched", PrefetchedStates.relationships(node, DynamicRelationshipType.withName("FAN"), Direction.INCOMING));
+            assertEquals("Peter", PrefetchedStates.node(member.mentor.id).getProperty("name"));
+        } finally {
+            PrefetchedStates.pop();
+        }
+        assertNull(PrefetchedStates.node(member.id));
+    }
+
+    @Test
+    public void testPrefetchesOnlyRelationshipsOfTheFetchGraph() throws Exception {
+        final Member member = saveMember();
+        PrefetchedStates.push();
+        try {
+            final Node node = statePrefetcher().prefetchNode(member.id, mappingContext.getPersistentEntity(Member.class), FetchGraph.of("name", "mentor"), template);
+            assertNull(PrefetchedStates.relationships(node, DynamicRelationshipType.withName("FRIEND"), Direction.OUTGOING));
+            assertEquals(1, PrefetchedStates.relationships(node, DynamicRelationshipType.withName("MENTOR"), Direction.OUTGOING).size());
+        } finally {
+            PrefetchedStates.pop();
+        }
+    }
+
+    @Test
+    public void testLoadsEntityWithoutRelationships() throws Exception {
+        final Member member = template.save(new Member("Lonely"));
+        final Member loaded = template.findOne(member.id, Member.class);
+        assertEquals("Lonely", loaded.name);
+        assertTrue(loaded.friends.isEmpty());
+        assertNull(loaded.mentor);
+    }
+
+    @Test
+    public void testPrefetchesSeveralNodesWithOneStatement() throws Exception {
+        final Member member = saveMember();
+        final Member other = template.save(new Member("Lonely"));
+        PrefetchedStates.push();
+        try {
+            final Map<Long, Node> nodes = statePrefetcher().prefetchNodes(asList(member.id, other.id), mappingContext.getPersistentEntity(Member.class), MappingPolicy.DEFAULT_POLICY, template);
+            assertEquals(2, nodes.size());
+            assertEquals(2, PrefetchedStates.relationships(nodes.get(member.id), DynamicRelationshipType.withName("FRIEND"), Direction.OUTGOING).size());
+            assertEquals(0, PrefetchedStates.relationships(nodes.get(other.id), DynamicRelationshipType.withName("FRIEND"), Direction.OUTGOING).size());
+        } finally {
+            PrefetchedStates.pop();
+        }
+    }
+}
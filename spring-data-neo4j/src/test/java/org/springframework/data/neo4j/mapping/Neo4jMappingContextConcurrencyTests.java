@@ -0,0 +1,109 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.springframework.data.neo4j.model.BestFriend;
+import org.springframework.data.neo4j.model.Friendship;
+import org.springframework.data.neo4j.model.Group;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hammers a fresh mapping context from several threads, so that entity registration and metadata lookups race.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class Neo4jMappingContextConcurrencyTests {
+
+    private static final Class<?>[] NODE_ENTITIES = {Person.class, Group.class};
+    private static final Class<?>[] RELATIONSHIP_ENTITIES = {Friendship.class, BestFriend.class};
+    private static final Class<?>[] OTHER_TYPES = {String.class, Object.class, List.class};
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    public void testConcurrentLookupsAreConsistent() throws Exception {
+        final Map<Class<?>, Integer> expectedPropertyCounts = expectedPropertyCounts();
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        final int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < threads; i++) {
+                final int offset = i;
+                results.add(executor.submit(new Callable<Integer>() {
+                    public Integer call() throws Exception {
+                        start.await();
+                        int lookups = 0;
+                        for (int j = 0; j < ITERATIONS; j++) {
+                            lookups += checkLookups(mappingContext, expectedPropertyCounts, NODE_ENTITIES[(offset + j) % NODE_ENTITIES.length], true);
+                            lookups += checkLookups(mappingContext, expectedPropertyCounts, RELATIONSHIP_ENTITIES[(offset + j) % RELATIONSHIP_ENTITIES.length], false);
+                            final Class<?> other = OTHER_TYPES[(offset + j) % OTHER_TYPES.length];
+                            assertFalse(mappingContext.isNodeEntity(other));
+                            assertFalse(mappingContext.isRelationshipEntity(other));
+                            lookups += 2;
+                        }
+                        return lookups;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(ITERATIONS * 14, (int) result.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Class<?>, Integer> expectedPropertyCounts() {
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        final Map<Class<?>, Integer> counts = new HashMap<Class<?>, Integer>();
+        for (Class<?> type : NODE_ENTITIES) {
+            counts.put(type, mappingContext.getPersistentEntity(type).getMappedProperties().length);
+        }
+        for (Class<?> type : RELATIONSHIP_ENTITIES) {
+            counts.put(type, mappingContext.getPersistentEntity(type).getMappedProperties().length);
+        }
+        return counts;
+    }
+
+    private int checkLookups(Neo4jMappingContext mappingContext, Map<Class<?>, Integer> expectedPropertyCounts, Class<?> type, boolean nodeEntity) {
+        final Neo4jPersistentEntity<?> byName = mappingContext.getPersistentEntity((Object) type.getName());
+        assertNotNull(type.getName(), byName);
+        assertSame(byName, mappingContext.getPersistentEntity(type));
+        assertSame(byName, mappingContext.getPersistentEntity(byName.getEntityType().getAlias()));
+        assertEquals(nodeEntity, mappingContext.isNodeEntity(type));
+        assertEquals(!nodeEntity, mappingContext.isRelationshipEntity(type));
+        assertEquals(expectedPropertyCounts.get(type).intValue(), byName.getMappedProperties().length);
+        return 6;
+    }
+}
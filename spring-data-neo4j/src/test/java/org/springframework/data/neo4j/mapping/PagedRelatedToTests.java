@@ -0,0 +1,185 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.fieldaccess.PagedRelatedCollection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.neo4j.helpers.collection.IteratorUtil.count;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class PagedRelatedToTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Movie {
+        @GraphId
+        Long id;
+        String title;
+        @RelatedTo(type = "RATED", direction = Direction.INCOMING, orderBy = "stars", orderDirection = Sort.Direction.DESC, pageSize = 2)
+        Collection<Rater> raters = new ArrayList<Rater>();
+        @RelatedTo(type = "REVIEWED", direction = Direction.INCOMING, orderBy = "name", orderDirection = Sort.Direction.DESC, pageSize = 2)
+        Collection<Rater> reviewers = new ArrayList<Rater>();
+
+        public Movie() {
+        }
+
+        public Movie(String title) {
+            this.title = title;
+        }
+    }
+
+    @NodeEntity
+    public static class Rater {
+        @GraphId
+        Long id;
+        String name;
+        int stars;
+
+        public Rater() {
+        }
+
+        public Rater(String name, int stars) {
+            this.name = name;
+            this.stars = stars;
+        }
+    }
+
+    @NodeEntity
+    public static class Unordered {
+        @GraphId
+        Long id;
+        @RelatedTo(type = "RATED", orderBy = "stars", pageSize = 2)
+        Set<Rater> raters;
+    }
+
+    @Test
+    public void testReadsOrderedPages() throws Exception {
+        final Movie movie = saveMovieWithRaters("Matrix", 3, 5, 1, 4, 2);
+        final Movie loaded = template.findOne(movie.id, Movie.class);
+        assertTrue(loaded.raters instanceof PagedRelatedCollection);
+        @SuppressWarnings("unchecked") final PagedRelatedCollection<Rater> raters = (PagedRelatedCollection<Rater>) loaded.raters;
+        assertEquals(5, raters.size());
+        assertEquals(asList(5, 4), stars(raters.getPage(0)));
+        assertEquals(asList(3, 2), stars(raters.getPage(1)));
+        assertEquals(asList(1), stars(raters.getPage(2)));
+        assertEquals(asList(5, 4, 3, 2, 1), stars(raters));
+    }
+
+    @Test
+    public void testMissingOrderPropertySortsFirstInDescendingOrder() throws Exception {
+        final Movie movie = new Movie("Matrix");
+        movie.reviewers.add(template.save(new Rater("Andres", 3)));
+        movie.reviewers.add(template.save(new Rater(null, 4)));
+        movie.reviewers.add(template.save(new Rater("Emil", 5)));
+        template.save(movie);
+        @SuppressWarnings("unchecked") final PagedRelatedCollection<Rater> reviewers = (PagedRelatedCollection<Rater>) template.findOne(movie.id, Movie.class).reviewers;
+        assertEquals(asList(4, 5), stars(reviewers.getPage(0)));
+        assertEquals(asList(3), stars(reviewers.getPage(1)));
+    }
+
+    @Test
+    public void testContainsEntitiesWithSeveralRelationshipsOnce() throws Exception {
+        final Movie movie = saveMovieWithRaters("Matrix", 3, 1);
+        final Rater rater = template.findOne(movie.id, Movie.class).raters.iterator().next();
+        template.getNode(rater.id).createRelationshipTo(template.getNode(movie.id), DynamicRelationshipType.withName("RATED"));
+        final Movie loaded = template.findOne(movie.id, Movie.class);
+        assertEquals(2, loaded.raters.size());
+        assertEquals(asList(3, 1), stars(loaded.raters));
+    }
+
+    @Test
+    public void testAddAndRemoveUpdateRelationshipsRightAway() throws Exception {
+        final Movie movie = saveMovieWithRaters("Matrix", 3, 1);
+        final Movie loaded = template.findOne(movie.id, Movie.class);
+        final Rater rater = template.save(new Rater("Emil", 2));
+        assertFalse(loaded.raters.contains(rater));
+        assertTrue(loaded.raters.add(rater));
+        assertFalse(loaded.raters.add(rater));
+        assertTrue(loaded.raters.contains(rater));
+        assertEquals(asList(3, 2, 1), stars(loaded.raters));
+        assertEquals(3, count(template.getNode(movie.id).getRelationships()));
+
+        assertTrue(loaded.raters.remove(rater));
+        assertFalse(loaded.raters.contains(rater));
+        assertEquals(asList(3, 1), stars(loaded.raters));
+        assertEquals(2, count(template.getNode(movie.id).getRelationships()));
+    }
+
+    @Test
+    public void testSavingUnchangedViewKeepsRelationships() throws Exception {
+        final Movie movie = saveMovieWithRaters("Matrix", 3, 1, 2);
+        final Movie loaded = template.findOne(movie.id, Movie.class);
+        loaded.title = "The Matrix";
+        template.save(loaded);
+        assertEquals(asList(3, 2, 1), stars(template.findOne(movie.id, Movie.class).raters));
+    }
+
+    @Test
+    public void testAssigningCollectionReplacesRelationships() throws Exception {
+        final Movie movie = saveMovieWithRaters("Matrix", 3, 1);
+        final Movie loaded = template.findOne(movie.id, Movie.class);
+        loaded.raters = asList(template.save(new Rater("Emil", 2)));
+        template.save(loaded);
+        assertEquals(asList(2), stars(template.findOne(movie.id, Movie.class).raters));
+    }
+
+    @Test
+    public void testClearDeletesAllRelationships() throws Exception {
+        final Movie movie = saveMovieWithRaters("Matrix", 3, 1);
+        final Movie loaded = template.findOne(movie.id, Movie.class);
+        loaded.raters.clear();
+        assertTrue(loaded.raters.isEmpty());
+        assertEquals(0, count(template.getNode(movie.id).getRelationships()));
+    }
+
+    @Test(expected = MappingException.class)
+    public void testPagedSetFieldIsRejected() throws Exception {
+        new Neo4jMappingContext().getPersistentEntity(Unordered.class);
+    }
+
+    private Movie saveMovieWithRaters(String title, int... stars) {
+        final Movie movie = new Movie(title);
+        for (int i = 0; i < stars.length; i++) {
+            movie.raters.add(template.save(new Rater("Rater " + i, stars[i])));
+        }
+        return template.save(movie);
+    }
+
+    private static List<Integer> stars(Collection<Rater> raters) {
+        final List<Integer> result = new ArrayList<Integer>(raters.size());
+        for (Rater rater : raters) {
+            result.add(rater.stars);
+        }
+        return result;
+    }
+}
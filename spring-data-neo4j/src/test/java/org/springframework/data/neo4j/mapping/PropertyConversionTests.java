@@ -0,0 +1,80 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class PropertyConversionTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Member {
+        @GraphId
+        Long id;
+        String name;
+        int age;
+        Set<String> tags;
+        List<String> nicknames;
+    }
+
+    @Test
+    public void testReadsMissingPropertiesAsDefaultValues() throws Exception {
+        final Node node = createNewNode();
+        final Member member = template.load(node, Member.class);
+        assertNull(member.name);
+        assertEquals(0, member.age);
+        assertNull(member.tags);
+    }
+
+    @Test
+    public void testConvertsOnlyValuesOfOtherTypes() throws Exception {
+        final Node node = createNewNode();
+        node.setProperty("name", "Michael");
+        node.setProperty("age", 42L);
+        final Member member = template.load(node, Member.class);
+        assertEquals("Michael", member.name);
+        assertEquals(42, member.age);
+    }
+
+    @Test
+    public void testConvertsCollectionsToArraysAndBack() throws Exception {
+        final Member member = new Member();
+        member.tags = new LinkedHashSet<String>(asList("neo4j", "spring", "neo4j"));
+        member.nicknames = asList("mh", "michael");
+        final Node node = createNewNode();
+        write(member, node);
+        assertTrue(Arrays.equals(new String[]{"neo4j", "spring"}, (String[]) node.getProperty("tags")));
+        assertTrue(Arrays.equals(new String[]{"mh", "michael"}, (String[]) node.getProperty("nicknames")));
+
+        final Member loaded = template.load(node, Member.class);
+        assertEquals(member.tags, loaded.tags);
+        assertEquals(member.nicknames, loaded.nicknames);
+    }
+}
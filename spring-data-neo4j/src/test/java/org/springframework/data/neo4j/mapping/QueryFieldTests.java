@@ -0,0 +1,148 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.fieldaccess.QueryFieldAccessorFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class QueryFieldTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Member {
+        @GraphId
+        Long id;
+        String name;
+        @RelatedTo(type = "FRIEND")
+        Set<Member> friends = new HashSet<Member>();
+        @Query("start member=node({self}) match member-[:FRIEND]->friend return friend.name order by friend.name")
+        Iterable<String> friendNames;
+        @Query(value = "start member=node({self}) match member-[:FRIEND]->friend return count(*)", cacheResults = true)
+        Long friendCount;
+
+        public Member() {
+        }
+
+        public Member(String name, Member... friends) {
+            this.name = name;
+            this.friends.addAll(asList(friends));
+        }
+    }
+
+    @Test
+    public void testInitializeQueryFieldForSeveralEntities() throws Exception {
+        final Member emil = template.save(new Member("Emil"));
+        final Member andres = template.save(new Member("Andrés"));
+        final Member michael = template.save(new Member("Michael", emil, andres));
+        final Member peter = template.save(new Member("Peter", emil));
+        final Member lonely = template.save(new Member("Lonely"));
+        final List<Member> members = asList(template.findOne(michael.id, Member.class), template.findOne(peter.id, Member.class), template.findOne(lonely.id, Member.class));
+        for (Member member : members) {
+            member.friendNames = null;
+        }
+
+        template.initializeQueryField(members, "friendNames");
+
+        assertEquals(asList("Andrés", "Emil"), toList(members.get(0).friendNames));
+        assertEquals(asList("Emil"), toList(members.get(1).friendNames));
+        assertEquals(new ArrayList<String>(), toList(members.get(2).friendNames));
+    }
+
+    @Test
+    public void testInitializeQueryFieldForSeveralInstancesOfTheSameNode() throws Exception {
+        final Member michael = template.save(new Member("Michael", template.save(new Member("Emil"))));
+        final Member peter = template.save(new Member("Peter"));
+        final Member other = new Member("Michael");
+        other.id = michael.id;
+        final List<Member> members = asList(template.findOne(michael.id, Member.class), other, template.findOne(peter.id, Member.class));
+
+        template.initializeQueryField(members, "friendNames");
+
+        assertEquals(asList("Emil"), toList(members.get(0).friendNames));
+        assertEquals(asList("Emil"), toList(members.get(1).friendNames));
+        assertEquals(new ArrayList<String>(), toList(members.get(2).friendNames));
+    }
+
+    @Test
+    public void testQueryFieldAccessorIsCreatedOncePerField() throws Exception {
+        final Neo4jPersistentProperty property = template.getPersistentProperty(Member.class, "friendNames");
+        final QueryFieldAccessorFactory factory = new QueryFieldAccessorFactory(template);
+        assertSame(factory.forField(property), factory.forField(property));
+    }
+
+    @Test
+    public void testInitializeAggregatingQueryFieldForSeveralEntities() throws Exception {
+        final Member emil = template.save(new Member("Emil"));
+        final Member michael = template.save(new Member("Michael", emil, template.save(new Member("Andrés"))));
+        final Member lonely = template.save(new Member("Lonely"));
+        final List<Member> members = asList(template.findOne(michael.id, Member.class), template.findOne(emil.id, Member.class), template.findOne(lonely.id, Member.class));
+        for (Member member : members) {
+            member.friendCount = null;
+        }
+
+        template.initializeQueryField(members, "friendCount");
+
+        assertEquals((Long) 2L, members.get(0).friendCount);
+        assertEquals((Long) 0L, members.get(1).friendCount);
+        assertEquals((Long) 0L, members.get(2).friendCount);
+    }
+
+    @Test
+    public void testCachedQueryFieldIsComputedOncePerTransaction() throws Exception {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(template.getInfrastructure().getTransactionManager());
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        final Long michaelId = transactionTemplate.execute(new TransactionCallback<Long>() {
+            public Long doInTransaction(TransactionStatus status) {
+                final Member michael = template.save(new Member("Michael", template.save(new Member("Emil"))));
+                assertEquals((Long) 1L, template.findOne(michael.id, Member.class).friendCount);
+                final Member andres = template.save(new Member("Andrés"));
+                template.getNode(michael.id).createRelationshipTo(template.getNode(andres.id), DynamicRelationshipType.withName("FRIEND"));
+                assertEquals((Long) 1L, template.findOne(michael.id, Member.class).friendCount);
+                return michael.id;
+            }
+        });
+        assertEquals((Long) 2L, template.findOne(michaelId, Member.class).friendCount);
+    }
+
+    private List<String> toList(Iterable<String> values) {
+        final List<String> result = new ArrayList<String>();
+        for (String value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.mapping.context.MappingContextEvent;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.index.IndexProvider;
+import org.springframework.data.neo4j.support.index.IndexType;
+import org.springframework.data.neo4j.support.mapping.EntityRegistry;
+import org.springframework.data.neo4j.support.mapping.IndexCreationMappingEventListener;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class StartupTests {
+
+    @Test
+    public void testReadsRegisteredEntitiesOfBasePackage() throws Exception {
+        final File dir = createRegistry("org.example.model.Person", "org.example.model.Person$Address", "", "org.other.Car");
+        final ClassLoader classLoader = new URLClassLoader(new URL[]{dir.toURI().toURL()}, null);
+        final Set<String> classNames = EntityRegistry.findEntityClassNames(classLoader, "org.example");
+        assertEquals(asList("org.example.model.Person", "org.example.model.Person$Address"), new ArrayList<String>(classNames));
+        assertNull(EntityRegistry.findEntityClassNames(classLoader, "org.unknown"));
+    }
+
+    @Test
+    public void testCreatesIndexesOnExecutor() throws Exception {
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        final Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(Person.class);
+        final IndexProvider indexProvider = mock(IndexProvider.class);
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        final IndexCreationMappingEventListener listener = new IndexCreationMappingEventListener(indexProvider);
+        listener.setExecutor(new Executor() {
+            public void execute(Runnable command) {
+                tasks.add(command);
+            }
+        });
+
+        listener.onApplicationEvent(new MappingContextEvent<Neo4jPersistentEntity<?>, Neo4jPersistentProperty>(mappingContext, entity));
+        verifyZeroInteractions(indexProvider);
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        verify(indexProvider).getIndex(entity, null, IndexType.SIMPLE);
+        verify(indexProvider, atLeastOnce()).getIndex(any(Neo4jPersistentProperty.class), eq(Person.class));
+    }
+
+    @Test
+    public void testWaitsForBackgroundIndexesOnContextRefresh() throws Exception {
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        final Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(Person.class);
+        final IndexProvider indexProvider = mock(IndexProvider.class);
+        final IndexCreationMappingEventListener listener = new IndexCreationMappingEventListener(indexProvider);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        listener.setExecutor(new Executor() {
+            public void execute(final Runnable command) {
+                executor.execute(new Runnable() {
+                    public void run() {
+                        try {
+                            Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        command.run();
+                    }
+                });
+            }
+        });
+        try {
+            listener.onApplicationEvent(new MappingContextEvent<Neo4jPersistentEntity<?>, Neo4jPersistentProperty>(mappingContext, entity));
+            listener.onApplicationEvent(new ContextRefreshedEvent(mock(ApplicationContext.class)));
+            verify(indexProvider).getIndex(entity, null, IndexType.SIMPLE);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testContextRefreshFailsIfBackgroundIndexCouldNotBeCreated() throws Exception {
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        final Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(Person.class);
+        final IndexProvider indexProvider = mock(IndexProvider.class);
+        final IllegalStateException failure = new IllegalStateException("index config mismatch");
+        doThrow(failure).when(indexProvider).getIndex(entity, null, IndexType.SIMPLE);
+        final IndexCreationMappingEventListener listener = new IndexCreationMappingEventListener(indexProvider);
+        listener.setExecutor(new Executor() {
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+
+        listener.onApplicationEvent(new MappingContextEvent<Neo4jPersistentEntity<?>, Neo4jPersistentProperty>(mappingContext, entity));
+        try {
+            listener.onApplicationEvent(new ContextRefreshedEvent(mock(ApplicationContext.class)));
+            fail("index creation error not rethrown");
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void testCreatesIndexesRightAwayAfterRefreshAndShutsDownExecutor() throws Exception {
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        final Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(Person.class);
+        final IndexProvider indexProvider = mock(IndexProvider.class);
+        final IndexCreationMappingEventListener listener = new IndexCreationMappingEventListener(indexProvider);
+        final ExecutorService executor = mock(ExecutorService.class);
+        listener.setExecutor(executor);
+
+        listener.onApplicationEvent(new ContextRefreshedEvent(mock(ApplicationContext.class)));
+        listener.onApplicationEvent(new MappingContextEvent<Neo4jPersistentEntity<?>, Neo4jPersistentProperty>(mappingContext, entity));
+        verify(indexProvider).getIndex(entity, null, IndexType.SIMPLE);
+        verify(executor, never()).execute(any(Runnable.class));
+
+        listener.destroy();
+        verify(executor).shutdown();
+    }
+
+    private File createRegistry(String... lines) throws Exception {
+        final File dir = File.createTempFile("registry", "");
+        dir.delete();
+        final File registry = new File(dir, EntityRegistry.LOCATION);
+        registry.getParentFile().mkdirs();
+        final FileWriter writer = new FileWriter(registry);
+        for (String line : lines) {
+            writer.write(line + "\n");
+        }
+        writer.close();
+        return dir;
+    }
+}
@@ -248,12 +248,42 @@ public class GraphRepositoryTests {
         assertEquals(2, people.getTotalPages());
     }
 
+    @Test
+    public void testAsyncCypherQueryForPageWithCount() throws Exception {
+        Page<Person> people = personRepository.findSubordinatesWithCountAsync(testTeam.emil, new PageRequest(0, 1)).get(5, TimeUnit.SECONDS);
+        assertEquals(1, people.getContent().size());
+        assertEquals(2, people.getTotalElements());
+        assertEquals(2, people.getTotalPages());
+    }
+
     @Test @Transactional 
     public void testFindPersonWithQueryAnnotationUsingLongAsParameter() {
         Person boss = personRepository.findBoss(testTeam.michael.getId());
         assertThat(boss, is(testTeam.emil));
     }
 
+    @Test @Transactional
+    public void testFinderWithFetchPropertiesLoadsOnlyListedProperties() {
+        Person person = personRepository.findNameOnly(testTeam.michael.getId());
+        assertThat(person.getName(), is("Michael"));
+        assertThat(person.getAge(), is(0));
+        assertThat(person.getPersonality(), is((Personality) null));
+        assertThat(person.getBoss(), is((Person) null));
+    }
+
+    @Test @Transactional
+    public void testSavingEntityOfFetchPropertiesFinderKeepsPropertiesThatWereNotLoaded() {
+        Person person = personRepository.findNameOnly(testTeam.michael.getId());
+        person.setName("Mike");
+        person.setAge(37);
+        personRepository.save(person);
+        Node node = neo4jTemplate.getNode(testTeam.michael.getId());
+        assertThat((String) node.getProperty("name"), is("Mike"));
+        assertThat((Integer) node.getProperty("age"), is(37));
+        assertThat(personRepository.findOne(testTeam.michael.getId()).getPersonality(), is(Personality.EXTROVERT));
+        assertThat(personRepository.findBoss(testTeam.michael), is(testTeam.emil));
+    }
+
     @Test @Transactional 
     public void shouldBeAbleToTurnQueryResultsToAMapResultInterface() throws Exception {
         MemberData first = personRepository.findMemberData(testTeam.michael).iterator().next();
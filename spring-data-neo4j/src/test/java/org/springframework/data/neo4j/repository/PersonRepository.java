@@ -19,6 +19,7 @@ package org.springframework.data.neo4j.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.annotation.FetchProperties;
 import org.springframework.data.neo4j.annotation.MapResult;
 import org.springframework.data.neo4j.annotation.Query;
 import org.springframework.data.neo4j.annotation.QueryType;
@@ -29,6 +30,7 @@ import org.springframework.data.neo4j.model.Person;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * Sample repository interface to manage {@link Person}s.
@@ -69,6 +71,13 @@ public interface PersonRepository extends GraphRepository<Person>, NamedIndexRep
     @Query(value = "start boss=node({0}) match (boss)-[:boss]->(person) with person, count(*) as cnt order by cnt return person",countQuery = "start boss=node({0}) match (boss)-[:boss]->(person) with person return count(*)")
     Page<Person> findSubordinatesWithCount(Person boss,Pageable page);
 
+    @Query(value = "start boss=node({0}) match (boss)-[:boss]->(person) with person, count(*) as cnt order by cnt return person",countQuery = "start boss=node({0}) match (boss)-[:boss]->(person) with person return count(*)")
+    Future<Page<Person>> findSubordinatesWithCountAsync(Person boss,Pageable page);
+
+    @FetchProperties("name")
+    @Query("start person=node({0}) return person")
+    Person findNameOnly(Long id);
+
     Group findTeam(@Param("p_person") Person person);
 
     @Query("start team=node({p_team}) match (team)-[:persons]->(member) return member")
@@ -0,0 +1,84 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.repository.query.parser.Part;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for count query derivation and {@link TtlCountCache}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class CountQueryUnitTests {
+
+    @Test
+    public void derivesCountFromSimpleReturn() {
+        assertThat(CypherGraphRepositoryQuery.deriveCountQuery("start team=node({p_team}) match (team)-[:persons]->(member) return member"),
+                is("start team=node({p_team}) match (team)-[:persons]->(member) RETURN count(member)"));
+    }
+
+    @Test
+    public void derivesCountKeepingDistinctAndDroppingOrder() {
+        assertThat(CypherGraphRepositoryQuery.deriveCountQuery("START n=node(*) MATCH n--m RETURN DISTINCT m ORDER BY m.name"),
+                is("START n=node(*) MATCH n--m RETURN count(distinct m)"));
+    }
+
+    @Test
+    public void doesNotDeriveCountFromComplexQueries() {
+        assertThat(CypherGraphRepositoryQuery.deriveCountQuery("start n=node(*) return n.name"), is(nullValue()));
+        assertThat(CypherGraphRepositoryQuery.deriveCountQuery("start n=node(*) return n, m"), is(nullValue()));
+        assertThat(CypherGraphRepositoryQuery.deriveCountQuery("start n=node(*) return n limit 10"), is(nullValue()));
+        assertThat(CypherGraphRepositoryQuery.deriveCountQuery("start n=node(1) return n union start n=node(2) return n"), is(nullValue()));
+    }
+
+    @Test
+    public void derivesCountForDerivedFinder() {
+        final CypherQueryBuilder query = new CypherQueryBuilder(new Neo4jMappingContext(), Person.class, Mockito.mock(Neo4jTemplate.class));
+        query.addRestriction(new Part("name", Person.class));
+        assertThat(query.buildQuery().toCountQueryString(), is("START `person`=node:`Person`(`name`={0}) RETURN count(`person`)"));
+    }
+
+    @Test
+    public void cachesCountsPerQueryAndParameters() {
+        final TtlCountCache cache = new TtlCountCache(60000);
+        final Map<String, Object> params = Collections.<String, Object>singletonMap("0", "Michael");
+        cache.put("count", params, 42);
+        assertThat(cache.get("count", Collections.<String, Object>singletonMap("0", "Michael")), is(42L));
+        assertThat(cache.get("count", Collections.<String, Object>singletonMap("0", "Emil")), is(nullValue()));
+        assertThat(cache.get("other", params), is(nullValue()));
+    }
+
+    @Test
+    public void expiresCounts() throws Exception {
+        final TtlCountCache cache = new TtlCountCache(0);
+        final Map<String, Object> params = Collections.emptyMap();
+        cache.put("count", params, 42);
+        Thread.sleep(5);
+        assertThat(cache.get("count", params), is(nullValue()));
+    }
+}
@@ -27,6 +27,7 @@ import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.query.parser.Part;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -164,6 +165,24 @@ public class CypherQueryBuilderUnitTests {
         assertThat(query.buildQuery().toQueryString(pageable), is("START `person`=node:`Person`(`name`={0}) RETURN `person` ORDER BY person.name ASC SKIP 30 LIMIT 10"));
     }
 
+    @Test
+    public void reusesCompiledStatements() {
+        query.addRestriction(new Part("name",Person.class));
+        final CypherQueryDefinition definition = query.buildQuery();
+        assertSame(definition.toQueryString(), definition.toQueryString());
+        assertSame(definition.toQueryString(new Sort("person.name")), definition.toQueryString(new Sort("person.name")));
+        assertThat(definition.toQueryString(new PageRequest(1, 5, new Sort("person.name"))), is("START `person`=node:`Person`(`name`={0}) RETURN `person` ORDER BY person.name ASC SKIP 5 LIMIT 5"));
+    }
+
+    @Test
+    public void recompilesAfterAddingRestriction() {
+        query.addRestriction(new Part("name",Person.class));
+        final CypherQueryDefinition definition = query.buildQuery();
+        assertThat(definition.toQueryString(), is("START `person`=node:`Person`(`name`={0}) RETURN `person`"));
+        query.addRestriction(new Part("infoContaining",Person.class));
+        assertThat(definition.toQueryString(), is("START `person`=node:`Person`(`name`={0}) WHERE `person`.`info`! =~ {1} RETURN `person`"));
+    }
+
     @Test
     public void shouldFindByNodeEntity() throws Exception {
         query.addRestriction(new Part("pet", Person.class));
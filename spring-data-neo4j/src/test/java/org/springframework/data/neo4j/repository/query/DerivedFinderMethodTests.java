@@ -146,8 +146,8 @@ public class DerivedFinderMethodTests {
     @Test
     public void testIndexQueryWithOneParamAndOneParamFullText() throws Exception {
         assertRepositoryQueryMethod(ThingRepository.class, "findByFirstNameAndDescription", new Object[]{"foo","bar"},
-                "START `thing`=node:`Thing`(`firstName`={0}) WHERE `thing`.`description`! = {1}",
-                "foo","bar");
+                "START `thing`=node:`search`({1}) WHERE `thing`.`firstName`! = {0}",
+                "foo","description:bar");
     }
 
     @Test
@@ -342,4 +342,17 @@ public class DerivedFinderMethodTests {
         Thing thing = repository.save(new Thing("John", "Doe"));
         assertEquals(thing.id, repository.findByFirstNameAndLastName("John", "Doe").id);
     }
+
+    @Test
+    @Transactional
+    public void testFulltextAndExactIndexedFields() throws Exception {
+        Thing thing = new Thing("John", "Doe");
+        thing.description = "a small red box";
+        thing = repository.save(thing);
+        final Thing other = new Thing("John", "Smith");
+        other.description = "a large blue box";
+        repository.save(other);
+        assertEquals(thing.id, repository.findByFirstNameAndDescription("John", "red").id);
+        assertEquals(thing.id, repository.findByDescriptionAndFirstName("red", "John").id);
+    }
 }
@@ -0,0 +1,166 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.Indexed;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.conversion.QueryResultBuilder;
+import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.Infrastructure;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.index.IndexType;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.support.typerepresentation.IndexingNodeTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.typerepresentation.NoopNodeTypeRepresentationStrategy;
+import org.springframework.data.repository.query.parser.Part;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link StartClausePlanner}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class StartClausePlannerUnitTests {
+
+    @NodeEntity
+    static class Customer {
+        @GraphId Long id;
+
+        @Indexed(indexName = "country")
+        String country;
+
+        @Indexed(unique = true)
+        String email;
+
+        @Indexed(indexName = "city")
+        String city;
+
+        @Indexed(indexType = IndexType.FULLTEXT, indexName = "bio")
+        String bio;
+    }
+
+    private Neo4jMappingContext context;
+    private Neo4jTemplate template;
+
+    @Before
+    public void setUp() {
+        context = new Neo4jMappingContext();
+        template = Mockito.mock(Neo4jTemplate.class);
+    }
+
+    private CypherQueryBuilder query(StartClausePlanner planner, String... parts) {
+        final CypherQueryBuilder query = new CypherQueryBuilder(context, Customer.class, template, planner);
+        for (String part : parts) {
+            query.addRestriction(new Part(part, Customer.class));
+        }
+        return query;
+    }
+
+    @Test
+    public void startsFromUniqueIndex() {
+        final CypherQueryBuilder query = query(new StartClausePlanner(), "country", "email");
+
+        assertThat(query.toString(), is("START `customer`=node:`Customer`(`email`={1}) WHERE `customer`.`country`! = {0} RETURN `customer`"));
+        final StartClausePlanner.Plan plan = query.buildQuery().getStartPlan();
+        assertThat(plan.getStartParts().iterator().next().getIndexKey(), is("email"));
+        assertThat(plan.getAccess(plan.getStartParts().iterator().next()), is(StartClausePlanner.Access.UNIQUE_LOOKUP));
+        assertThat(plan.getFilteredParts().get(0).getIndexKey(), is("country"));
+    }
+
+    @Test
+    public void keepsFulltextQueryAsStart() {
+        assertThat(query(new StartClausePlanner(), "bioLike", "country").toString(), is("START `customer`=node:`bio`({0}) WHERE `customer`.`country`! = {1} RETURN `customer`"));
+        assertThat(query(new StartClausePlanner(), "email", "bio").toString(), is("START `customer`=node:`bio`({1}) WHERE `customer`.`email`! = {0} RETURN `customer`"));
+    }
+
+    @Test
+    public void keepsWildcardQueryAsStart() {
+        final StartClausePlanner planner = new StartClausePlanner(new StartClausePlanner.Statistics() {
+            public Double getSelectivity(PartInfo partInfo) {
+                return partInfo.getIndexKey().equals("city") ? 0.2 : 0.001;
+            }
+        });
+
+        assertThat(query(planner, "email", "cityStartingWith").toString(), is("START `customer`=node:`city`({1}) WHERE `customer`.`email`! = {0} RETURN `customer`"));
+    }
+
+    @Test
+    public void usesStatisticsToChooseBetweenExactLookups() {
+        final StartClausePlanner planner = new StartClausePlanner(new StartClausePlanner.Statistics() {
+            public Double getSelectivity(PartInfo partInfo) {
+                return partInfo.getIndexKey().equals("city") ? 0.2 : 0.001;
+            }
+        });
+
+        assertThat(query(planner, "country", "city").toString(), is("START `customer`=node:`city`(`city`={1}) WHERE `customer`.`country`! = {0} RETURN `customer`"));
+        assertThat(query(new StartClausePlanner(), "country", "city").toString(), is("START `customer`=node:`country`(`country`={0}) WHERE `customer`.`city`! = {1} RETURN `customer`"));
+    }
+
+    @Test
+    public void filtersRangeRestrictionsOnIndexedProperties() {
+        final CypherQueryBuilder query = query(new StartClausePlanner(), "cityGreaterThan");
+
+        assertThat(query.toString(), is("START `customer`=node:__types__(className=\"Customer\") WHERE `customer`.`city`! > {0} RETURN `customer`"));
+    }
+
+    @Test
+    public void samplesSelectivityThroughTheTypeIndex() {
+        final List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+        for (int i = 0; i < 20; i++) {
+            rows.add(Collections.<String, Object>singletonMap("value", i));
+        }
+        withNodeTypeRepresentationStrategy(Mockito.mock(IndexingNodeTypeRepresentationStrategy.class));
+        when(template.query(anyString(), Matchers.<Map<String, Object>>any())).thenReturn(new QueryResultBuilder<Map<String, Object>>(rows));
+
+        query(new StartClausePlanner(new SampledIndexStatistics(template)), "country", "city").toString();
+        verify(template).query(eq("START `n`=node:`__types__`(className=\"Customer\") RETURN `n`.`city`? AS value LIMIT 1000"), Matchers.<Map<String, Object>>any());
+    }
+
+    @Test
+    public void doesNotSampleWithoutTypeIndex() {
+        withNodeTypeRepresentationStrategy(Mockito.mock(NoopNodeTypeRepresentationStrategy.class));
+
+        assertThat(query(new StartClausePlanner(new SampledIndexStatistics(template)), "country", "city").toString(),
+                is("START `customer`=node:`country`(`country`={0}) WHERE `customer`.`city`! = {1} RETURN `customer`"));
+        verify(template, never()).query(anyString(), Matchers.<Map<String, Object>>any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void withNodeTypeRepresentationStrategy(TypeRepresentationStrategy<?> strategy) {
+        final Infrastructure infrastructure = Mockito.mock(Infrastructure.class);
+        when(infrastructure.getNodeTypeRepresentationStrategy()).thenReturn((TypeRepresentationStrategy<Node>) strategy);
+        when(template.getInfrastructure()).thenReturn(infrastructure);
+    }
+}
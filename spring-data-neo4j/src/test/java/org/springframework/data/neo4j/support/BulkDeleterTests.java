@@ -0,0 +1,129 @@
+/**
+ * Copyright 2011 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.neo4j.tooling.GlobalGraphOperations;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.support.node.Neo4jHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.neo4j.helpers.collection.IteratorUtil.count;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class BulkDeleterTests {
+
+    @NodeEntity
+    public static class Item {
+        @GraphId
+        Long id;
+        String name;
+        @RelatedTo(type = "NEXT")
+        Item next;
+
+        public Item() {
+        }
+
+        public Item(String name, Item next) {
+            this.name = name;
+            this.next = next;
+        }
+    }
+
+    private GraphDatabaseService gdb;
+    private Neo4jTemplate template;
+    private final List<Long> progress = new ArrayList<Long>();
+    private final BulkDeleter.ProgressListener progressListener = new BulkDeleter.ProgressListener() {
+        @Override
+        public void batchCommitted(long deleted) {
+            progress.add(deleted);
+        }
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        gdb = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        template = new Neo4jTemplate(gdb);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        gdb.shutdown();
+    }
+
+    @Test
+    public void testDeletesAllInstancesInBatches() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            template.save(new Item("item" + i, null));
+        }
+        final BulkDeleter deleter = new BulkDeleter(template);
+        deleter.setBatchSize(10);
+        deleter.setProgressListener(progressListener);
+        assertEquals(25, deleter.deleteAll(Item.class));
+        assertEquals(asList(10L, 20L, 25L), progress);
+        assertEquals(0, template.count(Item.class));
+    }
+
+    @Test
+    public void testDeletesNodesWithTheirRelationships() throws Exception {
+        template.save(new Item("first", template.save(new Item("second", template.save(new Item("third", null))))));
+        assertEquals(3, template.deleteAll(Item.class));
+        assertEquals(0, template.count(Item.class));
+        assertEquals(0, count(GlobalGraphOperations.at(gdb).getAllRelationships()));
+    }
+
+    @Test
+    public void testDeletesResultOfQuery() throws Exception {
+        final Item kept = template.save(new Item("kept", null));
+        template.save(new Item("deleted", null));
+        final long deleted = new BulkDeleter(template).deleteAll("start n=node(*) where has(n.name) and n.name = {name} return n", Collections.<String, Object>singletonMap("name", "deleted"));
+        assertEquals(1, deleted);
+        assertEquals(kept.id, template.findAll(Item.class).single().id);
+    }
+
+    @Test
+    public void testCleanDbInBatches() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            template.save(new Item("item" + i, null));
+        }
+        assertEquals(5, Neo4jHelper.cleanDb(gdb, false, 2, progressListener));
+        assertEquals(asList(2L, 4L, 5L), progress);
+        assertEquals(1, count(GlobalGraphOperations.at(gdb).getAllNodes()));
+    }
+
+    @Test
+    public void testCleanDbDeletesRelationshipsAndNodesInOneScanEach() throws Exception {
+        template.save(new Item("first", template.save(new Item("second", template.save(new Item("third", null))))));
+        assertEquals(5, Neo4jHelper.cleanDb(gdb, false, 3, progressListener));
+        assertEquals(asList(2L, 5L), progress);
+        assertEquals(1, count(GlobalGraphOperations.at(gdb).getAllNodes()));
+        assertEquals(0, count(GlobalGraphOperations.at(gdb).getAllRelationships()));
+    }
+}
@@ -24,6 +24,10 @@ import org.neo4j.graphdb.RelationshipType;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.neo4j.helpers.collection.MapUtil.map;
@@ -94,4 +98,38 @@ public class Neo4jTemplateTests extends NeoApiTests {
             }
         });
     }
+
+    @Test
+    public void testExecAsyncRunsInOwnTransaction() throws Exception {
+        final Neo4jOperations template = new Neo4jTemplate(graph, transactionManager);
+        final Future<Long> created = template.execAsync(new GraphCallback<Long>() {
+            public Long doWithGraph(GraphDatabase graph) throws Exception {
+                return graph.createNode(map("name", "Async")).getId();
+            }
+        });
+        final long id = created.get();
+        template.exec(new GraphCallback.WithoutResult() {
+            public void doWithGraphWithoutResult(GraphDatabase graph) throws Exception {
+                assertEquals("Async", graph.getNodeById(id).getProperty("name"));
+            }
+        });
+    }
+
+    @Test
+    public void testExecConcurrentlyReturnsResultsInOrder() {
+        final Neo4jOperations template = new Neo4jTemplate(graph, transactionManager);
+        final List<GraphCallback<Integer>> callbacks = new ArrayList<GraphCallback<Integer>>();
+        for (int i = 0; i < 20; i++) {
+            final int value = i;
+            callbacks.add(new GraphCallback<Integer>() {
+                public Integer doWithGraph(GraphDatabase graph) throws Exception {
+                    return value;
+                }
+            });
+        }
+        final List<Integer> results = template.execConcurrently(callbacks);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, results.get(i).intValue());
+        }
+    }
 }